@@ -0,0 +1,141 @@
+package com.hexaware.careercrafter.benchmark;
+
+import com.hexaware.careercrafter.entities.Certificate;
+import com.hexaware.careercrafter.entities.Education;
+import com.hexaware.careercrafter.entities.Employer;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.JobSeeker;
+import com.hexaware.careercrafter.entities.Project;
+import com.hexaware.careercrafter.entities.SocialLink;
+import com.hexaware.careercrafter.entities.User;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Deterministic entity graphs shaped like production profiles and listings, shared by the benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String[] SKILLS = {"Java", "Spring Boot", "SQL", "React", "Python", "AWS", "Docker", "Kubernetes"};
+    public static final String[] LOCATIONS = {"Bangalore", "Chennai", "Hyderabad", "Pune", "Delhi"};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<JobSeeker> seekers(int count) {
+        List<JobSeeker> seekers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            seekers.add(seeker(i));
+        }
+        return seekers;
+    }
+
+    public static List<JobListing> listings(int count) {
+        Employer employer = new Employer();
+        employer.setEmployerId(1);
+        employer.setCompanyName("Benchmark Corp");
+        List<JobListing> listings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobListing listing = new JobListing();
+            listing.setJobListingId(i + 1);
+            listing.setEmployer(employer);
+            listing.setCompanyName("Benchmark Corp");
+            listing.setTitle("Software Engineer " + i);
+            listing.setDescription("Build and operate services for the hiring platform, listing " + i);
+            listing.setQualification("B.Tech / M.Tech in Computer Science");
+            listing.setLocation(LOCATIONS[i % LOCATIONS.length]);
+            listing.setExperience(i % 10);
+            listing.setSalary(600_000 + i * 1_000);
+            listing.setJobType(JobListing.JobType.values()[i % JobListing.JobType.values().length]);
+            listing.setPostedDate(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            listing.setRequiredSkills(skills(i, 3));
+            listings.add(listing);
+        }
+        return listings;
+    }
+
+    /*
+     * Comma-separated skill list in the format seekers type into their profile.
+     */
+    public static String skills(int seed, int count) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                skills.append(", ");
+            }
+            skills.append(SKILLS[(seed + i) % SKILLS.length]);
+        }
+        return skills.toString();
+    }
+
+    private static JobSeeker seeker(int i) {
+        User user = new User();
+        user.setUserId(i + 1);
+        user.setEmail("seeker" + i + "@example.com");
+        user.setUserType(User.UserType.JOBSEEKER);
+
+        JobSeeker seeker = new JobSeeker();
+        seeker.setJobSeekerId(i + 1);
+        seeker.setUser(user);
+        seeker.setFullName("Job Seeker " + i);
+        seeker.setEmail(user.getEmail());
+        seeker.setPhone("9876543210");
+        seeker.setGender(i % 2 == 0 ? "Female" : "Male");
+        seeker.setDateOfBirth(LocalDate.of(1995, 1, 1).plusDays(i % 3650));
+        seeker.setAddress(LOCATIONS[i % LOCATIONS.length]);
+        seeker.setSkills(skills(i, 4));
+        seeker.setExperience(i % 12);
+        seeker.setAboutMe("Engineer with experience across backend services and data pipelines.");
+
+        Set<Education> educations = new LinkedHashSet<>();
+        Set<Certificate> certificates = new LinkedHashSet<>();
+        Set<Project> projects = new LinkedHashSet<>();
+        Set<SocialLink> links = new LinkedHashSet<>();
+        for (int c = 0; c < 2; c++) {
+            Education education = new Education();
+            education.setId(i * 10 + c);
+            education.setJobSeeker(seeker);
+            education.setLevel(c == 0 ? "Graduation" : "Post Graduation");
+            education.setInstitutionName("Institute " + c);
+            education.setStream("Computer Science");
+            education.setStartYear(2012 + c * 4);
+            education.setEndYear(2016 + c * 4);
+            education.setLocation(LOCATIONS[c]);
+            educations.add(education);
+
+            Certificate certificate = new Certificate();
+            certificate.setId(i * 10 + c);
+            certificate.setJobSeeker(seeker);
+            certificate.setCertificateName("Certificate " + c);
+            certificate.setOrganization("Cloud Academy");
+            certificate.setStartDate(YearMonth.of(2020, 1 + c));
+            certificate.setEndDate(YearMonth.of(2022, 1 + c));
+            certificates.add(certificate);
+
+            Project project = new Project();
+            project.setId(i * 10 + c);
+            project.setJobSeeker(seeker);
+            project.setProjectName("Project " + c);
+            project.setDescription("Service handling order processing at scale");
+            project.setLink("https://github.com/example/project-" + c);
+            projects.add(project);
+
+            SocialLink link = new SocialLink();
+            link.setId(i * 10 + c);
+            link.setJobSeeker(seeker);
+            link.setPlatform(c == 0 ? "LinkedIn" : "GitHub");
+            link.setUrl("https://example.com/profile/" + i + "/" + c);
+            links.add(link);
+        }
+        seeker.setEducationDetails(educations);
+        seeker.setCertificates(certificates);
+        seeker.setProjects(projects);
+        seeker.setSocialLinks(links);
+        return seeker;
+    }
+}
@@ -0,0 +1,77 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.benchmark.BenchmarkFixtures;
+import com.hexaware.careercrafter.dto.JobListingDTO;
+import com.hexaware.careercrafter.dto.JobSeekerDTO;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.JobSeeker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Entity-to-DTO mapping for list endpoints: full seeker profiles with their child collections,
+ * and job listings through both the listing service and the recommendation mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMapperBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private final JobSeekerServiceImpl jobSeekerService = new JobSeekerServiceImpl();
+    private final JobListingServiceImpl jobListingService = new JobListingServiceImpl();
+    private List<JobSeeker> seekers;
+    private List<JobListing> listings;
+
+    @Setup
+    public void setUp() {
+        seekers = BenchmarkFixtures.seekers(size);
+        listings = BenchmarkFixtures.listings(size);
+    }
+
+    @Benchmark
+    public List<JobSeekerDTO> jobSeekerToDto() {
+        List<JobSeekerDTO> dtos = new ArrayList<>(seekers.size());
+        for (JobSeeker seeker : seekers) {
+            dtos.add(jobSeekerService.convertToDTO(seeker));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<JobListingDTO> jobListingToDto() {
+        List<JobListingDTO> dtos = new ArrayList<>(listings.size());
+        for (JobListing listing : listings) {
+            dtos.add(jobListingService.mapToDTO(listing, 0));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<JobListingDTO> recommendedListingToDto() {
+        List<JobListingDTO> dtos = new ArrayList<>(listings.size());
+        for (JobListing listing : listings) {
+            dtos.add(jobSeekerService.mapToDTO(listing));
+        }
+        return dtos;
+    }
+}
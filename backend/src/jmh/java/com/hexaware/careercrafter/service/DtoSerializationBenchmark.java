@@ -0,0 +1,69 @@
+package com.hexaware.careercrafter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hexaware.careercrafter.benchmark.BenchmarkFixtures;
+import com.hexaware.careercrafter.dto.JobListingDTO;
+import com.hexaware.careercrafter.dto.JobSeekerDTO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+ * Response-body serialization of seeker and listing lists with an ObjectMapper configured like Spring MVC's.
+ * Writes to bytes, as the message converter does, through a pre-resolved list writer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectWriter seekerWriter;
+    private ObjectWriter listingWriter;
+    private List<JobSeekerDTO> seekers;
+    private List<JobListingDTO> listings;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        seekerWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, JobSeekerDTO.class));
+        listingWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, JobListingDTO.class));
+
+        JobSeekerServiceImpl jobSeekerService = new JobSeekerServiceImpl();
+        JobListingServiceImpl jobListingService = new JobListingServiceImpl();
+        seekers = BenchmarkFixtures.seekers(size).stream().map(jobSeekerService::convertToDTO).collect(Collectors.toList());
+        listings = BenchmarkFixtures.listings(size).stream().map(listing -> jobListingService.mapToDTO(listing, 0))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeJobSeekers() throws JsonProcessingException {
+        return seekerWriter.writeValueAsBytes(seekers);
+    }
+
+    @Benchmark
+    public byte[] serializeJobListings() throws JsonProcessingException {
+        return listingWriter.writeValueAsBytes(listings);
+    }
+}
@@ -0,0 +1,57 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.benchmark.BenchmarkFixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ * Per-seeker skill handling when recommendations are materialized: building the REGEXP alternation used by the legacy
+ * strategy (and compiling it, as the database does per row match) versus tokenizing for the skill index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkillMatchBenchmark {
+
+    @Param({"3", "8"})
+    private int skillCount;
+
+    private String skills;
+
+    @Setup
+    public void setUp() {
+        skills = BenchmarkFixtures.skills(0, skillCount);
+    }
+
+    @Benchmark
+    public String buildSkillsRegex() {
+        return RecommendationMaterializer.buildSkillsRegex(skills);
+    }
+
+    @Benchmark
+    public Pattern buildAndCompileSkillsRegex() {
+        return Pattern.compile(RecommendationMaterializer.buildSkillsRegex(skills));
+    }
+
+    @Benchmark
+    public Set<String> tokenizeSkills() {
+        return SkillTokenizer.tokenize(skills);
+    }
+}
@@ -0,0 +1,132 @@
+package com.hexaware.careercrafter.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+ * Executors and scheduling for work that must not run on request threads.
+ * The email pool sends outbox batches; the dispatcher never has more batches in flight than the pool has threads.
+ * The stream pool writes queued Server-Sent Events; idle streams hold no thread.
+ *
+ * With spring.threads.virtual.enabled=true on Java 21+, Spring Boot runs Tomcat requests and scheduled jobs on
+ * virtual threads, and the blocking email and stream executors here switch to virtual threads too,
+ * keeping their pool sizes as concurrency limits where those protect a downstream resource.
+ * The recommendation pool is a single thread, so materialized recommendations are refreshed in submission order.
+ * The fan-out and recommendation pools stay on platform threads: they are deliberately small and their limits
+ * must not block callers.
+ * Every executor copies the caller's MDC, so async work logs under the request's correlation id.
+ */
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+
+    @Value("${app.notifications.fanout.pool-size:2}")
+    private int fanoutPoolSize;
+
+    @Value("${app.notifications.email.pool-size:4}")
+    private int emailPoolSize;
+
+    @Value("${app.notifications.email.queue-capacity:1000}")
+    private int emailQueueCapacity;
+
+    @Value("${app.notifications.stream.pool-size:4}")
+    private int streamPoolSize;
+
+    @Value("${app.notifications.stream.max-connections:10000}")
+    private int streamMaxConnections;
+
+    @Bean(name = "notificationFanoutExecutor")
+    public ThreadPoolTaskExecutor notificationFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fanoutPoolSize);
+        executor.setMaxPoolSize(fanoutPoolSize);
+        executor.setThreadNamePrefix("fanout-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "recommendationExecutor")
+    public ThreadPoolTaskExecutor recommendationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("recommend-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "emailExecutor")
+    public AsyncTaskExecutor emailExecutor() {
+        if (virtualThreads()) {
+            return virtualExecutor("email-", emailPoolSize);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(emailPoolSize);
+        executor.setMaxPoolSize(emailPoolSize);
+        executor.setQueueCapacity(emailQueueCapacity);
+        executor.setThreadNamePrefix("email-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "notificationStreamExecutor")
+    public AsyncTaskExecutor notificationStreamExecutor() {
+        if (virtualThreads()) {
+            // drains are at most one per connection and are submitted under the event bus lock, so never throttle
+            return virtualExecutor("sse-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamPoolSize);
+        executor.setMaxPoolSize(streamPoolSize);
+        executor.setQueueCapacity(streamMaxConnections);
+        executor.setThreadNamePrefix("sse-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    private boolean virtualThreads() {
+        if (virtualThreadsRequested && Runtime.version().feature() < 21) {
+            logger.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; using platform threads",
+                    Runtime.version().feature());
+            return false;
+        }
+        return virtualThreadsRequested;
+    }
+
+    private SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(30_000);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.hexaware.careercrafter.config;
+
+import org.slf4j.MDC;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/*
+ * Carries the submitting thread's MDC (correlation id, debug sampling) into @Async and executor tasks.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        if (context == null) {
+            return runnable;
+        }
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(context);
+            try {
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.hexaware.careercrafter.config;
+
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+import com.hexaware.careercrafter.repository.EmailOutboxRepository;
+import com.hexaware.careercrafter.service.DeliveryChannel;
+import com.hexaware.careercrafter.service.NotificationDeliveryMetrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/*
+ * Application meters on top of the ones Spring Boot binds itself (HTTP requests, JVM, HikariCP and Hibernate):
+ * email outbox depth by status, and notification events and deliveries per channel.
+ */
+
+@Component
+public class MetricsBinder implements MeterBinder {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private NotificationDeliveryMetrics notificationDeliveryMetrics;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EmailStatus status : EmailStatus.values()) {
+            Gauge.builder("email.outbox.messages", emailOutboxRepository, repository -> repository.countByStatus(status))
+                    .description("Email outbox rows by delivery status")
+                    .tag("status", status.name().toLowerCase())
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("notification.events", notificationDeliveryMetrics, NotificationDeliveryMetrics::getEvents)
+                .description("Notification events received for delivery")
+                .register(registry);
+        for (DeliveryChannel channel : DeliveryChannel.values()) {
+            FunctionCounter.builder("notification.deliveries", notificationDeliveryMetrics, metrics -> metrics.getDeliveries(channel))
+                    .description("Notification deliveries per channel")
+                    .tag("channel", channel.name().toLowerCase())
+                    .register(registry);
+        }
+        FunctionCounter.builder("notification.digest.emails", notificationDeliveryMetrics, NotificationDeliveryMetrics::getDigestEmails)
+                .description("Digest emails sent")
+                .register(registry);
+    }
+}
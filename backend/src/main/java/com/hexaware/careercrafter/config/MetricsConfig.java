@@ -0,0 +1,21 @@
+package com.hexaware.careercrafter.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Enables @Timed on the service implementations, which records service.method timers tagged by class,
+ * method and exception. Everything else is exported by Actuator at /actuator/prometheus.
+ */
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hexaware.careercrafter.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/*
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered through hibernate.session_factory.statement_inspector; RequestMetricsFilter reads the difference
+ * across a request, so the counter never needs resetting.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> STATEMENTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get()[0]++;
+        return sql;
+    }
+
+    public static int current() {
+        return STATEMENTS.get()[0];
+    }
+}
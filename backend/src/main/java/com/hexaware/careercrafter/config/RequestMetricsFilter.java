@@ -0,0 +1,74 @@
+package com.hexaware.careercrafter.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/*
+ * Records the Hibernate statements each request issued, by method and route pattern; request latency itself is
+ * the http.server.requests timer Actuator records.
+ * With app.metrics.query-count-header=true (off in the prod profile) the statement count is also returned in
+ * X-Query-Count; the body is buffered so statements run during serialization are included.
+ * The notification stream is long-lived and never buffered.
+ */
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final String STREAM_PATH = "/api/notifications/stream";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.metrics.query-count-header:false}")
+    private boolean queryCountHeader;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean buffered = queryCountHeader && !STREAM_PATH.equals(request.getRequestURI());
+        ContentCachingResponseWrapper wrapper = buffered ? new ContentCachingResponseWrapper(response) : null;
+        int statementsBefore = QueryCountInspector.current();
+        try {
+            chain.doFilter(request, buffered ? wrapper : response);
+        } finally {
+            int statements = QueryCountInspector.current() - statementsBefore;
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("Hibernate statements per HTTP request by route")
+                    .tags("method", request.getMethod(), "uri", route(request))
+                    .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50, 100, 500)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (buffered) {
+                wrapper.setHeader(QUERY_COUNT_HEADER, Integer.toString(statements));
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    /*
+     * Route template rather than the raw path, so ids do not create a series per entity.
+     */
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMAPPED";
+    }
+}
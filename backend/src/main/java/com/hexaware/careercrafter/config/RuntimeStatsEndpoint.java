@@ -0,0 +1,126 @@
+package com.hexaware.careercrafter.config;
+
+import com.hexaware.careercrafter.repository.EmailOutboxRepository;
+import com.hexaware.careercrafter.security.AuthenticationCache;
+import com.hexaware.careercrafter.service.NotificationDedupIndex;
+import com.hexaware.careercrafter.service.NotificationDeliveryMetrics;
+import com.hexaware.careercrafter.service.NotificationStreamService;
+import com.hexaware.careercrafter.service.UnreadNotificationCounter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Runtime counters for operations at /actuator/runtime/{section}: caches, email-outbox, notifications,
+ * notification-dedup, notification-stream and threads.
+ * Served by Actuator so it gets the same protection as the Prometheus scrape: a token on the application port,
+ * and in prod only the private management port. Pinning call sites and queue state are not for API users.
+ */
+
+@Component
+@Endpoint(id = "runtime")
+public class RuntimeStatsEndpoint {
+
+    private static final List<String> SECTIONS = List.of(
+            "caches", "email-outbox", "notifications", "notification-dedup", "notification-stream", "threads");
+
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private NotificationDeliveryMetrics notificationDeliveryMetrics;
+
+    @Autowired
+    private NotificationDedupIndex notificationDedupIndex;
+
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> sections() {
+        return Map.of("sections", SECTIONS);
+    }
+
+    /*
+     * The named section, or null (404) for an unknown one.
+     */
+    @ReadOperation
+    public Map<String, ?> section(@Selector String name) {
+        switch (name) {
+            case "caches":
+                return cacheStats();
+            case "email-outbox":
+                return emailOutboxStats();
+            case "notifications":
+                return notificationDeliveryMetrics.snapshot();
+            case "notification-dedup":
+                return notificationDedupIndex.stats();
+            case "notification-stream":
+                return notificationStreamService.stats();
+            case "threads":
+                return pinningMonitor.stats();
+            default:
+                return null;
+        }
+    }
+
+    private Map<String, Object> cacheStats() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("authentication", authenticationCache.stats());
+        caches.put("unreadNotifications", unreadNotificationCounter.stats());
+        caches.put("secondLevel", secondLevelCacheStats());
+        return caches;
+    }
+
+    private Map<String, Long> emailOutboxStats() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : emailOutboxRepository.countByStatus()) {
+            counts.put(String.valueOf(row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private Map<String, Object> secondLevelCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics cache = statistics.getCacheRegionStatistics(name);
+            if (cache == null) {
+                continue;
+            }
+            long lookups = cache.getHitCount() + cache.getMissCount();
+            Map<String, Object> region = new LinkedHashMap<>();
+            region.put("hits", cache.getHitCount());
+            region.put("misses", cache.getMissCount());
+            region.put("puts", cache.getPutCount());
+            region.put("hitRate", lookups == 0 ? 0.0 : (double) cache.getHitCount() / lookups);
+            stats.put(name, region);
+        }
+        return stats;
+    }
+}
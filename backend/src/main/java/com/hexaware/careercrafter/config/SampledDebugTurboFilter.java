@@ -0,0 +1,50 @@
+package com.hexaware.careercrafter.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Debug logging for a sample of requests only.
+ * For the configured logger prefixes, DEBUG and TRACE events are accepted when the request was picked for sampling
+ * by JwtRequestFilter (app.logging.debug-sample-rate) and denied otherwise, whatever the logger level.
+ * Used by the prod profile for security and SQL logging.
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    public static final String SAMPLED_MDC_KEY = "debugSampled";
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+
+    public void setLoggers(String loggers) {
+        for (String prefix : loggers.split(",")) {
+            if (!prefix.isBlank()) {
+                loggerPrefixes.add(prefix.trim());
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.INFO) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return MDC.get(SAMPLED_MDC_KEY) != null ? FilterReply.ACCEPT : FilterReply.DENY;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.hexaware.careercrafter.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/*
+ * Reports virtual threads pinned to their carrier (blocking inside synchronized or native code).
+ * Listens to the JFR jdk.VirtualThreadPinned event in-process; every pinning is counted per call site and the
+ * first occurrence of each site is logged with its stack, so pinning in the JDBC or SMTP paths shows up once.
+ * Inactive unless virtual threads are enabled on Java 21+.
+ */
+
+@Component
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private final AtomicLong pinnedMillis = new AtomicLong();
+    private final Map<String, AtomicLong> pinnedBySite = new ConcurrentHashMap<>();
+    private volatile RecordingStream recording;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.threads.pinning.threshold-ms:20}")
+    private long thresholdMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isVirtualMode()) {
+            logger.info("Request execution on platform threads");
+            return;
+        }
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recording = stream;
+        logger.info("Request execution on virtual threads; reporting pinning longer than {} ms", thresholdMillis);
+    }
+
+    public boolean isVirtualMode() {
+        return virtualThreads && Runtime.version().feature() >= 21;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", isVirtualMode() ? "virtual" : "platform");
+        stats.put("javaVersion", Runtime.version().feature());
+        stats.put("pinnedEvents", pinnedEvents.get());
+        stats.put("pinnedMillis", pinnedMillis.get());
+        stats.put("pinnedSites", pinnedBySite.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, AtomicLong> e) -> e.getValue().get()).reversed())
+                .limit(10)
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get(), (a, b) -> a, LinkedHashMap::new)));
+        return stats;
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        pinnedMillis.addAndGet(event.getDuration().toMillis());
+        String site = callSite(event);
+        AtomicLong count = pinnedBySite.computeIfAbsent(site, key -> new AtomicLong());
+        if (count.incrementAndGet() == 1) {
+            logger.warn("Virtual thread pinned for {} ms at {}\n{}", event.getDuration().toMillis(), site, stack(event));
+        }
+    }
+
+    /*
+     * First frame outside the JDK, which is usually the driver or application code holding the monitor.
+     */
+    private static String callSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(name -> !name.startsWith("java.") && !name.startsWith("jdk.") && !name.startsWith("sun."))
+                .findFirst()
+                .orElse("jdk");
+    }
+
+    private static String stack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void destroy() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -27,18 +27,21 @@ public class ApplicationController {
     private IApplicationService applicationService;
 
     @PreAuthorize("hasRole('JOBSEEKER')")
-    @Operation(summary = "Apply for a job")
+    @Operation(summary = "Apply for a job",
+               description = "Repeating a request with the same Idempotency-Key returns the application it created; " +
+                             "applying twice for the same job otherwise returns 409")
     @PostMapping
-    public ApplicationDTO applyForJob(@Valid @RequestBody ApplicationDTO applicationDTO) {
-        logger.info("Job seeker {} applying for job listing {}", applicationDTO.getJobListingId(), applicationDTO.getJobSeekerId());
-        return applicationService.applyForJob(applicationDTO);
+    public ApplicationDTO applyForJob(@Valid @RequestBody ApplicationDTO applicationDTO,
+                                      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        logger.info("Job seeker {} applying for job listing {}", applicationDTO.getJobSeekerId(), applicationDTO.getJobListingId());
+        return applicationService.applyForJob(applicationDTO, idempotencyKey);
     }
 
     @PreAuthorize("hasAnyRole('JOBSEEKER', 'EMPLOYER')")
     @Operation(summary = "Get application by ID")
     @GetMapping("/{id}")
     public ApplicationDTO getApplicationById(@PathVariable int id) {
-        logger.info("Fetching application with ID: {}", id);
+        logger.debug("Fetching application with ID: {}", id);
         return applicationService.getApplicationById(id);
     }
 
@@ -46,7 +49,7 @@ public class ApplicationController {
     @Operation(summary = "Get all applications")
     @GetMapping
     public List<ApplicationDTO> getAllApplications() {
-        logger.info("Fetching all applications");
+        logger.debug("Fetching all applications");
         return applicationService.getAllApplications();
     }
 
@@ -54,7 +57,7 @@ public class ApplicationController {
     @Operation(summary = "Get applications by job seeker ID")
     @GetMapping("/jobseeker/{seekerId}")
     public List<ApplicationDTO> getApplicationsByJobSeekerId(@PathVariable int seekerId) {
-        logger.info("Fetching applications for job seeker ID: {}", seekerId);
+        logger.debug("Fetching applications for job seeker ID: {}", seekerId);
         return applicationService.getApplicationsByJobSeekerId(seekerId);
     }
 
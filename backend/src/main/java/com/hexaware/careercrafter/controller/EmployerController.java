@@ -1,6 +1,11 @@
 package com.hexaware.careercrafter.controller;
 
+import com.hexaware.careercrafter.dto.CursorPageDTO;
+import com.hexaware.careercrafter.dto.EmployerApplicationDTO;
 import com.hexaware.careercrafter.dto.EmployerDTO;
+import com.hexaware.careercrafter.dto.JobListingDTO;
+import com.hexaware.careercrafter.service.IApplicationService;
+import com.hexaware.careercrafter.service.IJobListingService;
 import com.hexaware.careercrafter.service.IEmployerService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,6 +40,12 @@ public class EmployerController {
     @Autowired
     private IEmployerService employerService;
 
+    @Autowired
+    private IApplicationService applicationService;
+
+    @Autowired
+    private IJobListingService jobListingService;
+
     @Operation(summary = "Create an employer")
     @PostMapping
     public ResponseEntity<EmployerDTO> createEmployer(@Valid @RequestBody EmployerDTO dto) {
@@ -47,26 +58,49 @@ public class EmployerController {
     @Operation(summary = "Get employer by ID")
     @GetMapping("/{id}")
     public ResponseEntity<EmployerDTO> getEmployerById(@PathVariable int id) {
-        logger.info("Request to fetch employer with ID: {}", id);
+        logger.debug("Request to fetch employer with ID: {}", id);
         EmployerDTO employer = employerService.getEmployerById(id);
-        logger.info("Successfully fetched employer with ID: {}", id);
+        logger.debug("Successfully fetched employer with ID: {}", id);
         return ResponseEntity.ok(employer);
     }
     
     @Operation(summary = "Get employer profile by User ID")
     @GetMapping("/user/{userId}")
     public ResponseEntity<EmployerDTO> getEmployerByUserId(@PathVariable int userId) {
-        logger.info("Fetching employer with userId: {}", userId);
+        logger.debug("Fetching employer with userId: {}", userId);
         EmployerDTO dto = employerService.getEmployerByUserId(userId);
         return ResponseEntity.ok(dto);
     }
 
+    /* Applicants' details are visible only to the employer the listings belong to. */
+    @Operation(summary = "Get applications to an employer's job listings, newest first, filterable by listing and status")
+    @GetMapping("/{id}/applications")
+    @PreAuthorize("hasRole('EMPLOYER') and @employerServiceImpl.isEmployerOwnedBy(#id, principal.user.userId)")
+    public ResponseEntity<CursorPageDTO<EmployerApplicationDTO>> getEmployerApplications(@PathVariable int id,
+                                                                                        @RequestParam(required = false) Integer listingId,
+                                                                                        @RequestParam(required = false) String status,
+                                                                                        @RequestParam(required = false) String cursor,
+                                                                                        @RequestParam(required = false) Integer size) {
+        logger.debug("Request to fetch applications for employer ID: {}", id);
+        CursorPageDTO<EmployerApplicationDTO> page = applicationService.getEmployerInbox(id, listingId, status, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Get an employer's job listings with application counts per status")
+    @GetMapping("/{id}/joblistings")
+    public ResponseEntity<List<JobListingDTO>> getEmployerJobListings(@PathVariable int id) {
+        logger.debug("Request to fetch job listings for employer ID: {}", id);
+        List<JobListingDTO> listings = jobListingService.getEmployerJobListingsWithStatusCounts(id);
+        logger.debug("Fetched {} job listings for employer ID: {}", listings.size(), id);
+        return ResponseEntity.ok(listings);
+    }
+
     @Operation(summary = "Get all employers")
     @GetMapping
     public ResponseEntity<List<EmployerDTO>> getAllEmployers() {
-        logger.info("Request to fetch all employers");
+        logger.debug("Request to fetch all employers");
         List<EmployerDTO> employers = employerService.getAllEmployers();
-        logger.info("Fetched {} employers", employers.size());
+        logger.debug("Fetched {} employers", employers.size());
         return ResponseEntity.ok(employers);
     }
 
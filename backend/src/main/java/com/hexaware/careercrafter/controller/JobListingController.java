@@ -1,7 +1,12 @@
 package com.hexaware.careercrafter.controller;
 
+import com.hexaware.careercrafter.dto.BatchResultDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
 import com.hexaware.careercrafter.dto.JobListingDTO;
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.dto.NotificationFanoutProgressDTO;
 import com.hexaware.careercrafter.service.IJobListingService;
+import com.hexaware.careercrafter.service.NotificationFanoutService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,6 +38,9 @@ public class JobListingController {
 
     @Autowired
     private IJobListingService jobListingService;
+
+    @Autowired
+    private NotificationFanoutService notificationFanoutService;
     
     @PreAuthorize("hasRole('EMPLOYER')")
     @Operation(summary = "Create a new job listing")
@@ -48,22 +56,49 @@ public class JobListingController {
     @Operation(summary = "Get job listing by ID")
     @GetMapping("/{id}")
     public ResponseEntity<JobListingDTO> getJobListingById(@PathVariable int id) {
-        logger.info("Request to fetch job listing with ID: {}", id);
+        logger.debug("Request to fetch job listing with ID: {}", id);
         JobListingDTO listing = jobListingService.getJobListingById(id);
-        logger.info("Successfully fetched job listing with ID: {}", id);
+        logger.debug("Successfully fetched job listing with ID: {}", id);
         return ResponseEntity.ok(listing);
     }
 
     @PreAuthorize("hasRole('JOBSEEKER') or hasRole('EMPLOYER')")
-    @Operation(summary = "Get all job listings")
+    @Operation(summary = "Get all job listings",
+               description = "With ids, returns those listings in request order plus the ids not found; " +
+                             "otherwise a cursor page when any of cursor, size, sort or direction is given, or the full list")
     @GetMapping
-    public ResponseEntity<List<JobListingDTO>> getAllJobListings() {
-        logger.info("Request to fetch all job listings");
+    public ResponseEntity<?> getAllJobListings(
+        @RequestParam(required = false) List<Integer> ids,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String direction
+    ) {
+        if (ids != null) {
+            logger.debug("Request to fetch {} job listings by ID", ids.size());
+            BatchResultDTO<JobListingDTO> batch = jobListingService.getJobListingsByIds(ids);
+            return ResponseEntity.ok(batch);
+        }
+        if (isPaged(cursor, size, sort, direction)) {
+            logger.debug("Request to fetch job listings page, size: {}, sort: {} {}", size, sort, direction);
+            CursorPageDTO<JobListingDTO> page = jobListingService.searchJobListings(
+                    new JobListingFilter(), cursor, size, sort, direction);
+            return ResponseEntity.ok(page);
+        }
+        logger.debug("Request to fetch all job listings");
         List<JobListingDTO> listings = jobListingService.getAll();
-        logger.info("Fetched {} job listings", listings.size());
+        logger.debug("Fetched {} job listings", listings.size());
         return ResponseEntity.ok(listings);
     }
 
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @Operation(summary = "Get new-job notification progress for a job listing")
+    @GetMapping("/{id}/notification-progress")
+    public ResponseEntity<NotificationFanoutProgressDTO> getNotificationProgress(@PathVariable int id) {
+        logger.debug("Request to fetch notification progress for job listing with ID: {}", id);
+        return ResponseEntity.ok(notificationFanoutService.getProgress(id));
+    }
+
     @PreAuthorize("hasRole('EMPLOYER')")
     @Operation(summary = "Update a job listing")
     @PutMapping
@@ -86,17 +121,37 @@ public class JobListingController {
    
     
     @PreAuthorize("hasRole('JOBSEEKER')")
-    @Operation(summary = "Advanced Filtering for a job seeker")
+    @Operation(summary = "Advanced Filtering for a job seeker",
+               description = "With q, returns relevance-ranked full-text results with facets (page, size); " +
+                             "otherwise a cursor page when any of cursor, size, sort or direction is given, or the full list")
     @GetMapping("/filter")
-    public ResponseEntity<List<JobListingDTO>> filterJobListings(
+    public ResponseEntity<?> filterJobListings(
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) Integer page,
         @RequestParam(required = false) String role,
         @RequestParam(required = false) String skill,
         @RequestParam(required = false) String location,
         @RequestParam(required = false) Integer experience,
-        @RequestParam(required = false) String jobType
+        @RequestParam(required = false) String jobType,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String direction
     ) {
+        if (q != null && !q.isBlank()) {
+            JobListingFilter filter = JobListingFilter.of(role, skill, location, experience, jobType, true);
+            return ResponseEntity.ok(jobListingService.searchJobListingsFullText(q, filter, page, size));
+        }
+        if (isPaged(cursor, size, sort, direction)) {
+            JobListingFilter filter = JobListingFilter.of(role, skill, location, experience, jobType, true);
+            return ResponseEntity.ok(jobListingService.searchJobListings(filter, cursor, size, sort, direction));
+        }
         List<JobListingDTO> results = jobListingService.filterJobListings(role, skill, location, experience, jobType);
         return ResponseEntity.ok(results);
     }
 
+    private boolean isPaged(String cursor, Integer size, String sort, String direction) {
+        return cursor != null || size != null || sort != null || direction != null;
+    }
+
 }
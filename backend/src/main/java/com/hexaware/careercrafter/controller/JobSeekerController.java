@@ -1,6 +1,7 @@
 package com.hexaware.careercrafter.controller;
 
 import com.hexaware.careercrafter.dto.JobSeekerDTO;
+import com.hexaware.careercrafter.dto.JobSeekerPatchDTO;
 import com.hexaware.careercrafter.dto.JobListingDTO;
 import com.hexaware.careercrafter.service.IJobSeekerService;
 
@@ -43,7 +44,7 @@ public class JobSeekerController {
     @Operation(summary = "Get job seeker by ID")
     @GetMapping("/{id}")
     public ResponseEntity<JobSeekerDTO> getJobSeekerById(@PathVariable int id) {
-        logger.info("Fetching job seeker with ID: {}", id);
+        logger.debug("Fetching job seeker with ID: {}", id);
         return ResponseEntity.ok(jobSeekerService.getJobSeekerById(id));
     }
     
@@ -51,19 +52,33 @@ public class JobSeekerController {
     @Operation(summary = "Get job seeker profile by User ID")
     @GetMapping("/user/{userId}")
     public ResponseEntity<JobSeekerDTO> getJobSeekerByUserId(@PathVariable int userId) {
-        logger.info("Fetching job seeker with userId: {}", userId);
+        logger.debug("Fetching job seeker with userId: {}", userId);
         JobSeekerDTO dto = jobSeekerService.getJobSeekerByUserId(userId);
         return ResponseEntity.ok(dto);
     }
 
     @PreAuthorize("hasRole('EMPLOYER')")
-    @Operation(summary = "Get all job seekers")
+    @Operation(summary = "Get all job seekers",
+               description = "With ids, returns those job seekers in request order plus the ids not found")
     @GetMapping
-    public ResponseEntity<List<JobSeekerDTO>> getAllJobSeekers() {
-        logger.info("Fetching all job seekers");
+    public ResponseEntity<?> getAllJobSeekers(@RequestParam(required = false) List<Integer> ids) {
+        if (ids != null) {
+            logger.debug("Fetching {} job seekers by ID", ids.size());
+            return ResponseEntity.ok(jobSeekerService.getJobSeekersByIds(ids));
+        }
+        logger.debug("Fetching all job seekers");
         return ResponseEntity.ok(jobSeekerService.getAllJobSeekers());
     }
 
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @Operation(summary = "List job seeker summaries",
+               description = "Contact and skills fields only, without education, certificates, projects or social links")
+    @GetMapping("/summaries")
+    public ResponseEntity<List<JobSeekerDTO>> getJobSeekerSummaries() {
+        logger.debug("Fetching job seeker summaries");
+        return ResponseEntity.ok(jobSeekerService.getJobSeekerSummaries());
+    }
+
     @PreAuthorize("hasRole('JOBSEEKER')")
     @Operation(summary = "Update a job seeker profile")
     @PutMapping
@@ -72,6 +87,15 @@ public class JobSeekerController {
         return ResponseEntity.ok(jobSeekerService.updateJobSeeker(dto));
     }
 
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    @Operation(summary = "Partially update a job seeker profile",
+               description = "Only the fields present are changed; a child list replaces that collection, matched by id")
+    @PatchMapping("/{id}")
+    public ResponseEntity<JobSeekerDTO> patchJobSeeker(@PathVariable int id, @Valid @RequestBody JobSeekerPatchDTO patch) {
+        logger.info("Patching job seeker with ID: {}", id);
+        return ResponseEntity.ok(jobSeekerService.patchJobSeeker(id, patch));
+    }
+
     @PreAuthorize("hasRole('JOBSEEKER') or hasRole('EMPLOYER')")
     @Operation(summary = "Delete a job seeker profile")
     @DeleteMapping("/{id}")
@@ -85,7 +109,7 @@ public class JobSeekerController {
     @Operation(summary = "Get job recommendations for a job seeker")
     @GetMapping("/{jobSeekerId}/recommendations")
     public ResponseEntity<List<JobListingDTO>> getJobRecommendations(@PathVariable int jobSeekerId) {
-        logger.info("Fetching job recommendations for job seeker ID: {}", jobSeekerId);
+        logger.debug("Fetching job recommendations for job seeker ID: {}", jobSeekerId);
         List<JobListingDTO> recommendations = jobSeekerService.getJobRecommendations(jobSeekerId);
         return ResponseEntity.ok(recommendations);
     }
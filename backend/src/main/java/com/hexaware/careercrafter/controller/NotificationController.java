@@ -1,11 +1,25 @@
 package com.hexaware.careercrafter.controller;
 
+import com.hexaware.careercrafter.dto.BulkNotificationRequestDTO;
+import com.hexaware.careercrafter.dto.BulkNotificationResultDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
 import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.dto.NotificationPreferenceDTO;
+import com.hexaware.careercrafter.service.INotificationPreferenceService;
+import com.hexaware.careercrafter.security.CustomUserDetails;
+import com.hexaware.careercrafter.security.StreamTicketService;
 import com.hexaware.careercrafter.service.INotificationService;
+import com.hexaware.careercrafter.service.NotificationStreamService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -16,16 +30,63 @@ import java.util.Map;
 @CrossOrigin(origins = "http://localhost:3000")
 public class NotificationController {
 
+    /* A user's inbox and preferences are reachable only with that user's own token. */
+    private static final String OWN_USER = "isAuthenticated() and #userId == principal.user.userId";
+
     @Autowired
     private INotificationService notificationService;
 
+    @Autowired
+    private INotificationPreferenceService notificationPreferenceService;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<NotificationDTO>> getNotificationsByUserId(@PathVariable Long userId) {
+    @PreAuthorize(OWN_USER)
+    public ResponseEntity<?> getNotificationsByUserId(@PathVariable Long userId,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size) {
+        if (cursor != null || size != null) {
+            CursorPageDTO<NotificationDTO> page = notificationService.getInbox(userId, cursor, size);
+            return ResponseEntity.ok(page);
+        }
     	List<NotificationDTO> notifications = notificationService.getNotificationsByUserId(userId);
         return ResponseEntity.ok(notifications);
     }
 
+    /*
+     * Single-use ticket for opening the stream; EventSource cannot send the Authorization header.
+     */
+    @PostMapping("/stream/ticket")
+    public ResponseEntity<Map<String, Object>> issueStreamTicket(@AuthenticationPrincipal CustomUserDetails principal,
+                                                                 Authentication authentication) {
+        String ticket = streamTicketService.issue(principal, List.copyOf(authentication.getAuthorities()));
+        Map<String, Object> response = new HashMap<>();
+        response.put("ticket", ticket);
+        response.put("expiresInMs", streamTicketService.getTtlMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /*
+     * Server-Sent Events stream of the caller's inbox changes, authenticated with ?ticket= from /stream/ticket.
+     * A reconnecting client needs a new ticket, so it passes the last event id as ?lastEventId= to resume.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<SseEmitter> streamNotifications(@AuthenticationPrincipal CustomUserDetails principal,
+                                                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                          @RequestParam(value = "lastEventId", required = false) String resumeFrom) {
+        Long userId = (long) principal.getUser().getUserId();
+        return notificationStreamService.open(userId, lastEventId != null ? lastEventId : resumeFrom)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build());
+    }
+
     @GetMapping("/user/{userId}/unread-count")
+    @PreAuthorize(OWN_USER)
     public ResponseEntity<Map<String, Long>> getUnreadNotificationCount(@PathVariable Long userId) {
         Long count = notificationService.countUnreadNotificationsByUserId(userId);
         Map<String, Long> response = new HashMap<>();
@@ -39,9 +100,43 @@ public class NotificationController {
         return ResponseEntity.ok(updated);
     }
 
+    @PutMapping("/unread/{notificationId}")
+    public ResponseEntity<NotificationDTO> markNotificationAsUnread(@PathVariable Long notificationId) {
+        NotificationDTO updated = notificationService.markAsUnread(notificationId);
+        return ResponseEntity.ok(updated);
+    }
+
+    @PutMapping("/user/{userId}/read")
+    @PreAuthorize(OWN_USER)
+    public ResponseEntity<BulkNotificationResultDTO> markNotificationsAsRead(@PathVariable Long userId,
+                                                                             @RequestBody BulkNotificationRequestDTO request) {
+        return ResponseEntity.ok(notificationService.markAsReadBulk(userId, request));
+    }
+
+    @PostMapping("/user/{userId}/delete")
+    @PreAuthorize(OWN_USER)
+    public ResponseEntity<BulkNotificationResultDTO> deleteNotifications(@PathVariable Long userId,
+                                                                         @RequestBody BulkNotificationRequestDTO request) {
+        return ResponseEntity.ok(notificationService.deleteNotificationsBulk(userId, request));
+    }
+
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<Void> deleteNotification(@PathVariable Long notificationId) {
         notificationService.deleteNotification(notificationId);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/preferences/{userId}")
+    @PreAuthorize(OWN_USER)
+    public ResponseEntity<NotificationPreferenceDTO> getPreferences(@PathVariable Long userId) {
+        return ResponseEntity.ok(notificationPreferenceService.getPreferences(userId));
+    }
+
+    @PutMapping("/preferences/{userId}")
+    @PreAuthorize(OWN_USER)
+    public ResponseEntity<NotificationPreferenceDTO> updatePreferences(@PathVariable Long userId,
+                                                                       @RequestBody NotificationPreferenceDTO dto) {
+        dto.setUserId(userId);
+        return ResponseEntity.ok(notificationPreferenceService.updatePreferences(dto));
+    }
 }
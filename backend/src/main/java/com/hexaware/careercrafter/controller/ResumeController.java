@@ -1,5 +1,6 @@
 package com.hexaware.careercrafter.controller;
 
+import com.hexaware.careercrafter.dto.BatchResultDTO;
 import com.hexaware.careercrafter.dto.ResumeDTO;
 import com.hexaware.careercrafter.service.IResumeService;
 
@@ -62,19 +63,28 @@ public class ResumeController {
     @Operation(summary = "Get resume metadata by ID")
     @GetMapping("/{id}")
     public ResponseEntity<ResumeDTO> getResumeById(@PathVariable int id) {
-        logger.info("Request to fetch resume with ID: {}", id);
+        logger.debug("Request to fetch resume with ID: {}", id);
         ResumeDTO resume = resumeService.getResumeById(id);
-        logger.info("Successfully fetched resume with ID: {}", id);
+        logger.debug("Successfully fetched resume with ID: {}", id);
         return ResponseEntity.ok(resume);
     }
 
+    @PreAuthorize("hasRole('EMPLOYER') or hasRole('JOBSEEKER')")
+    @Operation(summary = "Get resume metadata for several IDs",
+               description = "Returns the resumes in request order plus the ids not found")
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDTO<ResumeDTO>> getResumesByIds(@RequestParam List<Integer> ids) {
+        logger.debug("Request to fetch {} resumes by ID", ids.size());
+        return ResponseEntity.ok(resumeService.getResumesByIds(ids));
+    }
+
     @PreAuthorize("hasRole('EMPLOYER') or hasRole('JOBSEEKER')")
     @Operation(summary = "Get resumes by job seeker ID")
     @GetMapping("/jobseeker/{jobSeekerId}")
     public ResponseEntity<List<ResumeDTO>> getResumesByJobSeekerId(@PathVariable int jobSeekerId) {
-        logger.info("Request to fetch resumes for jobSeekerId: {}", jobSeekerId);
+        logger.debug("Request to fetch resumes for jobSeekerId: {}", jobSeekerId);
         List<ResumeDTO> resumes = resumeService.getResumesByJobSeekerId(jobSeekerId);
-        logger.info("Fetched {} resumes for jobSeekerId: {}", resumes.size(), jobSeekerId);
+        logger.debug("Fetched {} resumes for jobSeekerId: {}", resumes.size(), jobSeekerId);
         return ResponseEntity.ok(resumes);
     }
 
@@ -45,9 +45,9 @@ public class SearchRecommendationController {
     @Operation(summary = "Get search recommendation by ID")
     @GetMapping("/{id}")
     public SearchRecommendationDTO getSearchById(@PathVariable int id) {
-        logger.info("Request to fetch search recommendation with ID: {}", id);
+        logger.debug("Request to fetch search recommendation with ID: {}", id);
         SearchRecommendationDTO dto = searchService.getSearchById(id);
-        logger.info("Successfully fetched search recommendation with ID: {}", id);
+        logger.debug("Successfully fetched search recommendation with ID: {}", id);
         return dto;
     }
 
@@ -55,9 +55,9 @@ public class SearchRecommendationController {
     @Operation(summary = "Get all search recommendations for a user")
     @GetMapping("/user/{userId}")
     public List<SearchRecommendationDTO> getSearchesByUserId(@PathVariable int userId) {
-        logger.info("Request to fetch search recommendations for userId: {}", userId);
+        logger.debug("Request to fetch search recommendations for userId: {}", userId);
         List<SearchRecommendationDTO> list = searchService.getSearchesByUserId(userId);
-        logger.info("Fetched {} search recommendations for userId: {}", list.size(), userId);
+        logger.debug("Fetched {} search recommendations for userId: {}", list.size(), userId);
         return list;
     }
 
@@ -50,9 +50,9 @@ public class UserController {
     @Operation(summary = "Get user by ID")
     @GetMapping("/{id}")
     public ResponseEntity<UserDTO> getUserById(@PathVariable int id) {
-        logger.info("Request to fetch user with ID: {}", id);
+        logger.debug("Request to fetch user with ID: {}", id);
         UserDTO user = userService.getUserById(id);
-        logger.info("Successfully fetched user with ID: {}", id);
+        logger.debug("Successfully fetched user with ID: {}", id);
         return ResponseEntity.ok(user);
     }
 
@@ -60,9 +60,9 @@ public class UserController {
     @Operation(summary = "Get all users")
     @GetMapping
     public ResponseEntity<List<UserDTO>> getAllUsers() {
-        logger.info("Request to fetch all users");
+        logger.debug("Request to fetch all users");
         List<UserDTO> users = userService.getAllUsers();
-        logger.info("Successfully fetched {} users", users.size());
+        logger.debug("Successfully fetched {} users", users.size());
         return ResponseEntity.ok(users);
     }
 
@@ -0,0 +1,12 @@
+package com.hexaware.careercrafter.dto;
+
+/*
+ * Read-only projection of the number of applications per job listing.
+ */
+
+public interface ApplicantCountView {
+
+    int getJobListingId();
+    long getApplicantCount();
+
+}
@@ -0,0 +1,17 @@
+package com.hexaware.careercrafter.dto;
+
+/*
+ * Read-only projection of what applying for a job copies onto the application and into the employer's
+ * notification: the listing title, the employer contact and the applicant's name.
+ */
+
+public interface ApplyTargetView {
+
+    int getJobListingId();
+    String getJobTitle();
+    String getApplicantName();
+    String getEmployerName();
+    Integer getEmployerUserId();
+    String getEmployerEmail();
+
+}
@@ -0,0 +1,24 @@
+package com.hexaware.careercrafter.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * Result of a multi-get by ids.
+ * items follow the order of the requested ids with duplicates dropped; ids that matched nothing are listed in missingIds.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO<T> {
+
+    private List<T> items;
+    private List<Integer> missingIds;
+
+}
@@ -0,0 +1,25 @@
+package com.hexaware.careercrafter.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * Selects a user's notifications for a bulk operation: exactly one of ids, olderThan or all.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkNotificationRequestDTO {
+
+    private List<Long> ids;
+    private LocalDateTime olderThan;
+    private boolean all;
+
+}
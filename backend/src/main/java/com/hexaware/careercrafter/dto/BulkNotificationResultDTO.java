@@ -0,0 +1,21 @@
+package com.hexaware.careercrafter.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * Outcome of a bulk notification operation: rows changed and the user's unread count afterwards.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkNotificationResultDTO {
+
+    private int affected;
+    private long unreadCount;
+
+}
@@ -0,0 +1,26 @@
+package com.hexaware.careercrafter.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * One page of a keyset-paginated result.
+ * nextCursor is an opaque token to pass back as ?cursor= for the following page; it is null on the last page.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+
+}
@@ -0,0 +1,38 @@
+package com.hexaware.careercrafter.dto;
+
+import com.hexaware.careercrafter.dto.ApplicationDTO.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * One row of an employer's application inbox.
+ * primaryResumeId is the applicant's primary resume, or their latest upload when none is marked primary.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployerApplicationDTO {
+
+    private int applicationId;
+    private int jobListingId;
+    private String jobTitle;
+    private ApplicationStatus status;
+    private LocalDateTime applicationDate;
+    private String resumeFilePath;
+    private int jobSeekerId;
+    private String applicantName;
+    private String email;
+    private String phone;
+    private String skills;
+    private Integer experience;
+    private String address;
+    private Integer primaryResumeId;
+
+}
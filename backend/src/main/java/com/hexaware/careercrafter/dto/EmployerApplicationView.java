@@ -0,0 +1,29 @@
+package com.hexaware.careercrafter.dto;
+
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/*
+ * Read model for an employer's application inbox: the application, its listing title and the applicant's key
+ * profile fields plus primary resume id, fetched in one joined query instead of a resume and seeker call per row.
+ */
+
+public interface EmployerApplicationView {
+
+    int getApplicationId();
+    int getJobListingId();
+    String getJobTitle();
+    ApplicationStatus getStatus();
+    LocalDateTime getApplicationDate();
+    String getResumeFilePath();
+    int getJobSeekerId();
+    String getApplicantName();
+    String getEmail();
+    String getPhone();
+    String getSkills();
+    Integer getExperience();
+    String getAddress();
+    Integer getPrimaryResumeId();
+
+}
@@ -1,11 +1,14 @@
 package com.hexaware.careercrafter.dto;
 
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
 import com.hexaware.careercrafter.entities.JobListing.JobType;
 
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDate;
+import java.util.Map;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Setter;
 import lombok.Getter;
@@ -70,4 +73,8 @@ public class JobListingDTO {
     
     private int totalApplicants;
 
+    /* Applications per status; only filled in by the employer's own listing endpoint. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<ApplicationStatus, Long> statusCounts;
+
 }
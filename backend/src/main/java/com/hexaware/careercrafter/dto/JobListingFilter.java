@@ -0,0 +1,48 @@
+package com.hexaware.careercrafter.dto;
+
+import com.hexaware.careercrafter.entities.JobListing.JobType;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * Optional filters for job listing searches; null fields are not applied.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobListingFilter {
+
+    private String role;
+    private String skill;
+    private String location;
+    private Integer experience;
+    private JobType jobType;
+    private boolean activeOnly;
+
+    /*
+     * Builds a filter from request parameters; blank values and unknown job types are ignored.
+     */
+    public static JobListingFilter of(String role, String skill, String location, Integer experience,
+                                      String jobType, boolean activeOnly) {
+        JobType jobTypeEnum = null;
+        try {
+            if (jobType != null && !jobType.isEmpty()) {
+                jobTypeEnum = JobType.valueOf(jobType.toUpperCase());
+            }
+        } catch (IllegalArgumentException e) {
+            // ignore invalid jobType
+        }
+        return new JobListingFilter(blankToNull(role), blankToNull(skill), blankToNull(location),
+                experience, jobTypeEnum, activeOnly);
+    }
+
+    private static String blankToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+
+}
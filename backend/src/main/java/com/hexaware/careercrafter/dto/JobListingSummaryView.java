@@ -0,0 +1,29 @@
+package com.hexaware.careercrafter.dto;
+
+import com.hexaware.careercrafter.entities.JobListing.JobType;
+
+import java.time.LocalDate;
+
+/*
+ * Read model for job listing lists: listing columns plus the applicant count, fetched in a single query
+ * so list endpoints neither load the employer graph nor initialize each listing's applications collection.
+ */
+
+public interface JobListingSummaryView {
+
+    int getJobListingId();
+    int getEmployerId();
+    String getTitle();
+    String getDescription();
+    String getQualification();
+    String getLocation();
+    String getCompanyName();
+    Integer getExperience();
+    JobType getJobType();
+    boolean isActive();
+    Integer getSalary();
+    LocalDate getPostedDate();
+    String getRequiredSkills();
+    long getTotalApplicants();
+
+}
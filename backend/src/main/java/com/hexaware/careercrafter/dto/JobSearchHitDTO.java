@@ -0,0 +1,21 @@
+package com.hexaware.careercrafter.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * A job listing returned by full-text search with its relevance score.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchHitDTO {
+
+    private JobListingDTO listing;
+    private double score;
+
+}
@@ -0,0 +1,29 @@
+package com.hexaware.careercrafter.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * One page of full-text job search results, ranked by relevance, with facet counts
+ * on job type and experience bucket for the whole match set.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchResultDTO {
+
+    private List<JobSearchHitDTO> hits;
+    private long total;
+    private int page;
+    private int size;
+    private Map<String, Long> jobTypeFacets;
+    private Map<String, Long> experienceFacets;
+
+}
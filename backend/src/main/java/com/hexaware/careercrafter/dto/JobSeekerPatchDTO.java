@@ -0,0 +1,60 @@
+package com.hexaware.careercrafter.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDate;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.util.List;
+
+/*
+ * DTO for partial job seeker profile edits.
+ * Null fields are left as they are. A non-null child list replaces that collection: entries are matched to
+ * existing rows by id, entries without an id are added and rows missing from the list are removed.
+ */
+
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSeekerPatchDTO {
+
+    @Size(min = 2, max = 70, message = "Full name must be between 2 and 70 characters")
+    private String fullName;
+
+    @Email(message = "Email should be valid")
+    private String email;
+
+    @Size(max = 90, message = "Gender length can't exceed 90 characters")
+    private String gender;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate dateOfBirth;
+
+    @Pattern(regexp = "^[6-9]\\d{9}$", message = "Phone number must be 10 digits and start with 6-9")
+    private String phone;
+
+    @Size(max = 150, message = "Address can't exceed 150 characters")
+    private String address;
+
+    @Size(max = 1000, message = "About Me can't exceed 1000 characters")
+    private String aboutMe;
+
+    @Size(max = 100, message = "Skills can't exceed 100 characters")
+    private String skills;
+
+    @Min(value=0, message="Experience must be 0 or more")
+    @Max(value=50, message="Experience must be 50 or less")
+    private Integer experience;
+
+    private List<EducationDTO> educationDetails;
+
+    private List<CertificateDTO> certificates;
+
+    private List<ProjectDTO> projects;
+
+    private List<SocialLinkDTO> socialLinks;
+}
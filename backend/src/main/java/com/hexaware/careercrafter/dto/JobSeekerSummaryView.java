@@ -0,0 +1,19 @@
+package com.hexaware.careercrafter.dto;
+
+/*
+ * Read model for job seeker list views: the seeker's own columns only, without the user row or any of the
+ * education, certificate, project and social link collections.
+ */
+
+public interface JobSeekerSummaryView {
+
+    int getJobSeekerId();
+    int getUserId();
+    String getFullName();
+    String getEmail();
+    String getPhone();
+    String getAddress();
+    String getSkills();
+    Integer getExperience();
+
+}
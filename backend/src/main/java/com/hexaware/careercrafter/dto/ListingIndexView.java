@@ -0,0 +1,14 @@
+package com.hexaware.careercrafter.dto;
+
+/*
+ * Read-only projection of the job listing fields used to build in-memory search indexes.
+ */
+
+public interface ListingIndexView {
+
+    int getJobListingId();
+    String getRequiredSkills();
+    String getLocation();
+    boolean isActive();
+
+}
@@ -0,0 +1,27 @@
+package com.hexaware.careercrafter.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * DTO exposing the progress of the new-job notification fan-out for a job listing.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutProgressDTO {
+
+    private int jobListingId;
+    private String status;
+    private long processed;
+    private long failed;
+    private int lastSeekerId;
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,23 @@
+package com.hexaware.careercrafter.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * Data transfer object for a user's notification channel preferences.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPreferenceDTO {
+
+    private Long userId;
+    private boolean inAppEnabled;
+    private boolean emailEnabled;
+    private boolean digestEnabled;
+
+}
@@ -0,0 +1,29 @@
+package com.hexaware.careercrafter.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/*
+ * Payload of a notification stream event.
+ * notification is set for CREATED, READ and UNREAD; INBOX_CHANGED and RESET tell the client to reload its inbox.
+ * unreadCount is included when known so the client does not need to ask for it.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationStreamEventDTO {
+
+    public enum EventType {
+        CONNECTED, CREATED, READ, UNREAD, DELETED, INBOX_CHANGED, RESET
+    }
+
+    private EventType type;
+    private Long notificationId;
+    private NotificationDTO notification;
+    private Long unreadCount;
+
+}
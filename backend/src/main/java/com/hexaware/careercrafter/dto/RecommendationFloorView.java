@@ -0,0 +1,13 @@
+package com.hexaware.careercrafter.dto;
+
+/*
+ * Read-only projection of how many recommendations a job seeker holds and the score of the weakest one.
+ */
+
+public interface RecommendationFloorView {
+
+    int getJobSeekerId();
+    long getMatchedCount();
+    int getLowestScore();
+
+}
@@ -0,0 +1,19 @@
+package com.hexaware.careercrafter.dto;
+
+/*
+ * Read-only projection of the job seeker fields needed to notify a seeker.
+ * Channel preferences are joined in with their defaults for users without a preference row.
+ * Avoids loading the full JobSeeker aggregate when streaming seekers in chunks.
+ */
+
+public interface SeekerContactView {
+
+    int getJobSeekerId();
+    int getUserId();
+    String getEmail();
+    String getFullName();
+    boolean isInAppEnabled();
+    boolean isEmailEnabled();
+    boolean isDigestEnabled();
+
+}
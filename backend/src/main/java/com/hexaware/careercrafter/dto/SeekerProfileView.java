@@ -0,0 +1,15 @@
+package com.hexaware.careercrafter.dto;
+
+/*
+ * Read-only projection of the job seeker fields recommendations are computed from.
+ */
+
+public interface SeekerProfileView {
+
+    int getJobSeekerId();
+    int getUserId();
+    String getFullName();
+    String getSkills();
+    String getAddress();
+
+}
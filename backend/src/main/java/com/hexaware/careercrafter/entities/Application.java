@@ -1,5 +1,7 @@
 package com.hexaware.careercrafter.entities;
 
+import com.hexaware.careercrafter.service.ListingStatusCountListener;
+
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -11,8 +13,17 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name="applications")
+@Table(name="applications", indexes = {
+        @Index(name = "idx_applications_listing_status", columnList = "job_listing_id, status, application_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Application.LISTING_SEEKER_KEY, columnNames = {"job_listing_id", "seeker_id"}),
+        @UniqueConstraint(name = Application.IDEMPOTENCY_KEY, columnNames = {"seeker_id", "idempotency_key"})
+})
+@EntityListeners(ListingStatusCountListener.class)
 public class Application {
+
+	public static final String LISTING_SEEKER_KEY = "uk_applications_listing_seeker";
+	public static final String IDEMPOTENCY_KEY = "uk_applications_seeker_idempotency_key";
 	
 	@Id
 	@GeneratedValue(strategy=GenerationType.IDENTITY)
@@ -38,6 +49,10 @@ public class Application {
 	private String jobTitle;
 	private String applicantName;
 
+	/* Client-supplied Idempotency-Key of the request that created this application, if any. */
+	@Column(length = 64, updatable = false)
+	private String idempotencyKey;
+
 	public enum ApplicationStatus {
 		APPLIED, IN_REVIEW, SHORTLISTED, REJECTED, HIRED
 	}
@@ -121,5 +136,12 @@ public class Application {
 	public void setApplicantName(String applicantName) {
 	    this.applicantName = applicantName;
 	}
-	
+
+	public String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	public void setIdempotencyKey(String idempotencyKey) {
+		this.idempotencyKey = idempotencyKey;
+	}
 }
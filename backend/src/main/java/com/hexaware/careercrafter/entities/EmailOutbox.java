@@ -0,0 +1,60 @@
+package com.hexaware.careercrafter.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/*
+ * Entity representing an email waiting to be sent, or the record of one that was.
+ * Rows are written in the same transaction as the business change and drained by EmailOutboxDispatcher.
+ * While a dispatcher is sending a row it holds a lease: claimToken identifies the claim and nextAttemptAt is
+ * moved to the end of the lease, so no other node picks the row up in the meantime.
+ */
+
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public enum EmailStatus {
+        PENDING, SENT, FAILED
+    }
+}
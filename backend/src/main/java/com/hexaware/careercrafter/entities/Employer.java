@@ -2,6 +2,9 @@ package com.hexaware.careercrafter.entities;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.List;
 
 
@@ -14,6 +17,8 @@ import java.util.List;
 
 @Entity
 @Table(name="employers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employers")
 public class Employer {
 	
 	@Id
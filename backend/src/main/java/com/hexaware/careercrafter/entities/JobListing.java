@@ -3,6 +3,9 @@ package com.hexaware.careercrafter.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDate;
 import java.util.List;
 
@@ -13,14 +16,20 @@ import java.util.List;
  */
 
 @Entity
-@Table(name = "job_listings")
+@Table(name = "job_listings", indexes = {
+        @Index(name = "idx_job_listings_posted_date", columnList = "posted_date, job_listing_id"),
+        @Index(name = "idx_job_listings_salary", columnList = "salary, job_listing_id"),
+        @Index(name = "idx_job_listings_experience", columnList = "experience, job_listing_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job_listings")
 public class JobListing {
 	
 	@Id
 	@GeneratedValue(strategy=GenerationType.IDENTITY)
 	private int jobListingId;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "employer_id", nullable = false)
 	private Employer employer;
 	
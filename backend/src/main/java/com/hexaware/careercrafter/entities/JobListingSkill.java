@@ -0,0 +1,31 @@
+package com.hexaware.careercrafter.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+ * One normalized skill token of a job listing.
+ * Derived from JobListing.requiredSkills and kept in sync by the job listing service.
+ */
+
+@Entity
+@Table(name = "job_listing_skills",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"job_listing_id", "skill_token"}),
+       indexes = @Index(name = "idx_job_listing_skills_token", columnList = "skill_token"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobListingSkill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_listing_id", nullable = false)
+    private int jobListingId;
+
+    @Column(name = "skill_token", nullable = false, length = 100)
+    private String skillToken;
+}
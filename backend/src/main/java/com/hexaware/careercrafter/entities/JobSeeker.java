@@ -2,20 +2,34 @@ package com.hexaware.careercrafter.entities;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.BatchSize;
+
 import java.util.List;
+import java.util.Set;
 import java.time.LocalDate;
 
 /*
  * This entity represents a JobSeeker
  * Contains personal details of a JobSeeker and it is linked with User entity 
  * It is connected with resumes and applications
- * 
+ * The profile children are Sets so that two of them can be fetch-joined in one query: the "profile" graph
+ * loads the user, education and certificates, the "portfolio" graph projects and social links. The user's
+ * inverse employer side cannot be lazy, so the profile graph joins it too rather than selecting it per user.
  */
 
 @Entity
 @Table(name = "job_seekers")
+@NamedEntityGraph(name = JobSeeker.PROFILE_GRAPH, attributeNodes = {
+        @NamedAttributeNode(value = "user", subgraph = "user"), @NamedAttributeNode("educationDetails"),
+        @NamedAttributeNode("certificates")},
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("employer")))
+@NamedEntityGraph(name = JobSeeker.PORTFOLIO_GRAPH, attributeNodes = {
+        @NamedAttributeNode("projects"), @NamedAttributeNode("socialLinks")})
 public class JobSeeker {
 
+    public static final String PROFILE_GRAPH = "JobSeeker.profile";
+    public static final String PORTFOLIO_GRAPH = "JobSeeker.portfolio";
+
     @Id
     @GeneratedValue(strategy=GenerationType.IDENTITY)
     private int jobSeekerId;
@@ -41,16 +55,24 @@ public class JobSeeker {
     private String aboutMe;
 
     @OneToMany(mappedBy = "jobSeeker", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Education> educationDetails;
+    @OrderBy("id")
+    @BatchSize(size = 50)
+    private Set<Education> educationDetails;
 
     @OneToMany(mappedBy = "jobSeeker", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Certificate> certificates;
+    @OrderBy("id")
+    @BatchSize(size = 50)
+    private Set<Certificate> certificates;
 
     @OneToMany(mappedBy = "jobSeeker", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Project> projects;
+    @OrderBy("id")
+    @BatchSize(size = 50)
+    private Set<Project> projects;
 
     @OneToMany(mappedBy = "jobSeeker", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<SocialLink> socialLinks;
+    @OrderBy("id")
+    @BatchSize(size = 50)
+    private Set<SocialLink> socialLinks;
 
     @OneToMany(mappedBy = "jobSeeker", cascade = CascadeType.ALL)
     private List<Resume> resumes;
@@ -64,8 +86,8 @@ public class JobSeeker {
 
     public JobSeeker(int jobSeekerId, User user, String fullName, String phone, String address, String email, String gender, LocalDate dateOfBirth,
         String skills, Integer experience, List<Resume> resumes, List<Application> applications,
-        String aboutMe, List<Education> educationDetails, List<Certificate> certificates,
-        List<Project> projects, List<SocialLink> socialLinks) {
+        String aboutMe, Set<Education> educationDetails, Set<Certificate> certificates,
+        Set<Project> projects, Set<SocialLink> socialLinks) {
         super();
         this.jobSeekerId = jobSeekerId;
         this.user = user;
@@ -190,35 +212,35 @@ public class JobSeeker {
         this.aboutMe = aboutMe;
     }
 
-    public List<Education> getEducationDetails() {
+    public Set<Education> getEducationDetails() {
         return educationDetails;
     }
 
-    public void setEducationDetails(List<Education> educationDetails) {
+    public void setEducationDetails(Set<Education> educationDetails) {
         this.educationDetails = educationDetails;
     }
 
-    public List<Certificate> getCertificates() {
+    public Set<Certificate> getCertificates() {
         return certificates;
     }
 
-    public void setCertificates(List<Certificate> certificates) {
+    public void setCertificates(Set<Certificate> certificates) {
         this.certificates = certificates;
     }
 
-    public List<Project> getProjects() {
+    public Set<Project> getProjects() {
         return projects;
     }
 
-    public void setProjects(List<Project> projects) {
+    public void setProjects(Set<Project> projects) {
         this.projects = projects;
     }
 
-    public List<SocialLink> getSocialLinks() {
+    public Set<SocialLink> getSocialLinks() {
         return socialLinks;
     }
 
-    public void setSocialLinks(List<SocialLink> socialLinks) {
+    public void setSocialLinks(Set<SocialLink> socialLinks) {
         this.socialLinks = socialLinks;
     }
     
@@ -0,0 +1,49 @@
+package com.hexaware.careercrafter.entities;
+
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/*
+ * Number of applications to one job listing that are in one status.
+ * Kept current by the application service as applications are created, moved between statuses and deleted,
+ * so per-listing status counts are read without scanning applications.
+ */
+
+@Entity
+@Table(name = "listing_status_counts")
+@IdClass(ListingStatusCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ListingStatusCount {
+
+    @Id
+    @Column(name = "job_listing_id", nullable = false)
+    private int jobListingId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ApplicationStatus status;
+
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private int jobListingId;
+        private ApplicationStatus status;
+    }
+}
@@ -0,0 +1,29 @@
+package com.hexaware.careercrafter.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+ * Marks a job seeker whose recommendations have been materialized at least once.
+ * Written in the same transaction as the seeker's first seeker_recommendations rows, so a backfill that stops
+ * part way resumes with the seekers still unmarked, and only marked seekers are notified of new matches.
+ */
+
+@Entity
+@Table(name = "materialized_seekers")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterializedSeeker {
+
+    @Id
+    @Column(name = "job_seeker_id", nullable = false)
+    private int jobSeekerId;
+
+    @Column(name = "materialized_at", nullable = false)
+    private LocalDateTime materializedAt;
+}
@@ -6,7 +6,11 @@ import java.time.LocalDateTime;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notifications_user_content_hash", columnNames = {"user_id", "content_hash"})
+}, indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,4 +37,7 @@ public class Notification {
 
     private Long jobListingId;
     private Long applicationId;
+
+    /* NotificationContentHash of userId, title and message; null only for legacy duplicates. */
+    private Long contentHash;
 }
@@ -0,0 +1,48 @@
+package com.hexaware.careercrafter.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/*
+ * Entity tracking the "new job posted" fan-out for one job listing.
+ * Stores the keyset cursor of the last persisted chunk so the fan-out can resume after a restart.
+ */
+
+@Entity
+@Table(name = "notification_fanout_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationFanoutJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long fanoutJobId;
+
+    @Column(nullable = false, unique = true)
+    private int jobListingId;
+
+    @Column(nullable = false)
+    private String jobTitle;
+
+    private int lastSeekerId;
+
+    private long processed;
+
+    private long failed;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FanoutStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public enum FanoutStatus {
+        PENDING, RUNNING, COMPLETED
+    }
+}
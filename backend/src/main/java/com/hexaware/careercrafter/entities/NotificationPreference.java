@@ -0,0 +1,38 @@
+package com.hexaware.careercrafter.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/*
+ * Entity holding a user's notification channel preferences.
+ * Users without a row get the defaults: in-app and immediate email, no digest.
+ * With digest enabled, email is replaced by a periodic summary of the user's notifications.
+ */
+
+@Entity
+@Table(name = "notification_preferences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationPreference {
+
+    @Id
+    private Long userId;
+
+    @Builder.Default
+    private boolean inAppEnabled = true;
+
+    @Builder.Default
+    private boolean emailEnabled = true;
+
+    private boolean digestEnabled;
+
+    private LocalDateTime lastDigestAt;
+
+    public static NotificationPreference defaultsFor(Long userId) {
+        return NotificationPreference.builder().userId(userId).build();
+    }
+}
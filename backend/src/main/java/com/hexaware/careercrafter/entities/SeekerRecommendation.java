@@ -0,0 +1,47 @@
+package com.hexaware.careercrafter.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+ * One materialized (job seeker, job listing) recommendation.
+ * score orders a seeker's recommendations: twice the skill overlap, plus one for a location match.
+ * A row outlives the match that created it with matched = false, so a pair that drops out and comes back
+ * is not notified a second time.
+ */
+
+@Entity
+@Table(name = "seeker_recommendations",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"job_seeker_id", "job_listing_id"}),
+       indexes = {
+           @Index(name = "idx_seeker_recommendations_rank", columnList = "job_seeker_id, matched, score, job_listing_id"),
+           @Index(name = "idx_seeker_recommendations_listing", columnList = "job_listing_id, matched")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeekerRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_seeker_id", nullable = false)
+    private int jobSeekerId;
+
+    @Column(name = "job_listing_id", nullable = false)
+    private int jobListingId;
+
+    @Column(nullable = false)
+    private int score;
+
+    @Column(nullable = false)
+    private boolean matched;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,11 +1,27 @@
 package com.hexaware.careercrafter.repository;
 
+import com.hexaware.careercrafter.dto.ApplicantCountView;
+import com.hexaware.careercrafter.dto.ApplyTargetView;
+import com.hexaware.careercrafter.dto.EmployerApplicationView;
 import com.hexaware.careercrafter.entities.Application;
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /*
  * Repository interface for application entities.
@@ -16,4 +32,53 @@ public interface ApplicationRepository extends JpaRepository<Application, Intege
 	
     List<Application> findByJobSeekerJobSeekerId(int jobSeekerId);
 
+    boolean existsByJobListingJobListingIdAndJobSeekerJobSeekerId(int jobListingId, int jobSeekerId);
+
+    Optional<Application> findByJobSeekerJobSeekerIdAndIdempotencyKey(int jobSeekerId, String idempotencyKey);
+
+    /* Everything applyForJob denormalizes, in one statement; empty when either the listing or the seeker is missing. */
+    @Query("SELECT j.jobListingId AS jobListingId, j.title AS jobTitle, s.fullName AS applicantName, " +
+           "e.fullName AS employerName, u.userId AS employerUserId, u.email AS employerEmail " +
+           "FROM JobListing j JOIN JobSeeker s ON s.jobSeekerId = :jobSeekerId " +
+           "LEFT JOIN j.employer e LEFT JOIN e.user u " +
+           "WHERE j.jobListingId = :jobListingId")
+    Optional<ApplyTargetView> findApplyTarget(@Param("jobListingId") int jobListingId, @Param("jobSeekerId") int jobSeekerId);
+
+    /* Row-locked read used before an application changes listing or status, so its counters move exactly once. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a WHERE a.applicationId = :id")
+    Optional<Application> findForUpdate(@Param("id") int id);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JobListingRepository.LISTING_QUERY_REGION)})
+    long countByJobListingJobListingId(int jobListingId);
+
+    @Query("SELECT a.jobListing.jobListingId AS jobListingId, COUNT(a) AS applicantCount FROM Application a " +
+           "WHERE a.jobListing.jobListingId IN :ids GROUP BY a.jobListing.jobListingId")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JobListingRepository.LISTING_QUERY_REGION)})
+    List<ApplicantCountView> countByJobListingIds(@Param("ids") Collection<Integer> ids);
+
+    /*
+     * Keyset page of an employer's inbox, newest first; listingId, status and afterId are optional.
+     * The primary resume falls back to the applicant's latest upload when none is marked primary.
+     */
+    @Query("SELECT a.applicationId AS applicationId, j.jobListingId AS jobListingId, j.title AS jobTitle, " +
+           "a.status AS status, a.applicationDate AS applicationDate, a.resumeFilePath AS resumeFilePath, " +
+           "s.jobSeekerId AS jobSeekerId, s.fullName AS applicantName, s.email AS email, s.phone AS phone, " +
+           "s.skills AS skills, s.experience AS experience, s.address AS address, " +
+           "COALESCE((SELECT MAX(r.resumeId) FROM Resume r WHERE r.jobSeeker = s AND r.isPrimary = true), " +
+           "(SELECT MAX(r.resumeId) FROM Resume r WHERE r.jobSeeker = s)) AS primaryResumeId " +
+           "FROM Application a JOIN a.jobListing j JOIN a.jobSeeker s " +
+           "WHERE j.employer.employerId = :employerId " +
+           "AND (:listingId IS NULL OR j.jobListingId = :listingId) " +
+           "AND (:status IS NULL OR a.status = :status) " +
+           "AND (:afterId IS NULL OR a.applicationId < :afterId) " +
+           "ORDER BY a.applicationId DESC")
+    List<EmployerApplicationView> findEmployerInbox(@Param("employerId") int employerId,
+                                                    @Param("listingId") Integer listingId,
+                                                    @Param("status") ApplicationStatus status,
+                                                    @Param("afterId") Integer afterId,
+                                                    Pageable pageable);
+
 }
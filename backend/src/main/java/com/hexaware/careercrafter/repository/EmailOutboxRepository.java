@@ -0,0 +1,72 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.EmailOutbox;
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Repository interface for the email outbox.
+ */
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT e.outboxId FROM EmailOutbox e WHERE e.status = com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus.PENDING " +
+           "AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt, e.outboxId")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /*
+     * Takes a lease on the given rows that are still due: each row is claimed by exactly one caller, whose token it
+     * then carries, and stays invisible to findDueIds until the lease expires. Rows claimed by a node that stopped
+     * before finishing become due again once their lease runs out.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.claimToken = :token, e.nextAttemptAt = :leaseUntil " +
+           "WHERE e.outboxId IN :ids AND e.status = com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus.PENDING " +
+           "AND e.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT e FROM EmailOutbox e WHERE e.claimToken = :token ORDER BY e.outboxId")
+    List<EmailOutbox> findClaimed(@Param("token") String token);
+
+    @Query("SELECT e.status, COUNT(e) FROM EmailOutbox e GROUP BY e.status")
+    List<Object[]> countByStatus();
+
+    long countByStatus(EmailStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus.SENT, " +
+           "e.sentAt = :now, e.attempts = e.attempts + 1, e.lastError = NULL, e.claimToken = NULL " +
+           "WHERE e.outboxId IN :ids AND e.claimToken = :token")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :error, e.claimToken = NULL WHERE e.outboxId = :id AND e.claimToken = :token")
+    int recordFailure(@Param("id") Long id, @Param("token") String token, @Param("status") EmailStatus status,
+                      @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.nextAttemptAt = :nextAttemptAt, e.claimToken = NULL " +
+           "WHERE e.outboxId IN :ids AND e.claimToken = :token")
+    int release(@Param("ids") Collection<Long> ids, @Param("token") String token,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+}
@@ -2,7 +2,12 @@ package com.hexaware.careercrafter.repository;
 
 import com.hexaware.careercrafter.entities.Employer;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +19,9 @@ import java.util.List;
 @Repository
 public interface EmployerRepository extends JpaRepository<Employer, Integer> {
 	
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	List<Employer> findByUserUserId(int userId);
+
+	boolean existsByEmployerIdAndUserUserId(int employerId, int userId);
 	
 }
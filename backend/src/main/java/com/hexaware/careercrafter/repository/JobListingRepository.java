@@ -1,20 +1,58 @@
 package com.hexaware.careercrafter.repository;
 
+import com.hexaware.careercrafter.dto.JobListingSummaryView;
+import com.hexaware.careercrafter.dto.ListingIndexView;
 import com.hexaware.careercrafter.entities.JobListing;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobListingRepository extends JpaRepository<JobListing, Integer>,  JpaSpecificationExecutor<JobListing> {
 
-    List<JobListing> findByEmployerEmployerId(int employerId);
-    List<JobListing> findByActiveTrue();
+    /* Query-cache region for listing reads; invalidated whenever job_listings or applications change. */
+    String LISTING_QUERY_REGION = "listing_queries";
+
+    String SUMMARY_SELECT = "SELECT j.jobListingId AS jobListingId, j.employer.employerId AS employerId, j.title AS title, " +
+            "j.description AS description, j.qualification AS qualification, j.location AS location, " +
+            "j.companyName AS companyName, j.experience AS experience, j.jobType AS jobType, j.active AS active, " +
+            "j.salary AS salary, j.postedDate AS postedDate, j.requiredSkills AS requiredSkills, " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.jobListing = j) AS totalApplicants FROM JobListing j ";
+
+    List<JobListing> findByJobListingIdGreaterThanOrderByJobListingIdAsc(int jobListingId, Pageable pageable);
+
+    List<JobListing> findByEmployerEmployerIdOrderByJobListingIdDesc(int employerId);
+
+    @Query(SUMMARY_SELECT)
+    List<JobListingSummaryView> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE j.active = true")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_QUERY_REGION)})
+    List<JobListingSummaryView> findActiveSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE j.employer.employerId = :employerId")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LISTING_QUERY_REGION)})
+    List<JobListingSummaryView> findSummariesByEmployerId(@Param("employerId") int employerId);
+
+    @Query(SUMMARY_SELECT + "WHERE j.jobListingId IN :ids")
+    List<JobListingSummaryView> findSummariesByIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT j.jobListingId AS jobListingId, j.requiredSkills AS requiredSkills, j.location AS location, j.active AS active FROM JobListing j")
+    List<ListingIndexView> findIndexViews();
 
     @Query(value = """
     	    SELECT * FROM job_listings j
@@ -27,14 +65,14 @@ public interface JobListingRepository extends JpaRepository<JobListing, Integer>
     	List<JobListing> findRecommendedJobs(@Param("skillsRegex") String skillsRegex, @Param("location") String location);
 
     
-    @Query("SELECT j FROM JobListing j WHERE " +
+    @Query(SUMMARY_SELECT + "WHERE " +
             "(:role IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :role, '%'))) AND " +
             "(:skill IS NULL OR LOWER(j.requiredSkills) LIKE LOWER(CONCAT('%', :skill, '%'))) AND " +
             "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
             "(:experience IS NULL OR j.experience <= :experience) AND " +
             "(:jobType IS NULL OR j.jobType = :jobType) AND " +
             "(j.active = true)")
-     List<JobListing> filterJobListings(
+     List<JobListingSummaryView> filterJobListings(
          @Param("role") String role,
          @Param("skill") String skill,
          @Param("location") String location,
@@ -0,0 +1,27 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.JobListingSkill;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/*
+ * Repository interface for normalized job listing skill tokens.
+ */
+
+@Repository
+public interface JobListingSkillRepository extends JpaRepository<JobListingSkill, Long> {
+
+    @Modifying
+    @Query("DELETE FROM JobListingSkill s WHERE s.jobListingId = :jobListingId")
+    int deleteByJobListingId(@Param("jobListingId") int jobListingId);
+
+    @Query("SELECT s FROM JobListingSkill s, JobListing j WHERE j.jobListingId = s.jobListingId AND j.active = true")
+    List<JobListingSkill> findAllForActiveListings();
+
+}
@@ -0,0 +1,108 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.service.JobListingCursor;
+import com.hexaware.careercrafter.service.JobListingCursor.SortField;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * Specifications for job listing searches used with JpaSpecificationExecutor.
+ * Keyset paging orders by the bare sort column then jobListingId, so (sort column, job_listing_id) indexes serve it.
+ * The sort columns are nullable; MySQL and H2 order NULL below every value, first ascending and last descending,
+ * and the cursor predicate handles null keys with explicit IS NULL branches instead of wrapping the column.
+ */
+
+public final class JobListingSpecifications {
+
+    private JobListingSpecifications() {
+    }
+
+    public static Specification<JobListing> matching(JobListingFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (hasText(filter.getRole())) {
+                predicates.add(cb.like(cb.lower(root.get("title")), contains(filter.getRole())));
+            }
+            if (hasText(filter.getSkill())) {
+                predicates.add(cb.like(cb.lower(root.get("requiredSkills")), contains(filter.getSkill())));
+            }
+            if (hasText(filter.getLocation())) {
+                predicates.add(cb.like(cb.lower(root.get("location")), contains(filter.getLocation())));
+            }
+            if (filter.getExperience() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("experience"), filter.getExperience()));
+            }
+            if (filter.getJobType() != null) {
+                predicates.add(cb.equal(root.get("jobType"), filter.getJobType()));
+            }
+            if (filter.isActiveOnly()) {
+                predicates.add(cb.isTrue(root.get("active")));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /*
+     * Orders by the sort key and id and, when a cursor is given, keeps only rows strictly after it.
+     */
+    public static Specification<JobListing> keyset(SortField sortField, boolean ascending, JobListingCursor after) {
+        return (root, query, cb) -> {
+            Path<Integer> id = root.get("jobListingId");
+            Long lastKey = after != null ? after.getSortKey() : null;
+            switch (sortField) {
+                case SALARY:
+                    return page(query, cb, root.<Integer>get("salary"),
+                            lastKey != null ? lastKey.intValue() : null, id, after, ascending);
+                case EXPERIENCE:
+                    return page(query, cb, root.<Integer>get("experience"),
+                            lastKey != null ? lastKey.intValue() : null, id, after, ascending);
+                default:
+                    return page(query, cb, root.<LocalDate>get("postedDate"),
+                            lastKey != null ? LocalDate.ofEpochDay(lastKey) : null, id, after, ascending);
+            }
+        };
+    }
+
+    /*
+     * Rows strictly after (lastKey, lastId). Null keys come first ascending, so after a null key the rest of the
+     * nulls and then every non-null row follow; descending they come last, after every non-null key.
+     */
+    private static <Y extends Comparable<? super Y>> Predicate page(CriteriaQuery<?> query, CriteriaBuilder cb,
+            Path<Y> key, Y lastKey, Path<Integer> id, JobListingCursor after, boolean ascending) {
+        if (query != null && !Long.class.equals(query.getResultType())) {
+            query.orderBy(ascending ? cb.asc(key) : cb.desc(key), ascending ? cb.asc(id) : cb.desc(id));
+        }
+        if (after == null) {
+            return cb.conjunction();
+        }
+        int lastId = after.getJobListingId();
+        Predicate laterId = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        if (lastKey == null) {
+            Predicate tieBreak = cb.and(cb.isNull(key), laterId);
+            return ascending ? cb.or(tieBreak, cb.isNotNull(key)) : tieBreak;
+        }
+        Predicate beyond = ascending ? cb.greaterThan(key, lastKey) : cb.lessThan(key, lastKey);
+        Predicate tieBreak = cb.and(cb.equal(key, lastKey), laterId);
+        return ascending ? cb.or(beyond, tieBreak) : cb.or(beyond, tieBreak, cb.isNull(key));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static String contains(String value) {
+        return "%" + value.toLowerCase(Locale.ROOT) + "%";
+    }
+}
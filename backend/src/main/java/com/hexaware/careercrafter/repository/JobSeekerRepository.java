@@ -1,10 +1,18 @@
 package com.hexaware.careercrafter.repository;
 
+import com.hexaware.careercrafter.dto.JobSeekerSummaryView;
+import com.hexaware.careercrafter.dto.SeekerContactView;
+import com.hexaware.careercrafter.dto.SeekerProfileView;
 import com.hexaware.careercrafter.entities.JobSeeker;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +25,54 @@ public interface JobSeekerRepository extends JpaRepository<JobSeeker, Integer> {
 	
 	List<JobSeeker> findByFullNameContainingIgnoreCase(String fullName);
 	Optional<JobSeeker> findByUserUserId(int userId);
+
+	@Query("SELECT js.jobSeekerId AS jobSeekerId, u.userId AS userId, u.email AS email, js.fullName AS fullName, " +
+	       "COALESCE(p.inAppEnabled, true) AS inAppEnabled, COALESCE(p.emailEnabled, true) AS emailEnabled, " +
+	       "COALESCE(p.digestEnabled, false) AS digestEnabled " +
+	       "FROM JobSeeker js JOIN js.user u LEFT JOIN NotificationPreference p ON p.userId = u.userId " +
+	       "WHERE js.jobSeekerId > :afterId ORDER BY js.jobSeekerId")
+	List<SeekerContactView> findContactsAfter(@Param("afterId") int afterId, Pageable pageable);
+
+	String PROFILE_SELECT = "SELECT js.jobSeekerId AS jobSeekerId, js.user.userId AS userId, js.fullName AS fullName, " +
+	       "js.skills AS skills, js.address AS address FROM JobSeeker js ";
+
+	@Query(PROFILE_SELECT)
+	List<SeekerProfileView> findProfileViews();
+
+	@Query(PROFILE_SELECT + "WHERE js.jobSeekerId IN :ids")
+	List<SeekerProfileView> findProfileViewsByIds(@Param("ids") Collection<Integer> ids);
+
+	/*
+	 * Profile reads take two statements whatever the number of seekers: one of these loads the seekers with their
+	 * user, education and certificates, then fetchPortfolios fills in projects and social links for the same seekers.
+	 */
+	@EntityGraph(JobSeeker.PROFILE_GRAPH)
+	@Query("SELECT js FROM JobSeeker js WHERE js.jobSeekerId = :id")
+	Optional<JobSeeker> findProfileById(@Param("id") int id);
+
+	@EntityGraph(JobSeeker.PROFILE_GRAPH)
+	@Query("SELECT js FROM JobSeeker js WHERE js.user.userId = :userId")
+	Optional<JobSeeker> findProfileByUserId(@Param("userId") int userId);
+
+	@EntityGraph(JobSeeker.PROFILE_GRAPH)
+	@Query("SELECT js FROM JobSeeker js WHERE js.jobSeekerId IN :ids")
+	List<JobSeeker> findProfilesByIds(@Param("ids") Collection<Integer> ids);
+
+	@EntityGraph(JobSeeker.PROFILE_GRAPH)
+	@Query("SELECT js FROM JobSeeker js ORDER BY js.jobSeekerId")
+	List<JobSeeker> findAllProfiles();
+
+	@EntityGraph(JobSeeker.PORTFOLIO_GRAPH)
+	@Query("SELECT js FROM JobSeeker js WHERE js IN :seekers")
+	List<JobSeeker> fetchPortfolios(@Param("seekers") Collection<JobSeeker> seekers);
+
+	@EntityGraph(JobSeeker.PORTFOLIO_GRAPH)
+	@Query("SELECT js FROM JobSeeker js")
+	List<JobSeeker> fetchAllPortfolios();
+
+	@Query("SELECT js.jobSeekerId AS jobSeekerId, js.user.userId AS userId, js.fullName AS fullName, js.email AS email, " +
+	       "js.phone AS phone, js.address AS address, js.skills AS skills, js.experience AS experience " +
+	       "FROM JobSeeker js ORDER BY js.jobSeekerId")
+	List<JobSeekerSummaryView> findSummaries();
 	
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.ListingStatusCount;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Repository interface for per-listing application status counters.
+ * Increments and decrements go through ListingStatusCounter as single atomic SQL statements.
+ */
+
+@Repository
+public interface ListingStatusCountRepository extends JpaRepository<ListingStatusCount, ListingStatusCount.Key> {
+
+    List<ListingStatusCount> findByJobListingIdIn(Collection<Integer> jobListingIds);
+
+    @Modifying
+    @Query("DELETE FROM ListingStatusCount c WHERE c.jobListingId = :jobListingId")
+    int deleteByJobListingId(@Param("jobListingId") int jobListingId);
+
+}
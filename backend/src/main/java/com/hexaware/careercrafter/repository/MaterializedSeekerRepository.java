@@ -0,0 +1,31 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.MaterializedSeeker;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Repository interface for the job seekers whose recommendations have been materialized.
+ */
+
+@Repository
+public interface MaterializedSeekerRepository extends JpaRepository<MaterializedSeeker, Integer> {
+
+    @Query("SELECT m.jobSeekerId FROM MaterializedSeeker m")
+    List<Integer> findAllIds();
+
+    @Query("SELECT m.jobSeekerId FROM MaterializedSeeker m WHERE m.jobSeekerId IN :jobSeekerIds")
+    List<Integer> findMaterializedIds(@Param("jobSeekerIds") Collection<Integer> jobSeekerIds);
+
+    @Modifying
+    @Query("DELETE FROM MaterializedSeeker m WHERE m.jobSeekerId = :jobSeekerId")
+    int deleteByJobSeekerId(@Param("jobSeekerId") int jobSeekerId);
+
+}
@@ -0,0 +1,44 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.NotificationFanoutJob;
+import com.hexaware.careercrafter.entities.NotificationFanoutJob.FanoutStatus;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * Repository interface for notification fan-out jobs.
+ */
+
+@Repository
+public interface NotificationFanoutJobRepository extends JpaRepository<NotificationFanoutJob, Long> {
+
+    Optional<NotificationFanoutJob> findByJobListingId(int jobListingId);
+    List<NotificationFanoutJob> findByStatusNot(FanoutStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob f SET f.lastSeekerId = :lastSeekerId, f.processed = f.processed + :count, " +
+           "f.updatedAt = :now WHERE f.fanoutJobId = :id")
+    int advanceCursor(@Param("id") Long id, @Param("lastSeekerId") int lastSeekerId,
+                      @Param("count") long count, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob f SET f.status = :status, f.updatedAt = :now WHERE f.fanoutJobId = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") FanoutStatus status, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob f SET f.failed = f.failed + :count WHERE f.fanoutJobId = :id")
+    int incrementFailed(@Param("id") Long id, @Param("count") long count);
+
+}
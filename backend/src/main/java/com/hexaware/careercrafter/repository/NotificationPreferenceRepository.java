@@ -0,0 +1,19 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.NotificationPreference;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/*
+ * Repository interface for notification preferences.
+ */
+
+@Repository
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Long> {
+
+    List<NotificationPreference> findByDigestEnabledTrueAndEmailEnabledTrue();
+
+}
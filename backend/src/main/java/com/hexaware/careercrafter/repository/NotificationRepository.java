@@ -1,15 +1,66 @@
 package com.hexaware.careercrafter.repository;
 
 import com.hexaware.careercrafter.entities.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 	
-    List<Notification> findByUserId(Long userId);
+    List<Notification> findByUserIdOrderByCreatedAtDescNotificationIdDesc(Long userId);
     Long countByUserIdAndIsReadFalse(Long userId);
-    boolean existsByUserIdAndTitleAndMessage(Long userId, String title, String message);
+    boolean existsByUserIdAndContentHash(Long userId, Long contentHash);
+    List<Notification> findByUserIdAndCreatedAtAfterOrderByCreatedAtDesc(Long userId, LocalDateTime since);
 
-}
\ No newline at end of file
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND (n.createdAt < :createdAt " +
+           "OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) " +
+           "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findInboxAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("notificationId") Long notificationId, Pageable pageable);
+
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n WHERE n.isRead = false AND n.userId IN :userIds GROUP BY n.userId")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false AND n.notificationId IN :ids")
+    int markReadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false AND n.createdAt < :olderThan")
+    int markReadOlderThan(@Param("userId") Long userId, @Param("olderThan") LocalDateTime olderThan);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.userId = :userId AND n.notificationId IN :ids")
+    int deleteByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.userId = :userId AND n.createdAt < :olderThan")
+    int deleteOlderThan(@Param("userId") Long userId, @Param("olderThan") LocalDateTime olderThan);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.userId = :userId")
+    int deleteAllForUser(@Param("userId") Long userId);
+
+    @Query("SELECT n.notificationId FROM Notification n WHERE n.notificationId > :afterId AND n.isRead = true " +
+           "AND n.createdAt < :cutoff ORDER BY n.notificationId")
+    List<Long> findReadIdsOlderThan(@Param("afterId") Long afterId, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.notificationId IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+}
@@ -0,0 +1,45 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.dto.RecommendationFloorView;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.SeekerRecommendation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Repository interface for materialized job seeker recommendations.
+ */
+
+@Repository
+public interface SeekerRecommendationRepository extends JpaRepository<SeekerRecommendation, Long> {
+
+    @Query("SELECT j FROM SeekerRecommendation r JOIN JobListing j ON j.jobListingId = r.jobListingId " +
+           "WHERE r.jobSeekerId = :jobSeekerId AND r.matched = true AND j.active = true " +
+           "ORDER BY r.score DESC, r.jobListingId DESC")
+    List<JobListing> findRecommendedListings(@Param("jobSeekerId") int jobSeekerId);
+
+    List<SeekerRecommendation> findByJobSeekerIdIn(Collection<Integer> jobSeekerIds);
+
+    @Query("SELECT r.jobSeekerId FROM SeekerRecommendation r WHERE r.jobListingId = :jobListingId AND r.matched = true")
+    List<Integer> findMatchedSeekerIds(@Param("jobListingId") int jobListingId);
+
+    @Query("SELECT r.jobSeekerId AS jobSeekerId, COUNT(r) AS matchedCount, MIN(r.score) AS lowestScore " +
+           "FROM SeekerRecommendation r WHERE r.matched = true AND r.jobSeekerId IN :jobSeekerIds GROUP BY r.jobSeekerId")
+    List<RecommendationFloorView> findFloors(@Param("jobSeekerIds") Collection<Integer> jobSeekerIds);
+
+    @Modifying
+    @Query("DELETE FROM SeekerRecommendation r WHERE r.jobListingId = :jobListingId")
+    int deleteByJobListingId(@Param("jobListingId") int jobListingId);
+
+    @Modifying
+    @Query("DELETE FROM SeekerRecommendation r WHERE r.jobSeekerId = :jobSeekerId")
+    int deleteByJobSeekerId(@Param("jobSeekerId") int jobSeekerId);
+
+}
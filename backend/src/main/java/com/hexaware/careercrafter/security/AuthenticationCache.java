@@ -0,0 +1,108 @@
+package com.hexaware.careercrafter.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Caches validated JWTs and loaded user details so an authenticated request needs
+ * neither a signature check nor a users lookup while both are warm.
+ * Tokens are keyed by their SHA-256 hash and never outlive their own expiry.
+ */
+
+@Component
+public class AuthenticationCache {
+
+    /*
+     * What a validated token resolved to: the user and the roles claimed in the token.
+     */
+    public static final class CachedToken {
+        private final CustomUserDetails userDetails;
+        private final List<GrantedAuthority> authorities;
+
+        public CachedToken(CustomUserDetails userDetails, List<GrantedAuthority> authorities) {
+            this.userDetails = userDetails;
+            this.authorities = authorities;
+        }
+
+        public CustomUserDetails getUserDetails() {
+            return userDetails;
+        }
+
+        public List<GrantedAuthority> getAuthorities() {
+            return authorities;
+        }
+    }
+
+    private final TtlCache<String, CachedToken> tokens;
+    private final TtlCache<String, CustomUserDetails> users;
+    private final long tokenTtlMs;
+    private final long userTtlMs;
+
+    public AuthenticationCache(@Value("${app.security.token-cache.max-size:10000}") int tokenCacheSize,
+                               @Value("${app.security.token-cache.ttl-ms:900000}") long tokenTtlMs,
+                               @Value("${app.security.user-cache.max-size:10000}") int userCacheSize,
+                               @Value("${app.security.user-cache.ttl-ms:300000}") long userTtlMs) {
+        this.tokens = new TtlCache<>(tokenCacheSize);
+        this.users = new TtlCache<>(userCacheSize);
+        this.tokenTtlMs = tokenTtlMs;
+        this.userTtlMs = userTtlMs;
+    }
+
+    public CachedToken getToken(String jwt) {
+        return tokens.get(hash(jwt));
+    }
+
+    public void putToken(String jwt, CachedToken token, long tokenExpiresAt) {
+        tokens.put(hash(jwt), token, Math.min(tokenExpiresAt, System.currentTimeMillis() + tokenTtlMs));
+    }
+
+    public CustomUserDetails getUser(String email) {
+        return users.get(email);
+    }
+
+    public void putUser(CustomUserDetails userDetails) {
+        users.put(userDetails.getUsername(), userDetails, System.currentTimeMillis() + userTtlMs);
+    }
+
+    /*
+     * Drops the user's details and every cached token resolved to them; called whenever the user row changes.
+     */
+    public void evictUser(int userId) {
+        users.invalidateIf(details -> details.getUser().getUserId() == userId);
+        tokens.invalidateIf(token -> token.getUserDetails().getUser().getUserId() == userId);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("tokens", stats(tokens));
+        stats.put("users", stats(users));
+        return stats;
+    }
+
+    private static Map<String, Long> stats(TtlCache<?, ?> cache) {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("size", (long) cache.size());
+        stats.put("hits", cache.getHits());
+        stats.put("misses", cache.getMisses());
+        stats.put("evictions", cache.getEvictions());
+        return stats;
+    }
+
+    private static String hash(String jwt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -6,70 +6,136 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+import com.hexaware.careercrafter.config.SampledDebugTurboFilter;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.slf4j.MDC;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+    /* EventSource cannot set an Authorization header, so only this endpoint accepts a single-use ?ticket= instead. */
+    private static final String STREAM_PATH = "/api/notifications/stream";
+
+    /* Correlation id taken from the caller when well-formed, otherwise generated; logged as MDC correlationId. */
+    public static final String CORRELATION_HEADER = "X-Correlation-Id";
+    public static final String CORRELATION_MDC_KEY = "correlationId";
+    private static final Pattern CORRELATION_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
     @Autowired
     private JwtUtil jwtUtil;
 
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
+
+    @Value("${app.logging.debug-sample-rate:0}")
+    private double debugSampleRate;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain chain) throws ServletException, IOException {
 
-        final String authHeader = request.getHeader("Authorization");
+        String correlationId = correlationId(request);
+        MDC.put(CORRELATION_MDC_KEY, correlationId);
+        if (debugSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < debugSampleRate) {
+            MDC.put(SampledDebugTurboFilter.SAMPLED_MDC_KEY, "true");
+        }
+        response.setHeader(CORRELATION_HEADER, correlationId);
+        try {
+            authenticate(request);
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(CORRELATION_MDC_KEY);
+            MDC.remove(SampledDebugTurboFilter.SAMPLED_MDC_KEY);
+        }
+    }
 
-        String username = null;
-        String jwt = null;
+    private void authenticate(HttpServletRequest request) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return;
+        }
+        final String authHeader = request.getHeader("Authorization");
 
+        AuthenticationCache.CachedToken token = null;
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception ex) {
-                log.warn("JWT extraction failed: {}", ex.getMessage());
+            String jwt = authHeader.substring(7);
+            token = authenticationCache.getToken(jwt);
+            if (token == null) {
+                token = validate(jwt);
+            }
+        } else if (STREAM_PATH.equals(request.getRequestURI()) && request.getParameter("ticket") != null) {
+            token = streamTicketService.redeem(request.getParameter("ticket"));
+            if (token == null) {
+                log.warn("Notification stream ticket is unknown, expired or already used");
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                Claims claims = jwtUtil.getAllClaims(jwt);
-                List<String> roles = claims.get("roles", List.class);
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                log.debug("JWT authenticated for user: {}", username);
-            } else {
-                log.warn("JWT token validation failed for user: {}", username);
-            }
+        if (token != null) {
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(token.getUserDetails(), null, token.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            log.debug("JWT authenticated for user: {}", token.getUserDetails().getUsername());
         }
+    }
 
-        chain.doFilter(request, response);
+    private static String correlationId(HttpServletRequest request) {
+        String header = request.getHeader(CORRELATION_HEADER);
+        return header != null && CORRELATION_ID.matcher(header).matches() ? header : UUID.randomUUID().toString();
+    }
+
+    /*
+     * Parses the token once, resolves its user and caches the result until the token expires.
+     */
+    private AuthenticationCache.CachedToken validate(String jwt) {
+        try {
+            Claims claims = jwtUtil.parseValidClaims(jwt);
+            CustomUserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+
+            @SuppressWarnings("unchecked")
+            List<String> roles = claims.get("roles", List.class);
+            List<GrantedAuthority> authorities = (roles != null ? roles : Collections.<String>emptyList()).stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toList());
+
+            AuthenticationCache.CachedToken token = new AuthenticationCache.CachedToken(userDetails, authorities);
+            authenticationCache.putToken(jwt, token, claims.getExpiration().getTime());
+            return token;
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.warn("JWT validation failed: {}", ex.getMessage());
+        } catch (UsernameNotFoundException ex) {
+            log.warn("JWT subject no longer exists: {}", ex.getMessage());
+        }
+        return null;
     }
 }
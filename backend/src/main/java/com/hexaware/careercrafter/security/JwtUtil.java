@@ -49,6 +49,13 @@ public class JwtUtil {
         return extractAllClaims(token);
     }
 
+    /*
+     * Verifies signature and expiry in a single parse; throws JwtException when the token is not valid.
+     */
+    public Claims parseValidClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     private Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
@@ -75,7 +82,7 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
     }
 }
@@ -1,6 +1,11 @@
 package com.hexaware.careercrafter.security;
 
+import com.hexaware.careercrafter.config.RequestMetricsFilter;
+
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,6 +33,10 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    /* Actuator's private port when management.server.port is set; its endpoints need no token there. */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -35,7 +44,10 @@ public class SecurityConfig {
           .and()
           .csrf(csrf -> csrf.disable())
           .authorizeHttpRequests(auth -> auth
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers("/api/auth/**", "/test-exceptions/**").permitAll()
+            .requestMatchers("/actuator/health", "/livez", "/readyz").permitAll()
+            .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
             .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/jobseekers", "/api/employers").permitAll()
             .requestMatchers(org.springframework.http.HttpMethod.PUT, "/api/notifications/read/**").authenticated()
             .anyRequest().authenticated())
@@ -73,7 +85,8 @@ public class SecurityConfig {
         config.setAllowCredentials(true);
         config.setAllowedOrigins(List.of("http://localhost:3000"));
         config.setAllowedHeaders(List.of("*"));
-        config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
+        config.setExposedHeaders(List.of(JwtRequestFilter.CORRELATION_HEADER, RequestMetricsFilter.QUERY_COUNT_HEADER));
         source.registerCorsConfiguration("/**", config);
         return new CorsFilter(source);
     }
@@ -0,0 +1,52 @@
+package com.hexaware.careercrafter.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+/*
+ * Single-use tickets that authenticate one notification stream request.
+ * EventSource cannot send an Authorization header, so the client trades its JWT for a ticket on an ordinary
+ * authenticated request and opens the stream with ?ticket=; the JWT never appears in a URL or an access log.
+ * A ticket is random, expires after a few seconds and is consumed by the first request that presents it.
+ * Tickets live in memory, like the stream's replay buffer, so the stream must be opened on the issuing node.
+ */
+
+@Component
+public class StreamTicketService {
+
+    private static final int TICKET_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final TtlCache<String, AuthenticationCache.CachedToken> tickets;
+    private final long ttlMillis;
+
+    public StreamTicketService(@Value("${app.notifications.stream.ticket-ttl-ms:30000}") long ttlMillis,
+                               @Value("${app.notifications.stream.ticket-max-size:10000}") int maxSize) {
+        this.tickets = new TtlCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public String issue(CustomUserDetails userDetails, List<GrantedAuthority> authorities) {
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, new AuthenticationCache.CachedToken(userDetails, authorities), System.currentTimeMillis() + ttlMillis);
+        return ticket;
+    }
+
+    /*
+     * What the ticket was issued for, or null when it is unknown, expired or already used.
+     */
+    public AuthenticationCache.CachedToken redeem(String ticket) {
+        return tickets.take(ticket);
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+}
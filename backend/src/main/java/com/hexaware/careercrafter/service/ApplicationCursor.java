@@ -0,0 +1,45 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * Keyset position within an employer's application inbox, ordered by applicationId descending.
+ * Ids are issued in submission order, so this is newest first without sorting on applicationDate.
+ * Serialized as an opaque URL-safe token like JobListingCursor.
+ */
+
+public final class ApplicationCursor {
+
+    private static final String VERSION = "v1";
+
+    private final int applicationId;
+
+    public ApplicationCursor(int applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String encode() {
+        String raw = String.join(":", VERSION, Integer.toString(applicationId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ApplicationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ApplicationCursor(Integer.parseInt(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+    }
+
+    public int getApplicationId() {
+        return applicationId;
+    }
+}
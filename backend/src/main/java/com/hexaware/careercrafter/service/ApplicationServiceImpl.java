@@ -2,13 +2,18 @@ package com.hexaware.careercrafter.service;
 
 import com.hexaware.careercrafter.dto.ApplicationDTO;
 import com.hexaware.careercrafter.dto.ApplicationDTO.ApplicationStatus;
-import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.dto.ApplyTargetView;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
+import com.hexaware.careercrafter.dto.EmployerApplicationDTO;
+import com.hexaware.careercrafter.dto.EmployerApplicationView;
 import com.hexaware.careercrafter.entities.Application;
 import com.hexaware.careercrafter.entities.JobListing;
 import com.hexaware.careercrafter.entities.JobSeeker;
+import com.hexaware.careercrafter.exception.DuplicateResourceException;
 import com.hexaware.careercrafter.exception.InvalidRequestException;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
 import com.hexaware.careercrafter.repository.ApplicationRepository;
+import com.hexaware.careercrafter.repository.EmployerRepository;
 import com.hexaware.careercrafter.repository.JobListingRepository;
 import com.hexaware.careercrafter.repository.JobSeekerRepository;
 
@@ -16,17 +21,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Timed("service.method")
 @Service
 public class ApplicationServiceImpl implements IApplicationService {
     private static final Logger logger = LoggerFactory.getLogger(ApplicationServiceImpl.class);
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
     @Autowired
     private ApplicationRepository applicationRepository;
 
@@ -37,67 +52,110 @@ public class ApplicationServiceImpl implements IApplicationService {
     private JobSeekerRepository jobSeekerRepository;
 
     @Autowired
-    private INotificationService notificationService;
+    private EmployerRepository employerRepository;
+
+    @Autowired
+    private ListingStatusCounter listingStatusCounter;
 
     @Autowired
-    private EmailService emailService;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.pagination.default-size:20}")
+    private int defaultPageSize;
 
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
+    /*
+     * The unique (job_listing_id, seeker_id) index is what rejects a second application, so a new one costs a single
+     * projection read and a single insert; only a rejected insert looks further. A retry repeating the
+     * Idempotency-Key of an earlier successful apply gets that application back instead of a 409.
+     */
     @Override
-    @Transactional
-    public ApplicationDTO applyForJob(ApplicationDTO dto) {
+    public ApplicationDTO applyForJob(ApplicationDTO dto, String idempotencyKey) {
         logger.debug("Applying for job ID {} by job seeker ID {}", dto.getJobListingId(), dto.getJobSeekerId());
 
         if (dto.getJobListingId() == 0 || dto.getJobSeekerId() == 0) {
             logger.error("Missing jobListingId or jobSeekerId");
             throw new InvalidRequestException("jobListingId and jobSeekerId are required");
         }
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new InvalidRequestException("Idempotency-Key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        int jobListingId = dto.getJobListingId();
+        int jobSeekerId = dto.getJobSeekerId();
 
-        JobListing jobListing = jobListingRepository.findById(dto.getJobListingId())
-                .orElseThrow(() -> new ResourceNotFoundException("Job listing not found with ID " + dto.getJobListingId()));
-
-        JobSeeker jobSeeker = jobSeekerRepository.findById(dto.getJobSeekerId())
-                .orElseThrow(() -> new ResourceNotFoundException("Job seeker not found with ID " + dto.getJobSeekerId()));
+        ApplyTargetView target = applicationRepository.findApplyTarget(jobListingId, jobSeekerId)
+                .orElseThrow(() -> jobListingRepository.existsById(jobListingId)
+                        ? new ResourceNotFoundException("Job seeker not found with ID " + jobSeekerId)
+                        : new ResourceNotFoundException("Job listing not found with ID " + jobListingId));
 
         Application entity = new Application();
-        entity.setJobListing(jobListing);
-        entity.setJobSeeker(jobSeeker);
+        entity.setJobListing(jobListingRepository.getReferenceById(jobListingId));
+        entity.setJobSeeker(jobSeekerRepository.getReferenceById(jobSeekerId));
         entity.setStatus(Application.ApplicationStatus.valueOf(dto.getStatus().name()));
         entity.setResumeFilePath(dto.getResumeFilePath());
-        entity.setJobTitle(jobListing.getTitle());
-        entity.setApplicantName(jobSeeker.getFullName());
-        
-        Application saved = applicationRepository.save(entity);
+        entity.setJobTitle(target.getJobTitle());
+        entity.setApplicantName(target.getApplicantName());
+        entity.setIdempotencyKey(idempotencyKey);
+
+        Application saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                Application inserted = applicationRepository.save(entity);
+                listingStatusCounter.applied(jobListingId, inserted.getStatus());
+                publishApplicationReceived(target, inserted);
+                return inserted;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            return resolveRejectedApply(jobListingId, jobSeekerId, idempotencyKey, ex);
+        }
         logger.info("Application created with ID {}", saved.getApplicationId());
+        return mapToDto(saved);
+    }
 
+    private ApplicationDTO resolveRejectedApply(int jobListingId, int jobSeekerId, String idempotencyKey,
+                                                DataIntegrityViolationException ex) {
+        if (idempotencyKey != null) {
+            Optional<Application> earlier = applicationRepository.findByJobSeekerJobSeekerIdAndIdempotencyKey(jobSeekerId, idempotencyKey);
+            if (earlier.isPresent()) {
+                if (earlier.get().getJobListing().getJobListingId() != jobListingId) {
+                    throw new InvalidRequestException("Idempotency-Key was already used to apply for job listing "
+                            + earlier.get().getJobListing().getJobListingId());
+                }
+                logger.info("Replaying application {} for a repeated Idempotency-Key", earlier.get().getApplicationId());
+                return mapToDto(earlier.get());
+            }
+        }
+        if (applicationRepository.existsByJobListingJobListingIdAndJobSeekerJobSeekerId(jobListingId, jobSeekerId)) {
+            logger.warn("Duplicate application for job listing {} by job seeker {}", jobListingId, jobSeekerId);
+            throw new DuplicateResourceException("Job seeker " + jobSeekerId + " has already applied for job listing " + jobListingId);
+        }
+        throw ex;
+    }
+
+    private void publishApplicationReceived(ApplyTargetView target, Application saved) {
         try {
-            if (jobListing.getEmployer() != null && jobListing.getEmployer().getUser() != null) {
-                Long employerUserId = Long.valueOf(jobListing.getEmployer().getUser().getUserId());
-
-                NotificationDTO notification = new NotificationDTO(
-                        employerUserId,
-                        "New Application Received",
-                        jobSeeker.getFullName() + " has applied for your job: " + jobListing.getTitle(),
-                        false,
-                        LocalDateTime.now(),
-                        Long.valueOf(jobListing.getJobListingId()),
-                        Long.valueOf(saved.getApplicationId())
-                );
-                notificationService.createNotification(notification);
-
-                emailService.sendEmail(
-                        jobListing.getEmployer().getUser().getEmail(),
-                        "New Application Received",
-                        "Hello " + jobListing.getEmployer().getFullName() +
-                                ",\n\n" + jobSeeker.getFullName() + " applied for your job '" + jobListing.getTitle() + "'. Please review it on your dashboard."
-                );
+            if (target.getEmployerUserId() != null) {
+                eventPublisher.publishEvent(NotificationEvent.builder()
+                        .userId(Long.valueOf(target.getEmployerUserId()))
+                        .recipientEmail(target.getEmployerEmail())
+                        .title("New Application Received")
+                        .message(target.getApplicantName() + " has applied for your job: " + target.getJobTitle())
+                        .emailBody("Hello " + target.getEmployerName() +
+                                ",\n\n" + target.getApplicantName() + " applied for your job '" + target.getJobTitle() + "'. Please review it on your dashboard.")
+                        .jobListingId(Long.valueOf(target.getJobListingId()))
+                        .applicationId(Long.valueOf(saved.getApplicationId()))
+                        .build());
             } else {
-                logger.warn("Cannot send notification/email: Employer or User is null for jobListingId {}", jobListing.getJobListingId());
+                logger.warn("Cannot send notification: Employer or User is null for jobListingId {}", target.getJobListingId());
             }
         } catch (Exception e) {
-            logger.error("Failed to send notification/email for jobListingId {}", jobListing.getJobListingId(), e);
+            logger.error("Failed to publish notification for jobListingId {}", target.getJobListingId(), e);
         }
-
-        return mapToDto(saved);
     }
 
     @Override
@@ -123,11 +181,48 @@ public class ApplicationServiceImpl implements IApplicationService {
                 .collect(Collectors.toList());
     }
 
+    /*
+     * Keyset page of the applications to an employer's listings, newest first, in a single joined query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<EmployerApplicationDTO> getEmployerInbox(int employerId, Integer listingId, String status,
+                                                                  String cursor, Integer size) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        Application.ApplicationStatus statusFilter = parseStatus(status);
+        ApplicationCursor after = cursor != null && !cursor.isEmpty() ? ApplicationCursor.decode(cursor) : null;
+
+        List<EmployerApplicationView> rows = applicationRepository.findEmployerInbox(employerId, listingId, statusFilter,
+                after != null ? after.getApplicationId() : null, PageRequest.of(0, pageSize + 1));
+        if (rows.isEmpty() && after == null && !employerRepository.existsById(employerId)) {
+            throw new ResourceNotFoundException("Employer not found with ID " + employerId);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<EmployerApplicationView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? new ApplicationCursor(page.get(page.size() - 1).getApplicationId()).encode() : null;
+        List<EmployerApplicationDTO> items = page.stream().map(this::mapInboxRow).collect(Collectors.toList());
+        logger.debug("Employer {} inbox page: listing={} status={} size={} returned={} hasMore={}",
+                employerId, listingId, statusFilter, pageSize, items.size(), hasMore);
+        return new CursorPageDTO<>(items, nextCursor, hasMore, items.size());
+    }
+
     @Override
     @Transactional
     public ApplicationDTO updateApplication(ApplicationDTO dto) {
-        if (!applicationRepository.existsById(dto.getApplicationId())) {
-            throw new ResourceNotFoundException("Application not found with ID " + dto.getApplicationId());
+        Application existing = applicationRepository.findForUpdate(dto.getApplicationId())
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID " + dto.getApplicationId()));
+        int previousListingId = existing.getJobListing().getJobListingId();
+        Application.ApplicationStatus previousStatus = existing.getStatus();
+        boolean pairChanged = dto.getJobListingId() != previousListingId
+                || dto.getJobSeekerId() != existing.getJobSeeker().getJobSeekerId();
+        if (pairChanged && applicationRepository.existsByJobListingJobListingIdAndJobSeekerJobSeekerId(
+                dto.getJobListingId(), dto.getJobSeekerId())) {
+            throw new DuplicateResourceException("Job seeker " + dto.getJobSeekerId()
+                    + " has already applied for job listing " + dto.getJobListingId());
         }
 
         JobListing jobListing = jobListingRepository.findById(dto.getJobListingId())
@@ -144,34 +239,28 @@ public class ApplicationServiceImpl implements IApplicationService {
         entity.setResumeFilePath(dto.getResumeFilePath());
 
         Application updated = applicationRepository.save(entity);
+        listingStatusCounter.moved(previousListingId, previousStatus, jobListing.getJobListingId(), entity.getStatus());
         logger.info("Application updated with ID {}", updated.getApplicationId());
 
         try {
             if (jobSeeker.getUser() != null) {
                 Long jobSeekerUserId = Long.valueOf(jobSeeker.getUser().getUserId());
 
-                NotificationDTO notification = new NotificationDTO(
-                        jobSeekerUserId,
-                        "Application Status Updated",
-                        "Your application for '" + jobListing.getTitle() + "' has been updated to " + dto.getStatus(),
-                        false,
-                        LocalDateTime.now(),
-                        Long.valueOf(jobListing.getJobListingId()),
-                        Long.valueOf(updated.getApplicationId())
-                );
-                notificationService.createNotification(notification);
-
-                emailService.sendEmail(
-                        jobSeeker.getEmail(),
-                        "Application Status Updated",
-                        "Hello " + jobSeeker.getFullName() +
-                                ",\n\nYour application for '" + jobListing.getTitle() + "' status changed to " + dto.getStatus() + "."
-                );
+                eventPublisher.publishEvent(NotificationEvent.builder()
+                        .userId(jobSeekerUserId)
+                        .recipientEmail(jobSeeker.getEmail())
+                        .title("Application Status Updated")
+                        .message("Your application for '" + jobListing.getTitle() + "' has been updated to " + dto.getStatus())
+                        .emailBody("Hello " + jobSeeker.getFullName() +
+                                ",\n\nYour application for '" + jobListing.getTitle() + "' status changed to " + dto.getStatus() + ".")
+                        .jobListingId(Long.valueOf(jobListing.getJobListingId()))
+                        .applicationId(Long.valueOf(updated.getApplicationId()))
+                        .build());
             } else {
-                logger.warn("Cannot send notification/email: JobSeeker User is null for applicationId {}", dto.getApplicationId());
+                logger.warn("Cannot send notification: JobSeeker User is null for applicationId {}", dto.getApplicationId());
             }
         } catch (Exception e) {
-            logger.error("Failed to send notification/email for applicationId {}", dto.getApplicationId(), e);
+            logger.error("Failed to publish notification for applicationId {}", dto.getApplicationId(), e);
         }
 
         return mapToDto(updated);
@@ -180,13 +269,43 @@ public class ApplicationServiceImpl implements IApplicationService {
     @Override
     @Transactional
     public void deleteApplication(int id) {
-        if (!applicationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Application not found with ID " + id);
-        }
-        applicationRepository.deleteById(id);
+        Application existing = applicationRepository.findForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID " + id));
+        // ListingStatusCountListener withdraws it from the listing's counters
+        applicationRepository.delete(existing);
         logger.info("Application deleted with ID {}", id);
     }
 
+    private Application.ApplicationStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return Application.ApplicationStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Unsupported application status: " + status);
+        }
+    }
+
+    private EmployerApplicationDTO mapInboxRow(EmployerApplicationView view) {
+        EmployerApplicationDTO dto = new EmployerApplicationDTO();
+        dto.setApplicationId(view.getApplicationId());
+        dto.setJobListingId(view.getJobListingId());
+        dto.setJobTitle(view.getJobTitle());
+        dto.setStatus(ApplicationStatus.valueOf(view.getStatus().name()));
+        dto.setApplicationDate(view.getApplicationDate());
+        dto.setResumeFilePath(view.getResumeFilePath());
+        dto.setJobSeekerId(view.getJobSeekerId());
+        dto.setApplicantName(view.getApplicantName());
+        dto.setEmail(view.getEmail());
+        dto.setPhone(view.getPhone());
+        dto.setSkills(view.getSkills());
+        dto.setExperience(view.getExperience());
+        dto.setAddress(view.getAddress());
+        dto.setPrimaryResumeId(view.getPrimaryResumeId());
+        return dto;
+    }
+
     private ApplicationDTO mapToDto(Application entity) {
         ApplicationDTO dto = new ApplicationDTO();
         dto.setApplicationId(entity.getApplicationId());
@@ -0,0 +1,76 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.BatchResultDTO;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+ * Loads entities for ?ids= multi-gets.
+ * Goes through Hibernate's multi-load, so ids already in the persistence context or the second-level cache are
+ * served from there, exactly as findById would, and the rest are read with one IN-list query per batch.
+ */
+
+@Component
+public class BatchLoader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.batch.max-ids:100}")
+    private int maxIds;
+
+    /*
+     * The requested ids in order with duplicates dropped, rejecting empty and oversized batches.
+     */
+    public List<Integer> distinctIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("At least one id is required");
+        }
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.contains(null)) {
+            throw new InvalidRequestException("Ids must be numbers");
+        }
+        if (distinct.size() > maxIds) {
+            throw new InvalidRequestException("At most " + maxIds + " ids can be fetched at once");
+        }
+        return distinct;
+    }
+
+    /*
+     * One entry per id in the same order, null where no entity exists.
+     */
+    @Transactional(readOnly = true)
+    public <T> List<T> load(Class<T> type, List<Integer> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(type)
+                .enableOrderedReturn(true)
+                .multiLoad(ids);
+    }
+
+    static <E, D> BatchResultDTO<D> toResult(List<Integer> ids, List<E> loaded, Function<E, D> mapper) {
+        List<D> items = new ArrayList<>(ids.size());
+        List<Integer> missingIds = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            E entity = loaded.get(i);
+            if (entity == null) {
+                missingIds.add(ids.get(i));
+            } else {
+                items.add(mapper.apply(entity));
+            }
+        }
+        return new BatchResultDTO<>(items, missingIds);
+    }
+}
@@ -0,0 +1,9 @@
+package com.hexaware.careercrafter.service;
+
+/*
+ * Channels a notification can be delivered through.
+ */
+
+public enum DeliveryChannel {
+    IN_APP, EMAIL, DIGEST
+}
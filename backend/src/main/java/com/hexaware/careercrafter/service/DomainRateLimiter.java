@@ -0,0 +1,68 @@
+package com.hexaware.careercrafter.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/*
+ * Token bucket per recipient domain, refilled continuously at a fixed rate per minute.
+ * Keeps bulk sends from tripping a provider's throttling.
+ */
+
+public class DomainRateLimiter {
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private final int perMinute;
+    private final LongSupplier clock;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public DomainRateLimiter(int perMinute) {
+        this(perMinute, System::currentTimeMillis);
+    }
+
+    DomainRateLimiter(int perMinute, LongSupplier clock) {
+        this.perMinute = perMinute;
+        this.clock = clock;
+    }
+
+    /*
+     * Takes up to requested tokens and returns how many were granted.
+     */
+    public int tryAcquire(String domain, int requested) {
+        Bucket bucket = refill(domain);
+        synchronized (bucket) {
+            int granted = (int) Math.min(requested, Math.floor(bucket.tokens));
+            bucket.tokens -= granted;
+            return granted;
+        }
+    }
+
+    /*
+     * Milliseconds until the domain has at least one token again.
+     */
+    public long millisUntilAvailable(String domain) {
+        Bucket bucket = refill(domain);
+        synchronized (bucket) {
+            return bucket.tokens >= 1 ? 0 : (long) Math.ceil((1 - bucket.tokens) * 60_000.0 / perMinute);
+        }
+    }
+
+    private Bucket refill(String domain) {
+        long now = clock.getAsLong();
+        Bucket bucket = buckets.computeIfAbsent(domain, d -> new Bucket(perMinute, now));
+        synchronized (bucket) {
+            bucket.tokens = Math.min(perMinute, bucket.tokens + (now - bucket.refilledAt) * perMinute / 60_000.0);
+            bucket.refilledAt = now;
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,202 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.EmailOutbox;
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+import com.hexaware.careercrafter.repository.EmailOutboxRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/*
+ * Drains the email outbox in the background.
+ * Each poll claims a batch of due rows under a lease (see EmailOutboxRepository.claim), so several nodes can run
+ * the dispatcher without sending the same email twice. Claimed rows are grouped by recipient domain, throttled
+ * per domain and each group is sent as one JavaMailSender.send(...) call so it shares a single SMTP connection.
+ * Groups are handed to the email executor and never awaited: the poll only claims as many groups as there are
+ * free sender slots, so the shared scheduler thread is not held up by SMTP. Failures are retried with
+ * exponential backoff until app.mail.outbox.max-attempts, after which the row is marked FAILED.
+ */
+
+@Service
+public class EmailOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    @Qualifier("emailExecutor")
+    private TaskExecutor emailExecutor;
+
+    @Value("${app.mail.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.backoff-base-ms:30000}")
+    private long backoffBaseMs;
+
+    @Value("${app.mail.outbox.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    @Value("${app.mail.outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    private final DomainRateLimiter rateLimiter;
+    private final Semaphore senderSlots;
+
+    public EmailOutboxDispatcher(@Value("${app.mail.outbox.rate-per-domain-per-minute:120}") int ratePerDomainPerMinute,
+                                 @Value("${app.notifications.email.pool-size:4}") int senders) {
+        this.rateLimiter = new DomainRateLimiter(ratePerDomainPerMinute);
+        this.senderSlots = new Semaphore(senders);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (senderSlots.availablePermits() == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = outboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        if (outboxRepository.claim(dueIds, token, now, now.plusNanos(leaseMs * 1_000_000)) == 0) {
+            return;
+        }
+        List<EmailOutbox> claimed = outboxRepository.findClaimed(token);
+
+        Map<String, List<EmailOutbox>> byDomain = claimed.stream()
+                .collect(Collectors.groupingBy(e -> domainOf(e.getRecipient()), LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<String, List<EmailOutbox>> group : byDomain.entrySet()) {
+            List<EmailOutbox> emails = group.getValue();
+            if (!senderSlots.tryAcquire()) {
+                outboxRepository.release(ids(emails), token, now);
+                continue;
+            }
+            int allowed = rateLimiter.tryAcquire(group.getKey(), emails.size());
+            if (allowed < emails.size()) {
+                List<Long> deferred = ids(emails.subList(allowed, emails.size()));
+                outboxRepository.release(deferred, token, LocalDateTime.now()
+                        .plusNanos(rateLimiter.millisUntilAvailable(group.getKey()) * 1_000_000));
+                logger.debug("Deferred {} emails to {} by rate limit", deferred.size(), group.getKey());
+            }
+            if (allowed == 0) {
+                senderSlots.release();
+                continue;
+            }
+            List<EmailOutbox> batch = emails.subList(0, allowed);
+            try {
+                emailExecutor.execute(() -> {
+                    try {
+                        sendBatch(batch, token);
+                    } finally {
+                        senderSlots.release();
+                    }
+                });
+            } catch (TaskRejectedException ex) {
+                senderSlots.release();
+                outboxRepository.release(ids(batch), token, now);
+                logger.warn("Email executor rejected a batch of {} to {}; released for the next poll", batch.size(), group.getKey());
+            }
+        }
+    }
+
+    void sendBatch(List<EmailOutbox> batch, String token) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = toMessage(batch.get(i));
+        }
+
+        Map<Object, Exception> failures = Collections.emptyMap();
+        MailException batchFailure = null;
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            failures = ex.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = ex;
+            }
+        } catch (MailException ex) {
+            batchFailure = ex;
+        }
+
+        List<Long> sent = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages[i]);
+            if (failure == null) {
+                sent.add(batch.get(i).getOutboxId());
+            } else {
+                recordFailure(batch.get(i), token, failure);
+            }
+        }
+        if (!sent.isEmpty()) {
+            outboxRepository.markSent(sent, token, LocalDateTime.now());
+        }
+        logger.debug("Email batch of {}: {} sent, {} failed", batch.size(), sent.size(), batch.size() - sent.size());
+    }
+
+    private void recordFailure(EmailOutbox email, String token, Exception failure) {
+        int attempts = email.getAttempts() + 1;
+        String error = failure.getMessage() != null && failure.getMessage().length() > 500
+                ? failure.getMessage().substring(0, 500) : failure.getMessage();
+        if (attempts >= maxAttempts) {
+            outboxRepository.recordFailure(email.getOutboxId(), token, EmailStatus.FAILED, attempts, email.getNextAttemptAt(), error);
+            logger.error("Giving up on email {} to {} after {} attempts: {}", email.getOutboxId(), email.getRecipient(), attempts, error);
+        } else {
+            long delay = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempts - 1, 20));
+            outboxRepository.recordFailure(email.getOutboxId(), token, EmailStatus.PENDING, attempts,
+                    LocalDateTime.now().plusNanos(delay * 1_000_000), error);
+            logger.warn("Email {} to {} failed (attempt {}), retrying in {} ms: {}",
+                    email.getOutboxId(), email.getRecipient(), attempts, delay, error);
+        }
+    }
+
+    private SimpleMailMessage toMessage(EmailOutbox email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(email.getRecipient());
+        message.setSubject(email.getSubject());
+        message.setText(email.getBody());
+        return message;
+    }
+
+    private static List<Long> ids(List<EmailOutbox> emails) {
+        return emails.stream().map(EmailOutbox::getOutboxId).collect(Collectors.toList());
+    }
+
+    static String domainOf(String recipient) {
+        int at = recipient.lastIndexOf('@');
+        return at >= 0 ? recipient.substring(at + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
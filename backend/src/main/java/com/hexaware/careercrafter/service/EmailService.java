@@ -1,58 +1,61 @@
 package com.hexaware.careercrafter.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
-import com.hexaware.careercrafter.repository.UserRepository;
-import com.hexaware.careercrafter.entities.User;
+import com.hexaware.careercrafter.entities.EmailOutbox;
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+import com.hexaware.careercrafter.repository.EmailOutboxRepository;
+
+import java.time.LocalDateTime;
+
+/*
+ * Queues outgoing email in the email_outbox table.
+ * The row joins the caller's transaction, so an email is only sent if the business change commits;
+ * EmailOutboxDispatcher does the SMTP work off the request thread.
+ */
 
 @Service
 public class EmailService {
 
-    @Autowired
-    private JavaMailSender mailSender;
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
     @Autowired
-    private UserRepository userRepository;
+    private EmailOutboxRepository outboxRepository;
 
     public void sendOtpEmail(String to, String subject, String description) {
-        SimpleMailMessage mailMessage = new SimpleMailMessage();
-        mailMessage.setTo(to);
-        mailMessage.setSubject(subject);
-        mailMessage.setText(description);
-        mailSender.send(mailMessage);
+        enqueue(to, subject, description);
     }
 
     public void sendPasswordResetEmail(String to, String resetLink) {
-        SimpleMailMessage mailMessage = new SimpleMailMessage();
-        mailMessage.setTo(to);
-        mailMessage.setSubject("Password Reset Request - CareerCrafter");
-        mailMessage.setText("Hi,\n\nWe received a request to reset your password. "
+        enqueue(to, "Password Reset Request - CareerCrafter", "Hi,\n\nWe received a request to reset your password. "
                 + "Please click the link below to set a new password:\n\n"
                 + resetLink
                 + "\n\nThis link will expire in 1 hour.\n\n"
                 + "If you didn’t request this, please ignore this email.");
-        mailSender.send(mailMessage);
     }
 
-    public void sendNotificationEmail(Integer userId, String subject, String message) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null && user.getEmail() != null) {
-            sendEmail(user.getEmail(), subject, message);
+    public boolean sendEmail(String toEmail, String subject, String body) {
+        if (toEmail == null || toEmail.isBlank()) {
+            logger.warn("Email '{}' not queued: no recipient", subject);
+            return false;
         }
+        enqueue(toEmail, subject, body);
+        return true;
     }
 
-    public void sendEmail(String toEmail, String subject, String body) {
-        try {
-            SimpleMailMessage mailMessage = new SimpleMailMessage();
-            mailMessage.setTo(toEmail);
-            mailMessage.setSubject(subject);
-            mailMessage.setText(body);
-            mailSender.send(mailMessage);
-        } catch (Exception e) {
-            System.err.println("Error sending email: " + e.getMessage());
-        }
+    private void enqueue(String to, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .status(EmailStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
     }
 }
@@ -11,6 +11,7 @@ import com.hexaware.careercrafter.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -21,6 +22,7 @@ import java.util.List;
  * Handles employer-related operations such as creation, retrieval, update, and deletion.
  */
 
+@Timed("service.method")
 @Service
 public class EmployerServiceImpl implements IEmployerService {
 
@@ -67,7 +69,7 @@ public class EmployerServiceImpl implements IEmployerService {
             dtoList.add(entityToDto(emp));
         }
 
-        logger.info("Fetched {} employers", dtoList.size());
+        logger.debug("Fetched {} employers", dtoList.size());
         return dtoList;
     }
 
@@ -80,7 +82,7 @@ public class EmployerServiceImpl implements IEmployerService {
 
     @Override
     public EmployerDTO getEmployerByUserId(int userId) {
-        logger.info("Fetching employer for userId: {}", userId);
+        logger.debug("Fetching employer for userId: {}", userId);
         List<Employer> employers = employerRepository.findByUserUserId(userId);
 
         Employer employer = employers.stream()
@@ -90,6 +92,11 @@ public class EmployerServiceImpl implements IEmployerService {
         return entityToDto(employer);
     }
 
+    @Override
+    public boolean isEmployerOwnedBy(int employerId, int userId) {
+        return employerRepository.existsByEmployerIdAndUserUserId(employerId, userId);
+    }
+
     @Override
     public void deleteEmployer(int id) {
         if (!employerRepository.existsById(id)) {
@@ -0,0 +1,291 @@
+package com.hexaware.careercrafter.service;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.en.EnglishMinimalStemFilter;
+import org.apache.lucene.analysis.miscellaneous.LengthFilter;
+import org.apache.lucene.analysis.pattern.PatternReplaceFilter;
+import org.apache.lucene.analysis.pattern.PatternTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Lucene index over named text fields of documents keyed by int id, stored in an FSDirectory.
+ * Quoted phrases in a query must all match; other terms are optional and scored with Lucene's BM25, boosted per field.
+ * A term found in no field is matched through a FuzzyQuery within one edit (two for long terms) at a reduced weight,
+ * which walks the terms dictionary with an automaton rather than comparing against every indexed term.
+ * Writes are visible to searches once the SearcherManager refreshes, which put and remove do before returning.
+ */
+
+public class FullTextIndex implements Closeable {
+
+    public static final String ID_FIELD = "id";
+    public static final String ID_SORT_FIELD = "id_sort";
+
+    private static final float FUZZY_WEIGHT = 0.7f;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int TWO_EDIT_LENGTH = 8;
+    private static final int FUZZY_PREFIX_LENGTH = 1;
+    private static final int FUZZY_MAX_EXPANSIONS = 50;
+    private static final Pattern PHRASE = Pattern.compile("\"([^\"]*)\"");
+
+    /*
+     * Lower-case terms split on anything but letters, digits and + # . so c++, c# and node.js stay single terms;
+     * stop words are dropped and plurals reduced.
+     */
+    static final class JobTextAnalyzer extends Analyzer {
+
+        private static final Pattern SEPARATOR = Pattern.compile("[^A-Za-z0-9+#.]+");
+        private static final Pattern EDGE_DOTS = Pattern.compile("^\\.+|\\.+$");
+        private static final CharArraySet STOP_WORDS = new CharArraySet(List.of(
+                "a", "an", "and", "are", "as", "at", "be", "by", "for", "in", "is", "of", "on", "or", "the", "to", "with"), false);
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new PatternTokenizer(SEPARATOR, -1);
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new PatternReplaceFilter(stream, EDGE_DOTS, "", true);
+            stream = new LengthFilter(stream, 1, Integer.MAX_VALUE);
+            stream = new StopFilter(stream, STOP_WORDS);
+            stream = new EnglishMinimalStemFilter(stream);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new LowerCaseFilter(in);
+        }
+    }
+
+    @FunctionalInterface
+    public interface SearchCallback<T> {
+        T search(IndexSearcher searcher) throws IOException;
+    }
+
+    private final Map<String, Float> fieldBoosts;
+    private final Analyzer analyzer = new JobTextAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public FullTextIndex(Path path, Map<String, Float> fieldBoosts) {
+        this.fieldBoosts = Map.copyOf(fieldBoosts);
+        try {
+            Files.createDirectories(path);
+            this.directory = FSDirectory.open(path);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open full-text index at " + path, ex);
+        }
+    }
+
+    /*
+     * A document holding the id and the analyzed text fields; callers add their own filter and facet fields.
+     */
+    public Document newDocument(int docId, Map<String, String> fields) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, Integer.toString(docId), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID_SORT_FIELD, docId));
+        for (String field : fieldBoosts.keySet()) {
+            String text = fields.get(field);
+            if (text != null) {
+                document.add(new TextField(field, text, Field.Store.NO));
+            }
+        }
+        return document;
+    }
+
+    public void put(int docId, Document document) {
+        try {
+            writer.updateDocument(idTerm(docId), document);
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void remove(int docId) {
+        try {
+            writer.deleteDocuments(idTerm(docId));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /*
+     * Bulk loading: clear, add every document, then commit once, which also makes them searchable.
+     * add replaces by id like put, so a listing saved while a rebuild runs is never indexed twice.
+     */
+    public void clear() {
+        try {
+            writer.deleteAll();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void add(int docId, Document document) {
+        try {
+            writer.updateDocument(idTerm(docId), document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void commit() {
+        try {
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public <T> T search(SearchCallback<T> callback) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return callback.search(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /*
+     * The relevance query for free text, or null when it has no searchable terms.
+     */
+    public Query parse(IndexSearcher searcher, String queryText) throws IOException {
+        if (queryText == null || queryText.isBlank()) {
+            return null;
+        }
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, fieldBoosts, SimpleQueryParser.PHRASE_OPERATOR);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean empty = true;
+
+        Matcher matcher = PHRASE.matcher(queryText);
+        StringBuilder rest = new StringBuilder();
+        while (matcher.find()) {
+            Query phrase = analyze(matcher.group(1)).isEmpty() ? null : parser.parse("\"" + matcher.group(1) + "\"");
+            if (phrase != null) {
+                query.add(phrase, BooleanClause.Occur.MUST);
+                empty = false;
+            }
+            matcher.appendReplacement(rest, " ");
+        }
+        matcher.appendTail(rest);
+
+        String terms = rest.toString().replace('"', ' ');
+        for (String term : new LinkedHashSet<>(analyze(terms))) {
+            query.add(termQuery(searcher, term), BooleanClause.Occur.SHOULD);
+            empty = false;
+        }
+        return empty ? null : query.build();
+    }
+
+    /*
+     * Matches documents whose field contains the analyzed text as a phrase; null when the text has no terms.
+     */
+    public Query phraseFilter(String field, String text) {
+        List<String> terms = analyze(text);
+        return terms.isEmpty() ? null : new PhraseQuery(field, terms.toArray(new String[0]));
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /*
+     * The term in every field, or fuzzy variants of it when no field contains it.
+     */
+    private Query termQuery(IndexSearcher searcher, String term) throws IOException {
+        boolean indexed = false;
+        for (String field : fieldBoosts.keySet()) {
+            if (searcher.getIndexReader().docFreq(new Term(field, term)) > 0) {
+                indexed = true;
+                break;
+            }
+        }
+        int maxEdits = term.length() >= TWO_EDIT_LENGTH ? 2 : 1;
+        boolean fuzzy = !indexed && term.length() >= MIN_FUZZY_LENGTH;
+        BooleanQuery.Builder fields = new BooleanQuery.Builder();
+        fieldBoosts.forEach((field, boost) -> {
+            Term fieldTerm = new Term(field, term);
+            Query query = fuzzy
+                    ? new BoostQuery(new FuzzyQuery(fieldTerm, maxEdits, FUZZY_PREFIX_LENGTH, FUZZY_MAX_EXPANSIONS, true),
+                            boost * FUZZY_WEIGHT)
+                    : new BoostQuery(new TermQuery(fieldTerm), boost);
+            fields.add(query, BooleanClause.Occur.SHOULD);
+        });
+        return fields.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream("", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+
+    private static Term idTerm(int docId) {
+        return new Term(ID_FIELD, Integer.toString(docId));
+    }
+}
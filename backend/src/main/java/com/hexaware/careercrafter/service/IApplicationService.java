@@ -1,6 +1,8 @@
 package com.hexaware.careercrafter.service;
 
 import com.hexaware.careercrafter.dto.ApplicationDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
+import com.hexaware.careercrafter.dto.EmployerApplicationDTO;
 
 import java.util.List;
 
@@ -10,10 +12,11 @@ import java.util.List;
 
 public interface IApplicationService {
 	
-    ApplicationDTO applyForJob(ApplicationDTO applicationDTO);
+    ApplicationDTO applyForJob(ApplicationDTO applicationDTO, String idempotencyKey);
     ApplicationDTO getApplicationById(int id);
     List<ApplicationDTO> getAllApplications();
     List<ApplicationDTO> getApplicationsByJobSeekerId(int seekerId);
+    CursorPageDTO<EmployerApplicationDTO> getEmployerInbox(int employerId, Integer listingId, String status, String cursor, Integer size);
     ApplicationDTO updateApplication(ApplicationDTO applicationDTO);
     void deleteApplication(int id);
     
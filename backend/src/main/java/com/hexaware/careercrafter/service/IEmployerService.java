@@ -13,6 +13,7 @@ public interface IEmployerService {
 	EmployerDTO createEmployer(EmployerDTO employerDTO);
     EmployerDTO getEmployerById(int id);
     EmployerDTO getEmployerByUserId(int userId);
+    boolean isEmployerOwnedBy(int employerId, int userId);
     List<EmployerDTO> getAllEmployers();
     EmployerDTO updateEmployer(EmployerDTO employerDTO);
     void deleteEmployer(int id);
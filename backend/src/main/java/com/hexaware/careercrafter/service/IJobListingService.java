@@ -1,6 +1,10 @@
 package com.hexaware.careercrafter.service;
 
+import com.hexaware.careercrafter.dto.BatchResultDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
 import com.hexaware.careercrafter.dto.JobListingDTO;
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.dto.JobSearchResultDTO;
 
 import java.util.List;
 
@@ -12,11 +16,15 @@ public interface IJobListingService {
 
     JobListingDTO createJobListing(JobListingDTO jobListingDTO);
     JobListingDTO getJobListingById(int id);
+    BatchResultDTO<JobListingDTO> getJobListingsByIds(List<Integer> ids);
     List<JobListingDTO> getAll();
     List<JobListingDTO> getActiveJobListings();
     List<JobListingDTO> getJobListingsByEmployerId(int employerId);
+    List<JobListingDTO> getEmployerJobListingsWithStatusCounts(int employerId);
     JobListingDTO updateJobListing(JobListingDTO jobListingDTO);
     void deleteJobListing(int id);
     List<JobListingDTO> filterJobListings(String role, String skill, String location, Integer experience, String jobType);
+    CursorPageDTO<JobListingDTO> searchJobListings(JobListingFilter filter, String cursor, Integer size, String sort, String direction);
+    JobSearchResultDTO searchJobListingsFullText(String query, JobListingFilter filter, Integer page, Integer size);
 
 }
@@ -11,9 +11,12 @@ import java.util.List;
 public interface IJobSeekerService {
     JobSeekerDTO createJobSeeker(JobSeekerDTO jobSeekerDTO);
     JobSeekerDTO getJobSeekerById(int id);
+    BatchResultDTO<JobSeekerDTO> getJobSeekersByIds(List<Integer> ids);
     JobSeekerDTO getJobSeekerByUserId(int userId);
     List<JobSeekerDTO> getAllJobSeekers();
+    List<JobSeekerDTO> getJobSeekerSummaries();
     JobSeekerDTO updateJobSeeker(JobSeekerDTO jobSeekerDTO);
+    JobSeekerDTO patchJobSeeker(int id, JobSeekerPatchDTO patch);
     List<JobListingDTO> getJobRecommendations(int jobSeekerId);
     void deleteJobSeeker(int id);
     
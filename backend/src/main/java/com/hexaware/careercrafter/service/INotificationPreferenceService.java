@@ -0,0 +1,14 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationPreferenceDTO;
+
+/*
+ * service interface specifying operations for notification preferences.
+ */
+
+public interface INotificationPreferenceService {
+
+    NotificationPreferenceDTO getPreferences(Long userId);
+    NotificationPreferenceDTO updatePreferences(NotificationPreferenceDTO dto);
+
+}
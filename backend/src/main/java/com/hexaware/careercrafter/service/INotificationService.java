@@ -1,6 +1,9 @@
 package com.hexaware.careercrafter.service;
 
 import java.util.List;
+import com.hexaware.careercrafter.dto.BulkNotificationRequestDTO;
+import com.hexaware.careercrafter.dto.BulkNotificationResultDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
 import com.hexaware.careercrafter.dto.NotificationDTO;
 
 public interface INotificationService {
@@ -9,7 +12,10 @@ public interface INotificationService {
     NotificationDTO markAsRead(Long id);
     NotificationDTO markAsUnread(Long id);
     void deleteNotification(Long id);
+    BulkNotificationResultDTO markAsReadBulk(Long userId, BulkNotificationRequestDTO request);
+    BulkNotificationResultDTO deleteNotificationsBulk(Long userId, BulkNotificationRequestDTO request);
     List<NotificationDTO> getNotificationsByUserId(Long userId);
+    CursorPageDTO<NotificationDTO> getInbox(Long userId, String cursor, Integer size);
     Long countUnreadNotificationsByUserId(Long userId);
 
 }
@@ -1,5 +1,6 @@
 package com.hexaware.careercrafter.service;
 
+import com.hexaware.careercrafter.dto.BatchResultDTO;
 import com.hexaware.careercrafter.dto.ResumeDTO;
 
 import java.util.List;
@@ -12,6 +13,7 @@ public interface IResumeService {
 	
     ResumeDTO uploadResume(ResumeDTO resumeDTO);
     ResumeDTO getResumeById(int id);
+    BatchResultDTO<ResumeDTO> getResumesByIds(List<Integer> ids);
     List<ResumeDTO> getResumesByJobSeekerId(int jobSeekerId);
     ResumeDTO updateResume(ResumeDTO resumeDTO);
     void deleteResume(int id);
@@ -0,0 +1,105 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/*
+ * Keyset position within a sorted job listing result: the sort key and id of the last row returned.
+ * The sort key is null when the last row had no value for the sort column.
+ * Serialized as an opaque URL-safe token so clients cannot depend on its layout.
+ */
+
+public final class JobListingCursor {
+
+    public enum SortField {
+        POSTED_DATE, SALARY, EXPERIENCE;
+
+        public static SortField from(String value) {
+            if (value == null || value.isBlank()) {
+                return POSTED_DATE;
+            }
+            switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "posteddate":
+                case "posted_date":
+                case "date":
+                    return POSTED_DATE;
+                case "salary":
+                    return SALARY;
+                case "experience":
+                    return EXPERIENCE;
+                default:
+                    throw new InvalidRequestException("Unsupported sort field: " + value);
+            }
+        }
+    }
+
+    private static final String VERSION = "v2";
+    private static final String NULL_KEY = "-";
+
+    private final SortField sortField;
+    private final boolean ascending;
+    private final Long sortKey;
+    private final int jobListingId;
+
+    public JobListingCursor(SortField sortField, boolean ascending, Long sortKey, int jobListingId) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.sortKey = sortKey;
+        this.jobListingId = jobListingId;
+    }
+
+    public static JobListingCursor after(JobListing last, SortField sortField, boolean ascending) {
+        return new JobListingCursor(sortField, ascending, sortKeyOf(last, sortField), last.getJobListingId());
+    }
+
+    static Long sortKeyOf(JobListing listing, SortField sortField) {
+        switch (sortField) {
+            case SALARY:
+                return listing.getSalary() != null ? listing.getSalary().longValue() : null;
+            case EXPERIENCE:
+                return listing.getExperience() != null ? listing.getExperience().longValue() : null;
+            default:
+                return listing.getPostedDate() != null ? listing.getPostedDate().toEpochDay() : null;
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(":", VERSION, sortField.name(), ascending ? "asc" : "desc",
+                sortKey != null ? Long.toString(sortKey) : NULL_KEY, Integer.toString(jobListingId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobListingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new JobListingCursor(SortField.valueOf(parts[1]), "asc".equals(parts[2]),
+                    NULL_KEY.equals(parts[3]) ? null : Long.valueOf(parts[3]), Integer.parseInt(parts[4]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+    }
+
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public Long getSortKey() {
+        return sortKey;
+    }
+
+    public int getJobListingId() {
+        return jobListingId;
+    }
+}
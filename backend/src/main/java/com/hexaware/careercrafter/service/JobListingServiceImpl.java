@@ -1,32 +1,47 @@
 package com.hexaware.careercrafter.service;
 
+import com.hexaware.careercrafter.dto.BatchResultDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
 import com.hexaware.careercrafter.dto.JobListingDTO;
-import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.dto.JobListingSummaryView;
+import com.hexaware.careercrafter.dto.ApplicantCountView;
+import com.hexaware.careercrafter.dto.JobSearchHitDTO;
+import com.hexaware.careercrafter.dto.JobSearchResultDTO;
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
 import com.hexaware.careercrafter.entities.Employer;
 import com.hexaware.careercrafter.entities.JobListing;
-import com.hexaware.careercrafter.entities.JobSeeker;
 import com.hexaware.careercrafter.exception.InvalidRequestException;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
+import com.hexaware.careercrafter.repository.ApplicationRepository;
 import com.hexaware.careercrafter.repository.EmployerRepository;
 import com.hexaware.careercrafter.repository.JobListingRepository;
-import com.hexaware.careercrafter.repository.JobSeekerRepository;
+import com.hexaware.careercrafter.repository.JobListingSpecifications;
+import com.hexaware.careercrafter.service.JobListingCursor.SortField;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 /*
  * Implementation of IJobListingService.
  * Implements joblisting-related operations.
  */
 
+@Timed("service.method")
 @Service
 public class JobListingServiceImpl implements IJobListingService {
 
@@ -39,13 +54,31 @@ public class JobListingServiceImpl implements IJobListingService {
     private EmployerRepository employerRepository;
 
     @Autowired
-    private JobSeekerRepository jobSeekerRepository;
+    private ApplicationRepository applicationRepository;
 
     @Autowired
-    private INotificationService notificationService;
-    
+    private NotificationFanoutService notificationFanoutService;
+
+    @Autowired
+    private SkillIndexService skillIndexService;
+
+    @Autowired
+    private JobSearchService jobSearchService;
+
+    @Autowired
+    private RecommendationMaterializer recommendationMaterializer;
+
+    @Autowired
+    private BatchLoader batchLoader;
+
     @Autowired
-    private EmailService emailService;
+    private ListingStatusCounter listingStatusCounter;
+
+    @Value("${app.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
 
     @Override
     public JobListingDTO createJobListing(JobListingDTO dto) {
@@ -65,46 +98,38 @@ public class JobListingServiceImpl implements IJobListingService {
         JobListing saved = jobListingRepository.save(entity);
         logger.info("Job listing created successfully with ID: {}", saved.getJobListingId());
 
-        List<JobSeeker> matchedSeekers = jobSeekerRepository.findAll().stream()
-            .filter(js -> true)
-            .collect(Collectors.toList());
-
-        matchedSeekers.forEach(seeker -> {
-            try {
-                notificationService.createNotification(new NotificationDTO(
-                    Long.valueOf(seeker.getUser().getUserId()),
-                    "New job posted: " + saved.getTitle(),
-                    "A new job '" + saved.getTitle() + "' matching your profile is posted.",
-                    false,
-                    LocalDateTime.now(),
-                    Long.valueOf(saved.getJobListingId()),
-                    null
-                ));
-
-                emailService.sendEmail(
-                    seeker.getUser().getEmail(),
-                    "New Job Opportunity: " + saved.getTitle(),
-                    "Hello " + seeker.getFullName() + ",\n\nA new job that matches your profile has been posted. Please check your dashboard."
-                );
-            } catch (Exception ex) {
-                logger.error("Failed to notify seeker with ID {}: {}", seeker.getJobSeekerId(), ex.getMessage());
-            }
-        });
+        skillIndexService.indexListing(saved);
+        jobSearchService.indexListing(saved);
+        recommendationMaterializer.listingChanged(saved.getJobListingId());
+        notificationFanoutService.startFanout(saved);
 
-        return mapToDTO(saved);
+        return mapToDTO(saved, 0);
     }
 
     @Override
     public JobListingDTO getJobListingById(int id) {
         JobListing jobListing = jobListingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job listing not found with ID: " + id));
-        return mapToDTO(jobListing);
+        return mapToDTO(jobListing, applicationRepository.countByJobListingJobListingId(id));
+    }
+
+    /*
+     * Listings come through the second-level cache like getJobListingById; applicant counts are one grouped query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResultDTO<JobListingDTO> getJobListingsByIds(List<Integer> requestedIds) {
+        List<Integer> ids = batchLoader.distinctIds(requestedIds);
+        List<JobListing> listings = batchLoader.load(JobListing.class, ids);
+        Map<Integer, Long> applicantCounts = countApplicants(listings.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+        return BatchLoader.toResult(ids, listings,
+                listing -> mapToDTO(listing, applicantCounts.getOrDefault(listing.getJobListingId(), 0L)));
     }
 
     @Override
     public List<JobListingDTO> getAll() {
-        return jobListingRepository.findAll()
-                .stream().map(this::mapToDTO)
+        return jobListingRepository.findAllSummaries()
+                .stream().map(this::mapSummaryToDTO)
                 .collect(Collectors.toList());
     }
 
@@ -123,56 +148,186 @@ public class JobListingServiceImpl implements IJobListingService {
         }
 
         JobListing saved = jobListingRepository.save(entity);
-        return mapToDTO(saved);
+        skillIndexService.indexListing(saved);
+        jobSearchService.indexListing(saved);
+        recommendationMaterializer.listingChanged(saved.getJobListingId());
+        return mapToDTO(saved, applicationRepository.countByJobListingJobListingId(saved.getJobListingId()));
     }
 
     @Override
+    @Transactional
     public void deleteJobListing(int id) {
         if (!jobListingRepository.existsById(id)) {
             throw new ResourceNotFoundException("Job listing not found with ID: " + id);
         }
         jobListingRepository.deleteById(id);
+        listingStatusCounter.listingRemoved(id);
+        skillIndexService.removeListing(id);
+        // the delete and its cascades flush at commit; until then the listing must stay searchable
+        AfterCommit.run(() -> jobSearchService.removeListing(id));
+        recommendationMaterializer.listingRemoved(id);
     }
 
     @Override
     public List<JobListingDTO> getActiveJobListings() {
-        return jobListingRepository.findByActiveTrue()
-                .stream().map(this::mapToDTO)
+        return jobListingRepository.findActiveSummaries()
+                .stream().map(this::mapSummaryToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<JobListingDTO> getJobListingsByEmployerId(int employerId) {
-        return jobListingRepository.findByEmployerEmployerId(employerId)
-                .stream().map(this::mapToDTO)
+        return jobListingRepository.findSummariesByEmployerId(employerId)
+                .stream().map(this::mapSummaryToDTO)
                 .collect(Collectors.toList());
     }
 
+    /*
+     * The employer's listings with application counts per status, read from listing_status_counts:
+     * two queries bounded by the employer's listing count, with no scan of applications.
+     */
     @Override
-    public List<JobListingDTO> filterJobListings(String role, String skill, String location, Integer experience, String jobType) {
-        JobListing.JobType jobTypeEnum = null;
-        try {
-            if (jobType != null && !jobType.isEmpty()) {
-                jobTypeEnum = JobListing.JobType.valueOf(jobType.toUpperCase());
-            }
-        } catch (IllegalArgumentException e) {
-            // ignore invalid jobType
+    @Transactional(readOnly = true)
+    public List<JobListingDTO> getEmployerJobListingsWithStatusCounts(int employerId) {
+        List<JobListing> listings = jobListingRepository.findByEmployerEmployerIdOrderByJobListingIdDesc(employerId);
+        if (listings.isEmpty() && !employerRepository.existsById(employerId)) {
+            throw new ResourceNotFoundException("Employer not found with ID: " + employerId);
         }
+        Map<Integer, Map<ApplicationStatus, Long>> counts = listingStatusCounter.countsFor(
+                listings.stream().map(JobListing::getJobListingId).collect(Collectors.toList()));
+        return listings.stream().map(listing -> {
+            Map<ApplicationStatus, Long> statusCounts = counts.get(listing.getJobListingId());
+            JobListingDTO dto = mapToDTO(listing, statusCounts.values().stream().mapToLong(Long::longValue).sum());
+            dto.setStatusCounts(statusCounts);
+            return dto;
+        }).collect(Collectors.toList());
+    }
 
-        List<JobListing> listings = jobListingRepository.filterJobListings(
-            role != null && !role.isEmpty() ? role : null,
-            skill != null && !skill.isEmpty() ? skill : null,
-            location != null && !location.isEmpty() ? location : null,
-            experience,
-            jobTypeEnum
+    @Override
+    public List<JobListingDTO> filterJobListings(String role, String skill, String location, Integer experience, String jobType) {
+        JobListingFilter filter = JobListingFilter.of(role, skill, location, experience, jobType, true);
+
+        List<JobListingSummaryView> listings = jobListingRepository.filterJobListings(
+            filter.getRole(),
+            filter.getSkill(),
+            filter.getLocation(),
+            filter.getExperience(),
+            filter.getJobType()
         );
 
         return listings.stream()
-                .map(this::mapToDTO)
+                .map(this::mapSummaryToDTO)
                 .collect(Collectors.toList());
     }
 
-    private JobListingDTO mapToDTO(JobListing entity) {
+    /*
+     * Keyset pagination: fetches size + 1 rows after the cursor position to know whether another page exists.
+     * A cursor carries its own sort, so a sort that disagrees with it is rejected rather than silently skipping rows.
+     */
+    @Override
+    public CursorPageDTO<JobListingDTO> searchJobListings(JobListingFilter filter, String cursor, Integer size, String sort, String direction) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        if (direction != null && !direction.equalsIgnoreCase("asc") && !direction.equalsIgnoreCase("desc")) {
+            throw new InvalidRequestException("Sort direction must be 'asc' or 'desc'");
+        }
+
+        JobListingCursor after = cursor != null && !cursor.isEmpty() ? JobListingCursor.decode(cursor) : null;
+        SortField sortField = SortField.from(sort);
+        boolean ascending = "asc".equalsIgnoreCase(direction);
+        if (after != null) {
+            if ((sort != null && sortField != after.getSortField()) || (direction != null && ascending != after.isAscending())) {
+                throw new InvalidRequestException("Cursor was issued for a different sort order");
+            }
+            sortField = after.getSortField();
+            ascending = after.isAscending();
+        }
+
+        List<JobListing> rows = jobListingRepository.findBy(
+                JobListingSpecifications.matching(filter).and(JobListingSpecifications.keyset(sortField, ascending, after)),
+                query -> query.limit(pageSize + 1).all());
+
+        boolean hasMore = rows.size() > pageSize;
+        List<JobListing> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore
+                ? JobListingCursor.after(page.get(page.size() - 1), sortField, ascending).encode()
+                : null;
+        logger.debug("Job listing page: sort={} {}, size={}, returned={}, hasMore={}",
+                sortField, ascending ? "asc" : "desc", pageSize, page.size(), hasMore);
+
+        Map<Integer, Long> applicantCounts = countApplicants(page);
+        List<JobListingDTO> items = page.stream()
+                .map(listing -> mapToDTO(listing, applicantCounts.getOrDefault(listing.getJobListingId(), 0L)))
+                .collect(Collectors.toList());
+        return new CursorPageDTO<>(items, nextCursor, hasMore, items.size());
+    }
+
+    /*
+     * Relevance-ranked search; role, skill and the other filters restrict matches without changing their scores.
+     */
+    @Override
+    public JobSearchResultDTO searchJobListingsFullText(String query, JobListingFilter filter, Integer page, Integer size) {
+        int pageSize = size != null ? size : defaultPageSize;
+        int pageNumber = page != null ? page : 0;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        if (pageNumber < 0) {
+            throw new InvalidRequestException("Page number must not be negative");
+        }
+
+        long start = System.currentTimeMillis();
+        JobSearchService.SearchHits hits = jobSearchService.search(query, filter, pageNumber * pageSize, pageSize);
+        Map<Integer, JobListingSummaryView> summaries = hits.getIds().isEmpty() ? Map.of()
+                : jobListingRepository.findSummariesByIds(hits.getIds()).stream()
+                        .collect(Collectors.toMap(JobListingSummaryView::getJobListingId, Function.identity()));
+
+        List<JobSearchHitDTO> results = new ArrayList<>();
+        for (int i = 0; i < hits.getIds().size(); i++) {
+            JobListingSummaryView summary = summaries.get(hits.getIds().get(i));
+            if (summary != null) {
+                results.add(new JobSearchHitDTO(mapSummaryToDTO(summary), hits.getScores().get(i)));
+            }
+        }
+        logger.debug("Full-text search '{}' matched {} listings in {} ms", query, hits.getTotal(), System.currentTimeMillis() - start);
+        return new JobSearchResultDTO(results, hits.getTotal(), pageNumber, pageSize,
+                hits.getJobTypeFacets(), hits.getExperienceFacets());
+    }
+
+    /*
+     * Applicant counts for a page of listings in one grouped query instead of one collection load per listing.
+     */
+    private Map<Integer, Long> countApplicants(List<JobListing> listings) {
+        if (listings.isEmpty()) {
+            return Map.of();
+        }
+        List<Integer> ids = listings.stream().map(JobListing::getJobListingId).collect(Collectors.toList());
+        return applicationRepository.countByJobListingIds(ids).stream()
+                .collect(Collectors.toMap(ApplicantCountView::getJobListingId, ApplicantCountView::getApplicantCount));
+    }
+
+    private JobListingDTO mapSummaryToDTO(JobListingSummaryView view) {
+        JobListingDTO dto = new JobListingDTO();
+        dto.setJobListingId(view.getJobListingId());
+        dto.setEmployerId(view.getEmployerId());
+        dto.setTitle(view.getTitle());
+        dto.setDescription(view.getDescription());
+        dto.setQualification(view.getQualification());
+        dto.setLocation(view.getLocation());
+        dto.setCompanyName(view.getCompanyName());
+        dto.setExperience(view.getExperience());
+        dto.setJobType(view.getJobType());
+        dto.setActive(view.isActive());
+        dto.setSalary(view.getSalary());
+        dto.setPostedDate(view.getPostedDate());
+        dto.setRequiredSkills(view.getRequiredSkills());
+        dto.setTotalApplicants((int) view.getTotalApplicants());
+        return dto;
+    }
+
+    JobListingDTO mapToDTO(JobListing entity, long totalApplicants) {
         JobListingDTO dto = new JobListingDTO();
         dto.setJobListingId(entity.getJobListingId());
         dto.setEmployerId(entity.getEmployer() != null ? entity.getEmployer().getEmployerId() : 0);
@@ -187,8 +342,7 @@ public class JobListingServiceImpl implements IJobListingService {
         dto.setSalary(entity.getSalary());
         dto.setPostedDate(entity.getPostedDate());
         dto.setRequiredSkills(entity.getRequiredSkills());
-        
-        dto.setTotalApplicants(entity.getApplications() != null ? entity.getApplications().size() : 0);
+        dto.setTotalApplicants((int) totalApplicants);
 
         return dto;
     }
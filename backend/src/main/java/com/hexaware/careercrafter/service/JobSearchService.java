@@ -0,0 +1,298 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.repository.JobListingRepository;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.util.BytesRef;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * Full-text search over job listings with BM25 relevance, phrase queries, typo tolerance
+ * and facet counts on job type and experience bucket.
+ * The Lucene index lives under app.search.index-path, is updated from the JobListingServiceImpl write paths and
+ * rebuilt from the database on startup. The path must be local to the node: Lucene holds a write lock on it.
+ * Active, role, skill, location, job type and experience restrict matches as FILTER clauses, which do not score.
+ */
+
+@Service
+public class JobSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchService.class);
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private static final List<String> EXPERIENCE_BUCKETS = List.of("0-1", "2-4", "5-9", "10+", "unspecified");
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            "title", 3.0f,
+            "requiredSkills", 2.5f,
+            "companyName", 1.5f,
+            "location", 1.5f,
+            "qualification", 1.0f,
+            "description", 1.0f);
+
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE,
+            new SortField(FullTextIndex.ID_SORT_FIELD, SortField.Type.INT, true));
+
+    /*
+     * Counts job types and experience buckets of every collected listing.
+     */
+    private static final class FacetCollector extends SimpleCollector {
+        final Map<String, Long> jobTypes = new HashMap<>();
+        final Map<String, Long> experience = new HashMap<>();
+        private SortedDocValues jobTypeValues;
+        private NumericDocValues experienceValues;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            jobTypeValues = DocValues.getSorted(context.reader(), "jobType");
+            experienceValues = DocValues.getNumeric(context.reader(), "experience");
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (jobTypeValues.advanceExact(doc)) {
+                jobTypes.merge(jobTypeValues.lookupOrd(jobTypeValues.ordValue()).utf8ToString(), 1L, Long::sum);
+            }
+            Integer years = experienceValues.advanceExact(doc) ? (int) experienceValues.longValue() : null;
+            experience.merge(experienceBucket(years), 1L, Long::sum);
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+
+    private static final class FacetCollectorManager implements CollectorManager<FacetCollector, FacetCollector> {
+
+        @Override
+        public FacetCollector newCollector() {
+            return new FacetCollector();
+        }
+
+        @Override
+        public FacetCollector reduce(Collection<FacetCollector> collectors) {
+            FacetCollector merged = new FacetCollector();
+            for (FacetCollector collector : collectors) {
+                collector.jobTypes.forEach((key, count) -> merged.jobTypes.merge(key, count, Long::sum));
+                collector.experience.forEach((key, count) -> merged.experience.merge(key, count, Long::sum));
+            }
+            return merged;
+        }
+    }
+
+    /*
+     * One page of ranked listing ids with the total match count and facet counts.
+     */
+    public static final class SearchHits {
+        private final List<Integer> ids;
+        private final List<Double> scores;
+        private final long total;
+        private final Map<String, Long> jobTypeFacets;
+        private final Map<String, Long> experienceFacets;
+
+        SearchHits(List<Integer> ids, List<Double> scores, long total,
+                   Map<String, Long> jobTypeFacets, Map<String, Long> experienceFacets) {
+            this.ids = ids;
+            this.scores = scores;
+            this.total = total;
+            this.jobTypeFacets = jobTypeFacets;
+            this.experienceFacets = experienceFacets;
+        }
+
+        public List<Integer> getIds() {
+            return ids;
+        }
+
+        public List<Double> getScores() {
+            return scores;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public Map<String, Long> getJobTypeFacets() {
+            return jobTypeFacets;
+        }
+
+        public Map<String, Long> getExperienceFacets() {
+            return experienceFacets;
+        }
+    }
+
+    private final FullTextIndex index;
+
+    @Autowired
+    private JobListingRepository jobListingRepository;
+
+    public JobSearchService(@Value("${app.search.index-path:${java.io.tmpdir}/careercrafter/job-index}") String indexPath) {
+        this.index = new FullTextIndex(Path.of(indexPath), FIELD_BOOSTS);
+    }
+
+    public void indexListing(JobListing listing) {
+        index.put(listing.getJobListingId(), document(listing));
+    }
+
+    public void removeListing(int jobListingId) {
+        index.remove(jobListingId);
+    }
+
+    /*
+     * Facets are counted over matches that pass the active, role, skill and location filters,
+     * before the job type and experience filters, so every facet value stays selectable.
+     */
+    public SearchHits search(String query, JobListingFilter filter, int offset, int limit) {
+        return index.search(searcher -> {
+            Map<String, Long> jobTypeFacets = new TreeMap<>();
+            Map<String, Long> experienceFacets = new LinkedHashMap<>();
+            EXPERIENCE_BUCKETS.forEach(bucket -> experienceFacets.put(bucket, 0L));
+
+            Query text = index.parse(searcher, query);
+            if (text == null) {
+                return new SearchHits(List.of(), List.of(), 0, jobTypeFacets, experienceFacets);
+            }
+            BooleanQuery.Builder faceted = new BooleanQuery.Builder().add(text, BooleanClause.Occur.MUST);
+            if (filter.isActiveOnly()) {
+                faceted.add(new TermQuery(new Term("active", "true")), BooleanClause.Occur.FILTER);
+            }
+            addFilter(faceted, index.phraseFilter("title", filter.getRole()));
+            addFilter(faceted, index.phraseFilter("requiredSkills", filter.getSkill()));
+            addFilter(faceted, index.phraseFilter("location", filter.getLocation()));
+            Query facetQuery = faceted.build();
+
+            BooleanQuery.Builder filtered = new BooleanQuery.Builder().add(facetQuery, BooleanClause.Occur.MUST);
+            if (filter.getJobType() != null) {
+                addFilter(filtered, new TermQuery(new Term("jobType", filter.getJobType().name())));
+            }
+            if (filter.getExperience() != null) {
+                addFilter(filtered, IntPoint.newRangeQuery("experience", Integer.MIN_VALUE, filter.getExperience()));
+            }
+            Query pageQuery = filtered.build();
+
+            FacetCollector facets = searcher.search(facetQuery, new FacetCollectorManager());
+            jobTypeFacets.putAll(facets.jobTypes);
+            experienceFacets.putAll(facets.experience);
+
+            int total = searcher.count(pageQuery);
+            List<Integer> ids = new ArrayList<>();
+            List<Double> scores = new ArrayList<>();
+            if (offset < total && limit > 0) {
+                TopFieldDocs top = searcher.search(pageQuery, offset + limit, RANKING, true);
+                for (int i = offset; i < top.scoreDocs.length; i++) {
+                    FieldDoc hit = (FieldDoc) top.scoreDocs[i];
+                    ids.add((Integer) hit.fields[1]);
+                    scores.add((double) hit.score);
+                }
+            }
+            return new SearchHits(ids, scores, total, jobTypeFacets, experienceFacets);
+        });
+    }
+
+    static String experienceBucket(Integer experience) {
+        if (experience == null) {
+            return "unspecified";
+        }
+        if (experience <= 1) {
+            return "0-1";
+        }
+        if (experience <= 4) {
+            return "2-4";
+        }
+        return experience <= 9 ? "5-9" : "10+";
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        index.clear();
+
+        int lastId = 0;
+        List<JobListing> page;
+        while (!(page = jobListingRepository.findByJobListingIdGreaterThanOrderByJobListingIdAsc(
+                lastId, PageRequest.of(0, REBUILD_PAGE_SIZE))).isEmpty()) {
+            page.forEach(listing -> index.add(listing.getJobListingId(), document(listing)));
+            lastId = page.get(page.size() - 1).getJobListingId();
+        }
+        index.commit();
+        logger.info("Full-text job index rebuilt: {} listings in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        index.close();
+    }
+
+    private Document document(JobListing listing) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("title", listing.getTitle());
+        fields.put("requiredSkills", listing.getRequiredSkills());
+        fields.put("companyName", listing.getCompanyName());
+        fields.put("location", listing.getLocation());
+        fields.put("qualification", listing.getQualification());
+        fields.put("description", listing.getDescription());
+        Document document = index.newDocument(listing.getJobListingId(), fields);
+        document.add(new StringField("active", Boolean.toString(listing.isActive()), Field.Store.NO));
+        if (listing.getJobType() != null) {
+            document.add(new StringField("jobType", listing.getJobType().name(), Field.Store.NO));
+            document.add(new SortedDocValuesField("jobType", new BytesRef(listing.getJobType().name())));
+        }
+        if (listing.getExperience() != null) {
+            document.add(new IntPoint("experience", listing.getExperience()));
+            document.add(new NumericDocValuesField("experience", listing.getExperience()));
+        }
+        return document;
+    }
+
+    private static void addFilter(BooleanQuery.Builder query, Query filter) {
+        if (filter != null) {
+            query.add(filter, BooleanClause.Occur.FILTER);
+        }
+    }
+}
@@ -4,20 +4,29 @@ import com.hexaware.careercrafter.dto.*;
 import com.hexaware.careercrafter.entities.*;
 import com.hexaware.careercrafter.exception.InvalidRequestException;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
-import com.hexaware.careercrafter.repository.JobListingRepository;
 import com.hexaware.careercrafter.repository.JobSeekerRepository;
+import com.hexaware.careercrafter.repository.SeekerRecommendationRepository;
 import com.hexaware.careercrafter.repository.UserRepository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /*
@@ -25,6 +34,7 @@ import java.util.stream.Collectors;
  * Implements jobseeker-related operations.
  */
 
+@Timed("service.method")
 @Service
 public class JobSeekerServiceImpl implements IJobSeekerService {
     private static final Logger logger = LoggerFactory.getLogger(JobSeekerServiceImpl.class);
@@ -36,13 +46,13 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
     private UserRepository userRepository;
 
     @Autowired
-    private JobListingRepository jobListingRepository;
+    private SeekerRecommendationRepository recommendationRepository;
 
     @Autowired
-    private INotificationService notificationService;
+    private RecommendationMaterializer recommendationMaterializer;
 
     @Autowired
-    private EmailService emailService;
+    private BatchLoader batchLoader;
 
     @Override
     public JobSeekerDTO createJobSeeker(JobSeekerDTO dto) {
@@ -59,52 +69,85 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
         JobSeeker jobSeeker = convertToEntity(dto, user);
         JobSeeker saved = jobSeekerRepository.save(jobSeeker);
         logger.info("Job seeker created successfully with ID: {}", saved.getJobSeekerId());
+        recommendationMaterializer.seekerChanged(saved.getJobSeekerId());
 
         return convertToDTO(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<JobSeekerDTO> getAllJobSeekers() {
         logger.debug("Fetching all job seekers from database");
-        return jobSeekerRepository.findAll()
-                .stream()
+        List<JobSeeker> seekers = jobSeekerRepository.findAllProfiles();
+        if (!seekers.isEmpty()) {
+            jobSeekerRepository.fetchAllPortfolios();
+        }
+        return seekers.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<JobSeekerDTO> getJobSeekerSummaries() {
+        return jobSeekerRepository.findSummaries()
+                .stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public JobSeekerDTO getJobSeekerById(int id) {
         logger.debug("Fetching job seeker with ID: {}", id);
-        JobSeeker jobSeeker = jobSeekerRepository.findById(id)
+        JobSeeker jobSeeker = jobSeekerRepository.findProfileById(id)
                 .orElseThrow(() -> {
                     logger.error("Job seeker not found with ID: {}", id);
                     return new ResourceNotFoundException("Job seeker not found with ID: " + id);
                 });
+        jobSeekerRepository.fetchPortfolios(List.of(jobSeeker));
         return convertToDTO(jobSeeker);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public BatchResultDTO<JobSeekerDTO> getJobSeekersByIds(List<Integer> requestedIds) {
+        List<Integer> ids = batchLoader.distinctIds(requestedIds);
+        List<JobSeeker> seekers = ids.isEmpty() ? List.of() : jobSeekerRepository.findProfilesByIds(ids);
+        if (!seekers.isEmpty()) {
+            jobSeekerRepository.fetchPortfolios(seekers);
+        }
+        Map<Integer, JobSeeker> byId = seekers.stream()
+                .collect(Collectors.toMap(JobSeeker::getJobSeekerId, Function.identity()));
+        List<JobSeeker> ordered = ids.stream().map(byId::get).collect(Collectors.toList());
+        return BatchLoader.toResult(ids, ordered, this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public JobSeekerDTO getJobSeekerByUserId(int userId) {
-        JobSeeker jobSeeker = jobSeekerRepository.findByUserUserId(userId)
+        JobSeeker jobSeeker = jobSeekerRepository.findProfileByUserId(userId)
             .orElseThrow(() -> new ResourceNotFoundException("JobSeeker not found for userId: " + userId));
+        jobSeekerRepository.fetchPortfolios(List.of(jobSeeker));
         return convertToDTO(jobSeeker);
     }
 
+    /*
+     * Full profile update. Child lists are merged into the existing rows by id, so an unchanged entry costs nothing,
+     * an edited one a single UPDATE, and only entries added or dropped are inserted or deleted.
+     */
     @Override
+    @Transactional
     public JobSeekerDTO updateJobSeeker(JobSeekerDTO dto) {
         logger.debug("Updating job seeker with ID: {}", dto.getJobSeekerId());
-        if (!jobSeekerRepository.existsById(dto.getJobSeekerId())) {
-            logger.error("Cannot update - job seeker not found with ID: {}", dto.getJobSeekerId());
-            throw new ResourceNotFoundException("Cannot update. JobSeeker not found with ID: " + dto.getJobSeekerId());
-        }
+        JobSeeker existingJobSeeker = loadForUpdate(dto.getJobSeekerId());
         User user = userRepository.findById(dto.getUserId())
                 .orElseThrow(() -> {
                     logger.error("User not found with ID: {}", dto.getUserId());
                     return new ResourceNotFoundException("User not found with ID: " + dto.getUserId());
                 });
-
-        JobSeeker existingJobSeeker = jobSeekerRepository.findById(dto.getJobSeekerId())
-                .orElseThrow(() -> new ResourceNotFoundException("JobSeeker not found with ID: " + dto.getJobSeekerId()));
+        boolean matchInputsChanged = !Objects.equals(existingJobSeeker.getSkills(), dto.getSkills())
+                || !Objects.equals(existingJobSeeker.getAddress(), dto.getAddress());
 
         existingJobSeeker.setUser(user);
         existingJobSeeker.setFullName(dto.getFullName());
@@ -117,28 +160,120 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
         existingJobSeeker.setDateOfBirth(dto.getDateOfBirth());
         existingJobSeeker.setAboutMe(dto.getAboutMe());
 
-        if(existingJobSeeker.getEducationDetails() == null) existingJobSeeker.setEducationDetails(new ArrayList<>());
-        existingJobSeeker.getEducationDetails().clear();
-        existingJobSeeker.getEducationDetails().addAll(convertEducationDTOListToEntityList(dto.getEducationDetails(), existingJobSeeker));
+        mergeChildren(existingJobSeeker,
+                Objects.requireNonNullElse(dto.getEducationDetails(), List.of()),
+                Objects.requireNonNullElse(dto.getCertificates(), List.of()),
+                Objects.requireNonNullElse(dto.getProjects(), List.of()),
+                Objects.requireNonNullElse(dto.getSocialLinks(), List.of()));
 
-        if(existingJobSeeker.getCertificates() == null) existingJobSeeker.setCertificates(new ArrayList<>());
-        existingJobSeeker.getCertificates().clear();
-        existingJobSeeker.getCertificates().addAll(convertCertificateDTOListToEntityList(dto.getCertificates(), existingJobSeeker));
+        return saveUpdated(existingJobSeeker, matchInputsChanged);
+    }
 
-        if(existingJobSeeker.getProjects() == null) existingJobSeeker.setProjects(new ArrayList<>());
-        existingJobSeeker.getProjects().clear();
-        existingJobSeeker.getProjects().addAll(convertProjectDTOListToEntityList(dto.getProjects(), existingJobSeeker));
+    /*
+     * Partial profile update: only the non-null fields of the patch are applied.
+     */
+    @Override
+    @Transactional
+    public JobSeekerDTO patchJobSeeker(int id, JobSeekerPatchDTO patch) {
+        logger.debug("Patching job seeker with ID: {}", id);
+        JobSeeker existingJobSeeker = loadForUpdate(id);
+        boolean matchInputsChanged = (patch.getSkills() != null && !patch.getSkills().equals(existingJobSeeker.getSkills()))
+                || (patch.getAddress() != null && !patch.getAddress().equals(existingJobSeeker.getAddress()));
+
+        if (patch.getFullName() != null) existingJobSeeker.setFullName(patch.getFullName());
+        if (patch.getPhone() != null) existingJobSeeker.setPhone(patch.getPhone());
+        if (patch.getAddress() != null) existingJobSeeker.setAddress(patch.getAddress());
+        if (patch.getSkills() != null) existingJobSeeker.setSkills(patch.getSkills());
+        if (patch.getExperience() != null) existingJobSeeker.setExperience(patch.getExperience());
+        if (patch.getEmail() != null) existingJobSeeker.setEmail(patch.getEmail());
+        if (patch.getGender() != null) existingJobSeeker.setGender(patch.getGender());
+        if (patch.getDateOfBirth() != null) existingJobSeeker.setDateOfBirth(patch.getDateOfBirth());
+        if (patch.getAboutMe() != null) existingJobSeeker.setAboutMe(patch.getAboutMe());
+
+        mergeChildren(existingJobSeeker, patch.getEducationDetails(), patch.getCertificates(),
+                patch.getProjects(), patch.getSocialLinks());
+
+        return saveUpdated(existingJobSeeker, matchInputsChanged);
+    }
 
-        if(existingJobSeeker.getSocialLinks() == null) existingJobSeeker.setSocialLinks(new ArrayList<>());
-        existingJobSeeker.getSocialLinks().clear();
-        existingJobSeeker.getSocialLinks().addAll(convertSocialLinkDTOListToEntityList(dto.getSocialLinks(), existingJobSeeker));
+    private JobSeeker loadForUpdate(int id) {
+        JobSeeker jobSeeker = jobSeekerRepository.findProfileById(id)
+                .orElseThrow(() -> {
+                    logger.error("Cannot update - job seeker not found with ID: {}", id);
+                    return new ResourceNotFoundException("Cannot update. JobSeeker not found with ID: " + id);
+                });
+        jobSeekerRepository.fetchPortfolios(List.of(jobSeeker));
+        return jobSeeker;
+    }
 
-        JobSeeker saved = jobSeekerRepository.save(existingJobSeeker);
+    private JobSeekerDTO saveUpdated(JobSeeker jobSeeker, boolean matchInputsChanged) {
+        JobSeeker saved = jobSeekerRepository.save(jobSeeker);
         logger.info("Job seeker with ID {} updated successfully", saved.getJobSeekerId());
+        if (matchInputsChanged) {
+            recommendationMaterializer.seekerChanged(saved.getJobSeekerId());
+        }
 
         return convertToDTO(saved);
     }
 
+    /*
+     * A null list leaves that collection untouched.
+     */
+    private void mergeChildren(JobSeeker jobSeeker, List<EducationDTO> educationDetails, List<CertificateDTO> certificates,
+                               List<ProjectDTO> projects, List<SocialLinkDTO> socialLinks) {
+        if (educationDetails != null) {
+            if (jobSeeker.getEducationDetails() == null) jobSeeker.setEducationDetails(new LinkedHashSet<>());
+            mergeById(jobSeeker.getEducationDetails(), educationDetails, "Education", Education::getId, EducationDTO::getId,
+                    dto -> convertToEducationEntity(dto, jobSeeker), this::applyEducation);
+        }
+        if (certificates != null) {
+            if (jobSeeker.getCertificates() == null) jobSeeker.setCertificates(new LinkedHashSet<>());
+            mergeById(jobSeeker.getCertificates(), certificates, "Certificate", Certificate::getId, CertificateDTO::getId,
+                    dto -> convertToCertificateEntity(dto, jobSeeker), this::applyCertificate);
+        }
+        if (projects != null) {
+            if (jobSeeker.getProjects() == null) jobSeeker.setProjects(new LinkedHashSet<>());
+            mergeById(jobSeeker.getProjects(), projects, "Project", Project::getId, ProjectDTO::getId,
+                    dto -> convertToProjectEntity(dto, jobSeeker), this::applyProject);
+        }
+        if (socialLinks != null) {
+            if (jobSeeker.getSocialLinks() == null) jobSeeker.setSocialLinks(new LinkedHashSet<>());
+            mergeById(jobSeeker.getSocialLinks(), socialLinks, "Social link", SocialLink::getId, SocialLinkDTO::getId,
+                    dto -> convertToSocialLinkEntity(dto, jobSeeker), this::applySocialLink);
+        }
+    }
+
+    /*
+     * Makes the existing rows match the incoming list. Entries with id 0 are new; a non-zero id must name one of
+     * this seeker's rows. Matched rows are updated in place, which Hibernate's dirty checking turns into an UPDATE
+     * only when a value actually changed.
+     */
+    private static <E, D> void mergeById(Set<E> existing, List<D> incoming, String label,
+                                         ToIntFunction<E> entityId, ToIntFunction<D> dtoId,
+                                         Function<D, E> create, BiConsumer<E, D> apply) {
+        Map<Integer, E> byId = existing.stream()
+                .collect(Collectors.toMap(entityId::applyAsInt, Function.identity()));
+        Set<Integer> keptIds = new HashSet<>();
+        List<E> added = new ArrayList<>();
+        for (D dto : incoming) {
+            int id = dtoId.applyAsInt(dto);
+            if (id == 0) {
+                added.add(create.apply(dto));
+                continue;
+            }
+            E entity = byId.get(id);
+            if (entity == null) {
+                throw new InvalidRequestException(label + " " + id + " does not belong to this job seeker");
+            }
+            if (!keptIds.add(id)) {
+                throw new InvalidRequestException(label + " " + id + " appears more than once");
+            }
+            apply.accept(entity, dto);
+        }
+        existing.removeIf(entity -> !keptIds.contains(entityId.applyAsInt(entity)));
+        existing.addAll(added);
+    }
+
     @Override
     public void deleteJobSeeker(int id) {
         logger.debug("Deleting job seeker with ID: {}", id);
@@ -147,59 +282,26 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
             throw new ResourceNotFoundException("Cannot delete. JobSeeker not found with ID: " + id);
         }
         jobSeekerRepository.deleteById(id);
+        recommendationMaterializer.seekerRemoved(id);
         logger.info("Job seeker with ID {} deleted successfully", id);
     }
 
+    /*
+     * Reads the materialized recommendations; RecommendationMaterializer keeps them current and notifies new matches.
+     */
     @Override
     public List<JobListingDTO> getJobRecommendations(int jobSeekerId) {
         logger.debug("Fetching job recommendations for job seeker ID: {}", jobSeekerId);
-        JobSeeker jobSeeker = jobSeekerRepository.findById(jobSeekerId)
-                .orElseThrow(() -> new ResourceNotFoundException("JobSeeker not found with ID: " + jobSeekerId));
-
-        if (jobSeeker.getSkills() == null || jobSeeker.getSkills().isEmpty()) {
-            logger.info("Job seeker has no skills listed, returning empty recommendation list");
-            return Collections.emptyList();
+        List<JobListing> recommended = recommendationRepository.findRecommendedListings(jobSeekerId);
+        if (recommended.isEmpty() && !jobSeekerRepository.existsById(jobSeekerId)) {
+            throw new ResourceNotFoundException("JobSeeker not found with ID: " + jobSeekerId);
         }
-
-        String[] seekerSkills = jobSeeker.getSkills().toLowerCase().split(",\\s*");
-        String skillsRegex = String.join("|", seekerSkills);
-        String location = jobSeeker.getAddress() != null ? jobSeeker.getAddress().toLowerCase() : "";
-        List<JobListing> matchedJobs = jobListingRepository.findRecommendedJobs(skillsRegex, location);
-
-        matchedJobs.forEach(job -> {
-            try {
-                if (jobSeeker.getUser() != null) {
-                    Long jobSeekerUserId = Long.valueOf(jobSeeker.getUser().getUserId());
-                    NotificationDTO notification = new NotificationDTO(
-                            jobSeekerUserId,
-                            "Job Recommendation: " + job.getTitle(),
-                            "A new job matching your profile: " + job.getTitle(),
-                            false,
-                            LocalDateTime.now(),
-                            Long.valueOf(job.getJobListingId()),
-                            null
-                    );
-                    notificationService.createNotification(notification);
-
-                    emailService.sendEmail(
-                            jobSeeker.getUser().getEmail(),
-                            "New Job Recommendation",
-                            "Hello " + jobSeeker.getFullName() + ",\n\nA new job matching your profile has been posted: " + job.getTitle()
-                    );
-                } else {
-                    logger.warn("Cannot send notification/email: JobSeeker User is null for jobSeekerId {}", jobSeekerId);
-                }
-            } catch (Exception e) {
-                logger.error("Failed to send notification/email for jobSeekerId {} and jobListingId {}", jobSeekerId, job.getJobListingId(), e);
-            }
-        });
-
-        return matchedJobs.stream()
+        return recommended.stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
-    private JobListingDTO mapToDTO(JobListing jobListing) {
+    JobListingDTO mapToDTO(JobListing jobListing) {
         JobListingDTO dto = new JobListingDTO();
         dto.setJobListingId(jobListing.getJobListingId());
         dto.setEmployerId(jobListing.getEmployer() != null ? jobListing.getEmployer().getEmployerId() : 0);
@@ -237,7 +339,7 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
         return jobSeeker;
     }
 
-    private JobSeekerDTO convertToDTO(JobSeeker jobSeeker) {
+    JobSeekerDTO convertToDTO(JobSeeker jobSeeker) {
         JobSeekerDTO dto = new JobSeekerDTO();
         dto.setJobSeekerId(jobSeeker.getJobSeekerId());
         dto.setUserId(jobSeeker.getUser().getUserId());
@@ -257,6 +359,19 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
         return dto;
     }
 
+    private JobSeekerDTO convertToSummaryDTO(JobSeekerSummaryView view) {
+        JobSeekerDTO dto = new JobSeekerDTO();
+        dto.setJobSeekerId(view.getJobSeekerId());
+        dto.setUserId(view.getUserId());
+        dto.setFullName(view.getFullName());
+        dto.setEmail(view.getEmail());
+        dto.setPhone(view.getPhone());
+        dto.setAddress(view.getAddress());
+        dto.setSkills(view.getSkills());
+        dto.setExperience(view.getExperience());
+        return dto;
+    }
+
     private EducationDTO convertToEducationDTO(Education entity) {
         EducationDTO dto = new EducationDTO();
         dto.setId(entity.getId());
@@ -272,26 +387,30 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
     private Education convertToEducationEntity(EducationDTO dto, JobSeeker jobSeeker) {
         Education entity = new Education();
         entity.setId(dto.getId());
+        applyEducation(entity, dto);
+        entity.setJobSeeker(jobSeeker);
+        return entity;
+    }
+
+    private void applyEducation(Education entity, EducationDTO dto) {
         entity.setLevel(dto.getLevel());
         entity.setInstitutionName(dto.getInstitutionName());
         entity.setStream(dto.getStream());
         entity.setStartYear(dto.getStartYear());
         entity.setEndYear(dto.getEndYear());
         entity.setLocation(dto.getLocation());
-        entity.setJobSeeker(jobSeeker);
-        return entity;
     }
 
-    private List<EducationDTO> convertEducationEntityListToDTOList(List<Education> entities) {
+    private List<EducationDTO> convertEducationEntityListToDTOList(Collection<Education> entities) {
         return entities == null ? null : entities.stream()
             .map(this::convertToEducationDTO)
             .collect(Collectors.toList());
     }
 
-    private List<Education> convertEducationDTOListToEntityList(List<EducationDTO> dtos, JobSeeker jobSeeker) {
+    private Set<Education> convertEducationDTOListToEntityList(List<EducationDTO> dtos, JobSeeker jobSeeker) {
         return dtos == null ? null : dtos.stream()
             .map(dto -> convertToEducationEntity(dto, jobSeeker))
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     private CertificateDTO convertToCertificateDTO(Certificate entity) {
@@ -307,24 +426,28 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
     private Certificate convertToCertificateEntity(CertificateDTO dto, JobSeeker jobSeeker) {
         Certificate entity = new Certificate();
         entity.setId(dto.getId());
+        applyCertificate(entity, dto);
+        entity.setJobSeeker(jobSeeker);
+        return entity;
+    }
+
+    private void applyCertificate(Certificate entity, CertificateDTO dto) {
         entity.setCertificateName(dto.getCertificateName());
         entity.setOrganization(dto.getOrganization());
         entity.setStartDate(dto.getStartDate());
         entity.setEndDate(dto.getEndDate());
-        entity.setJobSeeker(jobSeeker);
-        return entity;
     }
 
-    private List<CertificateDTO> convertCertificateEntityListToDTOList(List<Certificate> entities) {
+    private List<CertificateDTO> convertCertificateEntityListToDTOList(Collection<Certificate> entities) {
         return entities == null ? null : entities.stream()
             .map(this::convertToCertificateDTO)
             .collect(Collectors.toList());
     }
 
-    private List<Certificate> convertCertificateDTOListToEntityList(List<CertificateDTO> dtos, JobSeeker jobSeeker) {
+    private Set<Certificate> convertCertificateDTOListToEntityList(List<CertificateDTO> dtos, JobSeeker jobSeeker) {
         return dtos == null ? null : dtos.stream()
             .map(dto -> convertToCertificateEntity(dto, jobSeeker))
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     private ProjectDTO convertToProjectDTO(Project entity) {
@@ -339,23 +462,27 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
     private Project convertToProjectEntity(ProjectDTO dto, JobSeeker jobSeeker) {
         Project entity = new Project();
         entity.setId(dto.getId());
+        applyProject(entity, dto);
+        entity.setJobSeeker(jobSeeker);
+        return entity;
+    }
+
+    private void applyProject(Project entity, ProjectDTO dto) {
         entity.setProjectName(dto.getProjectName());
         entity.setDescription(dto.getDescription());
         entity.setLink(dto.getLink());
-        entity.setJobSeeker(jobSeeker);
-        return entity;
     }
 
-    private List<ProjectDTO> convertProjectEntityListToDTOList(List<Project> entities) {
+    private List<ProjectDTO> convertProjectEntityListToDTOList(Collection<Project> entities) {
         return entities == null ? null : entities.stream()
             .map(this::convertToProjectDTO)
             .collect(Collectors.toList());
     }
 
-    private List<Project> convertProjectDTOListToEntityList(List<ProjectDTO> dtos, JobSeeker jobSeeker) {
+    private Set<Project> convertProjectDTOListToEntityList(List<ProjectDTO> dtos, JobSeeker jobSeeker) {
         return dtos == null ? null : dtos.stream()
             .map(dto -> convertToProjectEntity(dto, jobSeeker))
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     private SocialLinkDTO convertToSocialLinkDTO(SocialLink entity) {
@@ -369,21 +496,25 @@ public class JobSeekerServiceImpl implements IJobSeekerService {
     private SocialLink convertToSocialLinkEntity(SocialLinkDTO dto, JobSeeker jobSeeker) {
         SocialLink entity = new SocialLink();
         entity.setId(dto.getId());
-        entity.setPlatform(dto.getPlatform());
-        entity.setUrl(dto.getUrl());
+        applySocialLink(entity, dto);
         entity.setJobSeeker(jobSeeker);
         return entity;
     }
 
-    private List<SocialLinkDTO> convertSocialLinkEntityListToDTOList(List<SocialLink> entities) {
+    private void applySocialLink(SocialLink entity, SocialLinkDTO dto) {
+        entity.setPlatform(dto.getPlatform());
+        entity.setUrl(dto.getUrl());
+    }
+
+    private List<SocialLinkDTO> convertSocialLinkEntityListToDTOList(Collection<SocialLink> entities) {
         return entities == null ? null : entities.stream()
             .map(this::convertToSocialLinkDTO)
             .collect(Collectors.toList());
     }
 
-    private List<SocialLink> convertSocialLinkDTOListToEntityList(List<SocialLinkDTO> dtos, JobSeeker jobSeeker) {
+    private Set<SocialLink> convertSocialLinkDTOListToEntityList(List<SocialLinkDTO> dtos, JobSeeker jobSeeker) {
         return dtos == null ? null : dtos.stream()
             .map(dto -> convertToSocialLinkEntity(dto, jobSeeker))
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 }
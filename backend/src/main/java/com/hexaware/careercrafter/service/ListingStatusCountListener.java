@@ -0,0 +1,26 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.Application;
+
+import jakarta.persistence.PreRemove;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/*
+ * Withdraws an application from listing_status_counts whenever it is removed, including removals cascaded from a
+ * deleted job seeker, employer or listing, in the same transaction as the delete.
+ * Hibernate creates it through Spring; the counter is looked up lazily so JPA slice tests without it still load.
+ */
+
+public class ListingStatusCountListener {
+
+    @Autowired
+    private ObjectProvider<ListingStatusCounter> listingStatusCounter;
+
+    @PreRemove
+    public void removed(Application application) {
+        listingStatusCounter.ifAvailable(counter ->
+                counter.withdrawn(application.getJobListing().getJobListingId(), application.getStatus()));
+    }
+}
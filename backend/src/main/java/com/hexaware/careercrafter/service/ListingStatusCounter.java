@@ -0,0 +1,146 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
+import com.hexaware.careercrafter.entities.ListingStatusCount;
+import com.hexaware.careercrafter.repository.ListingStatusCountRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Maintains listing_status_counts, the number of applications per (job listing, status).
+ * Each change is a single-row atomic upsert or decrement that runs in the caller's transaction, so a counter
+ * commits or rolls back together with the application change it reflects. Counter updates go through JDBC
+ * rather than JPA bulk statements so they do not invalidate the second-level cache.
+ * Deletes, cascaded ones included, are withdrawn by ListingStatusCountListener. A periodic reconciliation
+ * recounts the counters that disagree with applications, such as after rows were deleted outside JPA.
+ */
+
+@Service
+public class ListingStatusCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingStatusCounter.class);
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO listing_status_counts (job_listing_id, status, application_count) VALUES (?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE application_count = application_count + 1";
+
+    private static final String DECREMENT_SQL =
+            "UPDATE listing_status_counts SET application_count = application_count - 1 " +
+            "WHERE job_listing_id = ? AND status = ? AND application_count > 0";
+
+    private static final String DRIFT_SQL =
+            "SELECT a.job_listing_id, a.status FROM " +
+            "(SELECT job_listing_id, status, COUNT(*) AS n FROM applications GROUP BY job_listing_id, status) a " +
+            "LEFT JOIN listing_status_counts c ON c.job_listing_id = a.job_listing_id AND c.status = a.status " +
+            "WHERE c.application_count IS NULL OR c.application_count <> a.n " +
+            "UNION SELECT c.job_listing_id, c.status FROM listing_status_counts c WHERE c.application_count > 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM applications a WHERE a.job_listing_id = c.job_listing_id AND a.status = c.status)";
+
+    private static final String RECOUNT_SQL =
+            "INSERT INTO listing_status_counts (job_listing_id, status, application_count) " +
+            "SELECT ?, ?, COUNT(*) FROM applications WHERE job_listing_id = ? AND status = ? " +
+            "ON DUPLICATE KEY UPDATE application_count = VALUES(application_count)";
+
+    private static final String BACKFILL_SQL =
+            "INSERT INTO listing_status_counts (job_listing_id, status, application_count) " +
+            "SELECT job_listing_id, status, COUNT(*) FROM applications GROUP BY job_listing_id, status";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ListingStatusCountRepository countRepository;
+
+    public void applied(int jobListingId, ApplicationStatus status) {
+        jdbcTemplate.update(INCREMENT_SQL, jobListingId, status.name());
+    }
+
+    public void withdrawn(int jobListingId, ApplicationStatus status) {
+        jdbcTemplate.update(DECREMENT_SQL, jobListingId, status.name());
+    }
+
+    /*
+     * Moves one application between counters. The two rows are always touched in key order so that
+     * opposite moves running concurrently cannot deadlock on each other.
+     */
+    public void moved(int fromListingId, ApplicationStatus from, int toListingId, ApplicationStatus to) {
+        if (fromListingId == toListingId && from == to) {
+            return;
+        }
+        boolean decrementFirst = fromListingId != toListingId ? fromListingId < toListingId : from.compareTo(to) < 0;
+        if (decrementFirst) {
+            withdrawn(fromListingId, from);
+            applied(toListingId, to);
+        } else {
+            applied(toListingId, to);
+            withdrawn(fromListingId, from);
+        }
+    }
+
+    public void listingRemoved(int jobListingId) {
+        countRepository.deleteByJobListingId(jobListingId);
+    }
+
+    /*
+     * Counts for each requested listing, with every status present and zero where no application is in it.
+     */
+    public Map<Integer, Map<ApplicationStatus, Long>> countsFor(Collection<Integer> jobListingIds) {
+        Map<Integer, Map<ApplicationStatus, Long>> counts = new HashMap<>();
+        for (Integer jobListingId : jobListingIds) {
+            Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                byStatus.put(status, 0L);
+            }
+            counts.put(jobListingId, byStatus);
+        }
+        if (!jobListingIds.isEmpty()) {
+            for (ListingStatusCount row : countRepository.findByJobListingIdIn(jobListingIds)) {
+                counts.get(row.getJobListingId()).put(row.getStatus(), row.getApplicationCount());
+            }
+        }
+        return counts;
+    }
+
+    /*
+     * Seeds the counters from applications when the table is empty, e.g. on the first start after it was added.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (countRepository.count() > 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int rows = jdbcTemplate.update(BACKFILL_SQL);
+        logger.info("Backfilled {} listing status counters in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    /*
+     * Finds drifted counters with one read, then recounts each from applications in its own statement,
+     * so live increments and decrements are never blocked for the whole scan.
+     */
+    @Scheduled(cron = "${app.applications.status-counts.reconcile.cron:0 15 4 * * *}")
+    public void reconcile() {
+        List<Object[]> drifted = jdbcTemplate.query(DRIFT_SQL,
+                (rs, rowNum) -> new Object[] {rs.getInt(1), rs.getString(2)});
+        for (Object[] key : drifted) {
+            jdbcTemplate.update(RECOUNT_SQL, key[0], key[1], key[0], key[1]);
+        }
+        if (!drifted.isEmpty()) {
+            logger.info("Listing status counters reconciled: {} corrected", drifted.size());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.hexaware.careercrafter.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/*
+ * 64-bit content hash identifying a notification by user, title and message.
+ * Taken from the first 8 bytes of SHA-256, so it is stable across JVMs and safe to store.
+ * Uniqueness is enforced per user, where a collision among one user's notifications is negligible.
+ */
+
+public final class NotificationContentHash {
+
+    private NotificationContentHash() {
+    }
+
+    public static long of(Long userId, String title, String message) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(userId).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(title).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(message).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
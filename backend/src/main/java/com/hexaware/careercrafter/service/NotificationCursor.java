@@ -0,0 +1,60 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.Notification;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/*
+ * Keyset position within a user's inbox, ordered by createdAt then notificationId, both descending.
+ * Serialized as an opaque URL-safe token like JobListingCursor.
+ */
+
+public final class NotificationCursor {
+
+    private static final String VERSION = "v1";
+
+    private final LocalDateTime createdAt;
+    private final long notificationId;
+
+    public NotificationCursor(LocalDateTime createdAt, long notificationId) {
+        this.createdAt = createdAt;
+        this.notificationId = notificationId;
+    }
+
+    public static NotificationCursor after(Notification last) {
+        return new NotificationCursor(last.getCreatedAt(), last.getNotificationId());
+    }
+
+    public String encode() {
+        String raw = String.join(":", VERSION, Long.toString(createdAt.toEpochSecond(ZoneOffset.UTC)),
+                Integer.toString(createdAt.getNano()), Long.toString(notificationId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(Long.parseLong(parts[1]), Integer.parseInt(parts[2]), ZoneOffset.UTC);
+            return new NotificationCursor(createdAt, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getNotificationId() {
+        return notificationId;
+    }
+}
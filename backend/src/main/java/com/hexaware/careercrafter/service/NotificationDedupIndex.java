@@ -0,0 +1,132 @@
+package com.hexaware.careercrafter.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/*
+ * Duplicate detection for notifications.
+ * The unique (user_id, content_hash) index is the source of truth; a Bloom filter of recently inserted hashes sits
+ * in front of it so that the common non-duplicate insert skips the existence check.
+ * On startup, rows written before content_hash existed are backfilled and the filter is warmed with recent hashes.
+ */
+
+@Service
+public class NotificationDedupIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDedupIndex.class);
+
+    private static final String SELECT_UNHASHED_SQL =
+            "SELECT notification_id, user_id, title, message FROM notifications " +
+            "WHERE content_hash IS NULL AND notification_id > ? ORDER BY notification_id LIMIT ?";
+
+    private static final String UPDATE_HASH_SQL = "UPDATE notifications SET content_hash = ? WHERE notification_id = ?";
+
+    private static final String SELECT_RECENT_HASHES_SQL =
+            "SELECT content_hash FROM notifications WHERE content_hash IS NOT NULL ORDER BY notification_id DESC LIMIT ?";
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final RecentHashFilter filter;
+    private final int expectedEntries;
+
+    private final AtomicLong filterNegatives = new AtomicLong();
+    private final AtomicLong filterPositives = new AtomicLong();
+    private final AtomicLong duplicatesRejected = new AtomicLong();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public NotificationDedupIndex(@Value("${app.notifications.dedup.expected-entries:1000000}") int expectedEntries,
+                                  @Value("${app.notifications.dedup.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.filter = new RecentHashFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /*
+     * false means the hash was certainly not inserted recently; true means the unique index has to decide.
+     */
+    public boolean mightBeDuplicate(long hash) {
+        boolean maybe = filter.mightContain(hash);
+        (maybe ? filterPositives : filterNegatives).incrementAndGet();
+        return maybe;
+    }
+
+    public void record(long hash) {
+        filter.add(hash);
+    }
+
+    public void recordRejected() {
+        duplicatesRejected.incrementAndGet();
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("filterNegatives", filterNegatives.get());
+        stats.put("filterPositives", filterPositives.get());
+        stats.put("duplicatesRejected", duplicatesRejected.get());
+        stats.put("filterBits", (long) filter.getBitCount());
+        stats.put("filterHashes", (long) filter.getHashCount());
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long start = System.currentTimeMillis();
+        long backfilled = backfill();
+        long[] warmed = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_RECENT_HASHES_SQL);
+            statement.setInt(1, expectedEntries);
+            statement.setFetchSize(BACKFILL_BATCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            filter.add(rs.getLong(1));
+            warmed[0]++;
+        });
+        logger.info("Notification dedup index ready: {} rows backfilled, {} hashes loaded in {} ms",
+                backfilled, warmed[0], System.currentTimeMillis() - start);
+    }
+
+    long backfill() {
+        long total = 0;
+        long afterId = 0;
+        List<Object[]> rows;
+        while (!(rows = jdbcTemplate.query(SELECT_UNHASHED_SQL, (rs, i) -> new Object[] {
+                rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4)}, afterId, BACKFILL_BATCH_SIZE)).isEmpty()) {
+            List<Object[]> updates = rows.stream()
+                    .map(row -> new Object[] {NotificationContentHash.of((Long) row[1], (String) row[2], (String) row[3]), row[0]})
+                    .collect(Collectors.toList());
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_HASH_SQL, updates);
+            } catch (DataIntegrityViolationException ex) {
+                // legacy duplicates: hash each row on its own and leave the repeats unhashed
+                for (Object[] update : updates) {
+                    try {
+                        jdbcTemplate.update(UPDATE_HASH_SQL, update);
+                    } catch (DataIntegrityViolationException duplicate) {
+                        logger.debug("Notification {} duplicates an earlier notification; left unhashed", update[1]);
+                    }
+                }
+            }
+            total += rows.size();
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,58 @@
+package com.hexaware.careercrafter.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Counts notification deliveries per channel, plus events received and digest emails sent.
+ */
+
+@Component
+public class NotificationDeliveryMetrics {
+
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong digestEmails = new AtomicLong();
+    private final Map<DeliveryChannel, AtomicLong> deliveries = new EnumMap<>(DeliveryChannel.class);
+
+    public NotificationDeliveryMetrics() {
+        for (DeliveryChannel channel : DeliveryChannel.values()) {
+            deliveries.put(channel, new AtomicLong());
+        }
+    }
+
+    public void recordEvent() {
+        events.incrementAndGet();
+    }
+
+    public void recordDelivery(DeliveryChannel channel, long count) {
+        deliveries.get(channel).addAndGet(count);
+    }
+
+    public void recordDigestEmail() {
+        digestEmails.incrementAndGet();
+    }
+
+    public long getEvents() {
+        return events.get();
+    }
+
+    public long getDigestEmails() {
+        return digestEmails.get();
+    }
+
+    public long getDeliveries(DeliveryChannel channel) {
+        return deliveries.get(channel).get();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        snapshot.put("events", events.get());
+        deliveries.forEach((channel, count) -> snapshot.put(channel.name().toLowerCase(), count.get()));
+        snapshot.put("digestEmails", digestEmails.get());
+        return snapshot;
+    }
+}
@@ -0,0 +1,120 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.entities.Notification;
+import com.hexaware.careercrafter.entities.NotificationPreference;
+import com.hexaware.careercrafter.entities.User;
+import com.hexaware.careercrafter.repository.NotificationPreferenceRepository;
+import com.hexaware.careercrafter.repository.NotificationRepository;
+import com.hexaware.careercrafter.repository.UserRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Single delivery pipeline for user notifications.
+ * Each NotificationEvent is turned into one delivery plan from the user's preferences and executed inside the
+ * publishing transaction, just before it commits, so the notification row and the outbox email commit or roll back
+ * with the business change and no crash between the two can lose an email:
+ * IN_APP stores a notification row, EMAIL queues one outbox email, DIGEST leaves the row for the periodic digest email.
+ * An event whose notification row already exists is a duplicate and is not emailed again.
+ */
+
+@Service
+public class NotificationDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDeliveryService.class);
+
+    @Autowired
+    private INotificationService notificationService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private NotificationPreferenceRepository preferenceRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationDeliveryMetrics metrics;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onNotificationEvent(NotificationEvent event) {
+        deliver(event);
+    }
+
+    void deliver(NotificationEvent event) {
+        metrics.recordEvent();
+        NotificationPreference preference = preferenceRepository.findById(event.getUserId())
+                .orElseGet(() -> NotificationPreference.defaultsFor(event.getUserId()));
+        Set<DeliveryChannel> plan = planFor(preference);
+
+        if (plan.contains(DeliveryChannel.IN_APP) || plan.contains(DeliveryChannel.DIGEST)) {
+            NotificationDTO created = notificationService.createNotification(new NotificationDTO(event.getUserId(),
+                    event.getTitle(), event.getMessage(), false, LocalDateTime.now(), event.getJobListingId(), event.getApplicationId()));
+            if (created == null) {
+                logger.debug("Skipping duplicate notification '{}' for user {}", event.getTitle(), event.getUserId());
+                return;
+            }
+        }
+        if (plan.contains(DeliveryChannel.EMAIL)) {
+            String email = event.getRecipientEmail() != null ? event.getRecipientEmail()
+                    : userRepository.findById(event.getUserId().intValue()).map(User::getEmail).orElse(null);
+            emailService.sendEmail(email,
+                    event.getEmailSubject() != null ? event.getEmailSubject() : event.getTitle(),
+                    event.getEmailBody() != null ? event.getEmailBody() : event.getMessage());
+        }
+        plan.forEach(channel -> metrics.recordDelivery(channel, 1));
+        logger.debug("Delivered '{}' to user {} via {}", event.getTitle(), event.getUserId(), plan);
+    }
+
+    /*
+     * A digest replaces immediate email; its content is the user's stored notifications.
+     */
+    public static Set<DeliveryChannel> planFor(NotificationPreference preference) {
+        Set<DeliveryChannel> plan = EnumSet.noneOf(DeliveryChannel.class);
+        if (preference.isInAppEnabled()) {
+            plan.add(DeliveryChannel.IN_APP);
+        }
+        if (preference.isEmailEnabled()) {
+            plan.add(preference.isDigestEnabled() ? DeliveryChannel.DIGEST : DeliveryChannel.EMAIL);
+        }
+        return plan;
+    }
+
+    @Scheduled(cron = "${app.notifications.digest.cron:0 0 8 * * *}")
+    public void sendDigests() {
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationPreference preference : preferenceRepository.findByDigestEnabledTrueAndEmailEnabledTrue()) {
+            LocalDateTime since = preference.getLastDigestAt() != null ? preference.getLastDigestAt() : now.minusDays(1);
+            List<Notification> notifications = notificationRepository
+                    .findByUserIdAndCreatedAtAfterOrderByCreatedAtDesc(preference.getUserId(), since);
+            if (!notifications.isEmpty()) {
+                StringBuilder body = new StringBuilder("Hello,\n\nHere is what happened since your last digest:\n\n");
+                notifications.forEach(n -> body.append("- ").append(n.getTitle()).append('\n'));
+                String email = userRepository.findById(preference.getUserId().intValue()).map(User::getEmail).orElse(null);
+                if (emailService.sendEmail(email, "Your CareerCrafter digest (" + notifications.size() + " updates)", body.toString())) {
+                    metrics.recordDigestEmail();
+                }
+            }
+            preference.setLastDigestAt(now);
+            preferenceRepository.save(preference);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.hexaware.careercrafter.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * Domain event asking for a user to be notified.
+ * Published by domain services; NotificationDeliveryService turns each event into one delivery plan
+ * inside the publishing transaction, just before it commits. recipientEmail is optional and saves a user lookup when known.
+ */
+
+@Getter
+@Builder
+public class NotificationEvent {
+
+    private final Long userId;
+    private final String recipientEmail;
+    private final String title;
+    private final String message;
+    private final String emailSubject;
+    private final String emailBody;
+    private final Long jobListingId;
+    private final Long applicationId;
+
+}
@@ -0,0 +1,139 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.dto.NotificationStreamEventDTO;
+import com.hexaware.careercrafter.dto.NotificationStreamEventDTO.EventType;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/*
+ * In-process bus carrying inbox changes to live notification streams.
+ * Events are published after the writing transaction commits and get a node-wide increasing id.
+ * The most recent events are kept in a ring buffer so a reconnecting client can resume from its Last-Event-ID;
+ * subscribing and replaying happen under the same lock as publishing, so no event is missed or reordered.
+ * Ids are seeded from the clock, so ids from before a restart fall outside the buffer and cause a RESET.
+ */
+
+@Component
+public class NotificationEventBus {
+
+    public static final class Event {
+        private final long id;
+        private final Long userId;
+        private final NotificationStreamEventDTO payload;
+
+        Event(long id, Long userId, NotificationStreamEventDTO payload) {
+            this.id = id;
+            this.userId = userId;
+            this.payload = payload;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public NotificationStreamEventDTO getPayload() {
+            return payload;
+        }
+    }
+
+    private final Event[] ring;
+    private final long firstId;
+    private long nextId;
+    private final Map<Long, Set<Consumer<Event>>> subscribers = new HashMap<>();
+
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
+
+    public NotificationEventBus(@Value("${app.notifications.stream.replay-buffer-size:10000}") int replayBufferSize) {
+        this.ring = new Event[replayBufferSize];
+        this.firstId = System.currentTimeMillis() * 1000;
+        this.nextId = firstId;
+    }
+
+    public void publish(Long userId, EventType type, NotificationDTO notification) {
+        Long notificationId = notification != null ? notification.getNotificationId() : null;
+        AfterCommit.run(() -> append(userId, new NotificationStreamEventDTO(type, notificationId, notification,
+                hasSubscribers(userId) ? unreadCounter.get(userId) : null)));
+    }
+
+    public void publishDeleted(Long userId, Long notificationId) {
+        AfterCommit.run(() -> append(userId, new NotificationStreamEventDTO(EventType.DELETED, notificationId, null,
+                hasSubscribers(userId) ? unreadCounter.get(userId) : null)));
+    }
+
+    /*
+     * Bulk writers only notify users with an open stream, so large fan-outs do not flush the replay buffer.
+     */
+    public void publishInboxChanged(Collection<Long> userIds) {
+        AfterCommit.run(() -> {
+            for (Long userId : userIds) {
+                if (hasSubscribers(userId)) {
+                    append(userId, new NotificationStreamEventDTO(EventType.INBOX_CHANGED, null, null, unreadCounter.get(userId)));
+                }
+            }
+        });
+    }
+
+    /*
+     * Registers the listener and returns this user's events after lastEventId, or null when some of them
+     * are no longer buffered.
+     */
+    public synchronized List<Event> subscribe(Long userId, Long lastEventId, Consumer<Event> listener) {
+        subscribers.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>()).add(listener);
+        if (lastEventId == null) {
+            return new ArrayList<>();
+        }
+        long oldest = Math.max(firstId, nextId - ring.length);
+        if (lastEventId < oldest - 1 || lastEventId >= nextId) {
+            return null;
+        }
+        List<Event> missed = new ArrayList<>();
+        for (long id = lastEventId + 1; id < nextId; id++) {
+            Event event = ring[(int) (id % ring.length)];
+            if (event.userId.equals(userId)) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    public synchronized void unsubscribe(Long userId, Consumer<Event> listener) {
+        Set<Consumer<Event>> listeners = subscribers.get(userId);
+        if (listeners != null) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                subscribers.remove(userId);
+            }
+        }
+    }
+
+    public synchronized boolean hasSubscribers(Long userId) {
+        return subscribers.containsKey(userId);
+    }
+
+    private synchronized void append(Long userId, NotificationStreamEventDTO payload) {
+        Event event = new Event(nextId, userId, payload);
+        ring[(int) (nextId % ring.length)] = event;
+        nextId++;
+        Set<Consumer<Event>> listeners = subscribers.get(userId);
+        if (listeners != null) {
+            listeners.forEach(listener -> listener.accept(event));
+        }
+    }
+}
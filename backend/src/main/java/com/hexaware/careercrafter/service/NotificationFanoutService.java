@@ -0,0 +1,185 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationFanoutProgressDTO;
+import com.hexaware.careercrafter.dto.SeekerContactView;
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.NotificationFanoutJob;
+import com.hexaware.careercrafter.entities.NotificationFanoutJob.FanoutStatus;
+import com.hexaware.careercrafter.exception.ResourceNotFoundException;
+import com.hexaware.careercrafter.repository.JobSeekerRepository;
+import com.hexaware.careercrafter.repository.NotificationFanoutJobRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ * Fans out "new job posted" notifications off the request thread.
+ * Seekers are streamed in keyset-paginated chunks; each chunk's notification rows, outbox emails and the job cursor
+ * are committed together, so a restarted fan-out resumes after the last persisted chunk.
+ * Each seeker gets the delivery plan of NotificationDeliveryService.planFor: a notification row for in-app or digest
+ * delivery and an outbox email only for immediate email. Notification rows a seeker already has are skipped by the
+ * unique content hash. Seekers due an email but without an address are counted as failed.
+ */
+
+@Service
+public class NotificationFanoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanoutService.class);
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT IGNORE INTO notifications (user_id, title, message, is_read, created_at, job_listing_id, content_hash) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_EMAIL_SQL =
+            "INSERT INTO email_outbox (recipient, subject, body, status, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    @Autowired
+    private NotificationFanoutJobRepository fanoutJobRepository;
+
+    @Autowired
+    private JobSeekerRepository jobSeekerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationDeliveryMetrics deliveryMetrics;
+
+    @Autowired
+    private NotificationDedupIndex dedupIndex;
+
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
+
+    @Autowired
+    private NotificationEventBus eventBus;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("notificationFanoutExecutor")
+    private TaskExecutor fanoutExecutor;
+
+    @Value("${app.notifications.fanout.chunk-size:500}")
+    private int chunkSize;
+
+    public void startFanout(JobListing listing) {
+        NotificationFanoutJob job = NotificationFanoutJob.builder()
+                .jobListingId(listing.getJobListingId())
+                .jobTitle(listing.getTitle())
+                .lastSeekerId(0)
+                .status(FanoutStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        NotificationFanoutJob saved = fanoutJobRepository.save(job);
+        logger.info("Queued notification fan-out {} for job listing {}", saved.getFanoutJobId(), listing.getJobListingId());
+        fanoutExecutor.execute(() -> run(saved.getFanoutJobId()));
+    }
+
+    public NotificationFanoutProgressDTO getProgress(int jobListingId) {
+        NotificationFanoutJob job = fanoutJobRepository.findByJobListingId(jobListingId)
+                .orElseThrow(() -> new ResourceNotFoundException("No notification fan-out found for job listing ID: " + jobListingId));
+        return new NotificationFanoutProgressDTO(job.getJobListingId(), job.getStatus().name(),
+                job.getProcessed(), job.getFailed(), job.getLastSeekerId(), job.getUpdatedAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIncompleteFanouts() {
+        List<NotificationFanoutJob> pending = fanoutJobRepository.findByStatusNot(FanoutStatus.COMPLETED);
+        for (NotificationFanoutJob job : pending) {
+            logger.info("Resuming notification fan-out {} for job listing {} after seeker {}",
+                    job.getFanoutJobId(), job.getJobListingId(), job.getLastSeekerId());
+            fanoutExecutor.execute(() -> run(job.getFanoutJobId()));
+        }
+    }
+
+    void run(Long fanoutJobId) {
+        NotificationFanoutJob job = fanoutJobRepository.findById(fanoutJobId).orElse(null);
+        if (job == null || job.getStatus() == FanoutStatus.COMPLETED) {
+            return;
+        }
+        fanoutJobRepository.updateStatus(fanoutJobId, FanoutStatus.RUNNING, LocalDateTime.now());
+
+        try {
+            List<SeekerContactView> chunk;
+            int lastSeekerId = job.getLastSeekerId();
+            long processed = job.getProcessed();
+            while (!(chunk = jobSeekerRepository.findContactsAfter(lastSeekerId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                lastSeekerId = persistChunk(job, chunk);
+                processed += chunk.size();
+            }
+            fanoutJobRepository.updateStatus(fanoutJobId, FanoutStatus.COMPLETED, LocalDateTime.now());
+            logger.info("Notification fan-out for job listing {} completed: {} processed", job.getJobListingId(), processed);
+        } catch (Exception ex) {
+            logger.error("Notification fan-out for job listing {} stopped; it will resume on next startup", job.getJobListingId(), ex);
+        }
+    }
+
+    private int persistChunk(NotificationFanoutJob job, List<SeekerContactView> chunk) {
+        String title = "New job posted: " + job.getJobTitle();
+        String message = "A new job '" + job.getJobTitle() + "' matching your profile is posted.";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int lastSeekerId = chunk.get(chunk.size() - 1).getJobSeekerId();
+        List<SeekerContactView> stored = chunk.stream()
+                .filter(seeker -> seeker.isInAppEnabled() || (seeker.isEmailEnabled() && seeker.isDigestEnabled()))
+                .collect(Collectors.toList());
+        List<SeekerContactView> immediateEmail = chunk.stream()
+                .filter(seeker -> seeker.isEmailEnabled() && !seeker.isDigestEnabled())
+                .collect(Collectors.toList());
+        List<SeekerContactView> emailable = immediateEmail.stream()
+                .filter(seeker -> seeker.getEmail() != null && !seeker.getEmail().isBlank())
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, stored, stored.size(), (ps, seeker) -> {
+                ps.setLong(1, seeker.getUserId());
+                ps.setString(2, title);
+                ps.setString(3, message);
+                ps.setBoolean(4, false);
+                ps.setTimestamp(5, now);
+                ps.setLong(6, job.getJobListingId());
+                ps.setLong(7, NotificationContentHash.of((long) seeker.getUserId(), title, message));
+            });
+            jdbcTemplate.batchUpdate(INSERT_EMAIL_SQL, emailable, emailable.size(), (ps, seeker) -> {
+                ps.setString(1, seeker.getEmail());
+                ps.setString(2, "New Job Opportunity: " + job.getJobTitle());
+                ps.setString(3, "Hello " + seeker.getFullName() + ",\n\nA new job that matches your profile has been posted. Please check your dashboard.");
+                ps.setString(4, EmailStatus.PENDING.name());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+            fanoutJobRepository.advanceCursor(job.getFanoutJobId(), lastSeekerId, chunk.size(), LocalDateTime.now());
+            if (emailable.size() < immediateEmail.size()) {
+                fanoutJobRepository.incrementFailed(job.getFanoutJobId(), immediateEmail.size() - emailable.size());
+            }
+        });
+        List<Long> notifiedUserIds = stored.stream().map(seeker -> (long) seeker.getUserId()).collect(Collectors.toList());
+        unreadCounter.invalidate(notifiedUserIds);
+        eventBus.publishInboxChanged(notifiedUserIds);
+        stored.forEach(seeker -> dedupIndex.record(NotificationContentHash.of((long) seeker.getUserId(), title, message)));
+        deliveryMetrics.recordDelivery(DeliveryChannel.IN_APP, chunk.stream().filter(SeekerContactView::isInAppEnabled).count());
+        deliveryMetrics.recordDelivery(DeliveryChannel.DIGEST,
+                stored.stream().filter(seeker -> seeker.isEmailEnabled() && seeker.isDigestEnabled()).count());
+        deliveryMetrics.recordDelivery(DeliveryChannel.EMAIL, emailable.size());
+        return lastSeekerId;
+    }
+}
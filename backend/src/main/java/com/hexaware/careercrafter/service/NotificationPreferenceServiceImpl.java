@@ -0,0 +1,61 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationPreferenceDTO;
+import com.hexaware.careercrafter.entities.NotificationPreference;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
+import com.hexaware.careercrafter.exception.ResourceNotFoundException;
+import com.hexaware.careercrafter.repository.NotificationPreferenceRepository;
+import com.hexaware.careercrafter.repository.UserRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+/*
+ * Implementation of INotificationPreferenceService.
+ * Users without stored preferences get the defaults.
+ */
+
+@Timed("service.method")
+@Service
+public class NotificationPreferenceServiceImpl implements INotificationPreferenceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPreferenceServiceImpl.class);
+
+    @Autowired
+    private NotificationPreferenceRepository preferenceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    public NotificationPreferenceDTO getPreferences(Long userId) {
+        return toDTO(preferenceRepository.findById(userId).orElseGet(() -> NotificationPreference.defaultsFor(userId)));
+    }
+
+    @Override
+    public NotificationPreferenceDTO updatePreferences(NotificationPreferenceDTO dto) {
+        if (dto.getUserId() == null) {
+            throw new InvalidRequestException("userId is required");
+        }
+        if (!userRepository.existsById(dto.getUserId().intValue())) {
+            throw new ResourceNotFoundException("User with ID " + dto.getUserId() + " not found.");
+        }
+        NotificationPreference preference = preferenceRepository.findById(dto.getUserId())
+                .orElseGet(() -> NotificationPreference.defaultsFor(dto.getUserId()));
+        preference.setInAppEnabled(dto.isInAppEnabled());
+        preference.setEmailEnabled(dto.isEmailEnabled());
+        preference.setDigestEnabled(dto.isDigestEnabled());
+        NotificationPreference saved = preferenceRepository.save(preference);
+        logger.info("Notification preferences updated for user ID {}", dto.getUserId());
+        return toDTO(saved);
+    }
+
+    private NotificationPreferenceDTO toDTO(NotificationPreference preference) {
+        return new NotificationPreferenceDTO(preference.getUserId(), preference.isInAppEnabled(),
+                preference.isEmailEnabled(), preference.isDigestEnabled());
+    }
+}
@@ -0,0 +1,62 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.repository.NotificationRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * Purges read notifications older than the retention age.
+ * Ids are walked in primary-key order and deleted in batches, one short transaction per batch,
+ * so the purge never holds locks on a large part of the table. Unread notifications are kept.
+ */
+
+@Service
+public class NotificationRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionService.class);
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.notifications.retention.read-days:90}")
+    private int readRetentionDays;
+
+    @Value("${app.notifications.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.notifications.retention.cron:0 30 3 * * *}")
+    public void purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(readRetentionDays);
+        long start = System.currentTimeMillis();
+        long purged = purgeReadOlderThan(cutoff);
+        logger.info("Notification retention: purged {} read notifications older than {} in {} ms",
+                purged, cutoff, System.currentTimeMillis() - start);
+    }
+
+    long purgeReadOlderThan(LocalDateTime cutoff) {
+        long purged = 0;
+        long afterId = 0;
+        List<Long> ids;
+        while (!(ids = notificationRepository.findReadIdsOlderThan(afterId, cutoff, PageRequest.of(0, batchSize))).isEmpty()) {
+            List<Long> batch = ids;
+            Integer deleted = transactionTemplate.execute(status -> notificationRepository.deleteByIdIn(batch));
+            purged += deleted != null ? deleted : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+        return purged;
+    }
+}
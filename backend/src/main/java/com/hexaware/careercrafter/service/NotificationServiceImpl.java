@@ -1,90 +1,240 @@
 package com.hexaware.careercrafter.service;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.hexaware.careercrafter.dto.BulkNotificationRequestDTO;
+import com.hexaware.careercrafter.dto.BulkNotificationResultDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
 import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.dto.NotificationStreamEventDTO.EventType;
 import com.hexaware.careercrafter.entities.Notification;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
 import com.hexaware.careercrafter.repository.NotificationRepository;
 
+@Timed("service.method")
 @Service
 @Transactional
 public class NotificationServiceImpl implements INotificationService {
 
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO notifications (user_id, title, message, is_read, created_at, job_listing_id, application_id, content_hash) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_BULK_IDS = 1000;
+
     @Autowired
     private NotificationRepository notificationRepository;
 
     @Autowired
-    private EmailService emailService;
+    private NotificationDedupIndex dedupIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
 
+    @Autowired
+    private NotificationEventBus eventBus;
+
+    @Value("${app.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
+    /*
+     * Idempotent insert: a repeat of an existing user/title/message is dropped and null is returned.
+     * The Bloom filter lets the usual new notification go straight to the insert; the unique index settles the rest.
+     */
     @Override
     public NotificationDTO createNotification(NotificationDTO dto) {
-    	
-    	boolean exists = notificationRepository.existsByUserIdAndTitleAndMessage(
-                dto.getUserId(), dto.getTitle(), dto.getMessage()
-            );
-            if (exists) {
-                return null;
-            }
-            
-        Notification notification = convertToEntity(dto);
-        Notification saved = notificationRepository.save(notification);
-
-        if (notification.getUserId() != null && notification.getUserId() > 0) {
-            emailService.sendNotificationEmail(
-                notification.getUserId().intValue(),
-                dto.getTitle(),
-                dto.getMessage()
-            );
+        long hash = NotificationContentHash.of(dto.getUserId(), dto.getTitle(), dto.getMessage());
+        if (dedupIndex.mightBeDuplicate(hash) && notificationRepository.existsByUserIdAndContentHash(dto.getUserId(), hash)) {
+            dedupIndex.recordRejected();
+            return null;
         }
 
-        return convertToDTO(saved);
+        Notification notification = convertToEntity(dto);
+        notification.setContentHash(hash);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] {"notification_id"});
+            ps.setObject(1, notification.getUserId());
+            ps.setString(2, notification.getTitle());
+            ps.setString(3, notification.getMessage());
+            ps.setBoolean(4, notification.isRead());
+            ps.setTimestamp(5, Timestamp.valueOf(notification.getCreatedAt()));
+            ps.setObject(6, notification.getJobListingId());
+            ps.setObject(7, notification.getApplicationId());
+            ps.setLong(8, hash);
+            return ps;
+        }, keyHolder);
+        dedupIndex.record(hash);
+        if (inserted == 0) {
+            dedupIndex.recordRejected();
+            return null;
+        }
+        notification.setNotificationId(keyHolder.getKey().longValue());
+        if (!notification.isRead()) {
+            unreadCounter.adjust(notification.getUserId(), 1);
+        }
+        NotificationDTO created = convertToDTO(notification);
+        eventBus.publish(created.getUserId(), EventType.CREATED, created);
+        return created;
     }
 
     @Override
     public List<NotificationDTO> getNotificationsByUserId(Long userId) {
-        return notificationRepository.findByUserId(userId)
+        return notificationRepository.findByUserIdOrderByCreatedAtDescNotificationIdDesc(userId)
                 .stream()
                 .map(this::convertToDTO)
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
                 .collect(Collectors.toList());
     }
 
+    /*
+     * Keyset page of the inbox, newest first, served by the (user_id, created_at) index.
+     */
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<NotificationDTO> getInbox(Long userId, String cursor, Integer size) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        NotificationCursor after = cursor != null && !cursor.isEmpty() ? NotificationCursor.decode(cursor) : null;
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Notification> rows = after == null
+                ? notificationRepository.findInbox(userId, limit)
+                : notificationRepository.findInboxAfter(userId, after.getCreatedAt(), after.getNotificationId(), limit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Notification> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? NotificationCursor.after(page.get(page.size() - 1)).encode() : null;
+        List<NotificationDTO> items = page.stream().map(this::convertToDTO).collect(Collectors.toList());
+        return new CursorPageDTO<>(items, nextCursor, hasMore, items.size());
+    }
+
+    /*
+     * No transaction: a cached count is answered without checking out a connection, and a miss loads through
+     * the repository's own read-only transaction.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long countUnreadNotificationsByUserId(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
     @Override
     public NotificationDTO markAsRead(Long id) {
-        Notification notification = notificationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Notification not found with ID: " + id));
-        notification.setRead(true);
-        Notification saved = notificationRepository.save(notification);
-        return convertToDTO(saved);
+        return updateReadFlag(id, true);
     }
 
     @Override
     public NotificationDTO markAsUnread(Long id) {
+        return updateReadFlag(id, false);
+    }
+
+    @Override
+    public void deleteNotification(Long id) {
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found with ID: " + id));
-        notification.setRead(false);
-        Notification saved = notificationRepository.save(notification);
-        return convertToDTO(saved);
+        notificationRepository.delete(notification);
+        if (!notification.isRead()) {
+            unreadCounter.adjust(notification.getUserId(), -1);
+        }
+        eventBus.publishDeleted(notification.getUserId(), id);
     }
 
+    /*
+     * One UPDATE for the whole selection; only rows that were unread are counted, so the counter moves by exactly that.
+     */
     @Override
-    public void deleteNotification(Long id) {
-        if (!notificationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Notification not found with ID: " + id);
+    public BulkNotificationResultDTO markAsReadBulk(Long userId, BulkNotificationRequestDTO request) {
+        int affected;
+        switch (selector(request)) {
+            case IDS:
+                affected = notificationRepository.markReadByIds(userId, request.getIds());
+                break;
+            case OLDER_THAN:
+                affected = notificationRepository.markReadOlderThan(userId, request.getOlderThan());
+                break;
+            default:
+                affected = notificationRepository.markAllRead(userId);
+        }
+        if (affected > 0) {
+            unreadCounter.adjust(userId, -affected);
+            eventBus.publishInboxChanged(List.of(userId));
+        }
+        return new BulkNotificationResultDTO(affected, notificationRepository.countByUserIdAndIsReadFalse(userId));
+    }
+
+    /*
+     * Deleted rows may be read or unread, so the user's counter is reloaded rather than adjusted.
+     */
+    @Override
+    public BulkNotificationResultDTO deleteNotificationsBulk(Long userId, BulkNotificationRequestDTO request) {
+        int affected;
+        switch (selector(request)) {
+            case IDS:
+                affected = notificationRepository.deleteByIds(userId, request.getIds());
+                break;
+            case OLDER_THAN:
+                affected = notificationRepository.deleteOlderThan(userId, request.getOlderThan());
+                break;
+            default:
+                affected = notificationRepository.deleteAllForUser(userId);
+        }
+        if (affected > 0) {
+            unreadCounter.invalidate(List.of(userId));
+            eventBus.publishInboxChanged(List.of(userId));
+        }
+        return new BulkNotificationResultDTO(affected, notificationRepository.countByUserIdAndIsReadFalse(userId));
+    }
+
+    private enum Selector { IDS, OLDER_THAN, ALL }
+
+    private Selector selector(BulkNotificationRequestDTO request) {
+        if (request == null) {
+            throw new InvalidRequestException("Select notifications by ids, olderThan or all");
+        }
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byAge = request.getOlderThan() != null;
+        if ((byIds ? 1 : 0) + (byAge ? 1 : 0) + (request.isAll() ? 1 : 0) != 1) {
+            throw new InvalidRequestException("Select notifications by exactly one of ids, olderThan or all");
+        }
+        if (byIds && request.getIds().size() > MAX_BULK_IDS) {
+            throw new InvalidRequestException("At most " + MAX_BULK_IDS + " ids per request");
+        }
+        return byIds ? Selector.IDS : byAge ? Selector.OLDER_THAN : Selector.ALL;
+    }
+
+    private NotificationDTO updateReadFlag(Long id, boolean read) {
+        Notification notification = notificationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Notification not found with ID: " + id));
+        if (notification.isRead() != read) {
+            notification.setRead(read);
+            unreadCounter.adjust(notification.getUserId(), read ? -1 : 1);
         }
-        notificationRepository.deleteById(id);
+        NotificationDTO updated = convertToDTO(notificationRepository.save(notification));
+        eventBus.publish(updated.getUserId(), read ? EventType.READ : EventType.UNREAD, updated);
+        return updated;
     }
 
     private NotificationDTO convertToDTO(Notification entity) {
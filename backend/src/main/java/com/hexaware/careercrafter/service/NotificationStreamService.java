@@ -0,0 +1,193 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationStreamEventDTO;
+import com.hexaware.careercrafter.dto.NotificationStreamEventDTO.EventType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/*
+ * Server-Sent Events connections for the notification inbox.
+ * Connections are async servlet requests, so an idle stream holds no thread. Each connection has a bounded queue
+ * drained by a small shared pool; a connection whose queue overflows is closed and the client resumes with
+ * Last-Event-ID. Heartbeat comments keep proxies from closing idle streams and surface dead clients.
+ */
+
+@Service
+public class NotificationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamService.class);
+
+    private final class Connection {
+        final Long userId;
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        Consumer<NotificationEventBus.Event> listener;
+
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventsSent = new AtomicLong();
+    private final AtomicLong overflowDisconnects = new AtomicLong();
+
+    @Autowired
+    private NotificationEventBus eventBus;
+
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
+
+    @Autowired
+    @Qualifier("notificationStreamExecutor")
+    private TaskExecutor streamExecutor;
+
+    @Value("${app.notifications.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${app.notifications.stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${app.notifications.stream.max-connections:10000}")
+    private int maxConnections;
+
+    /*
+     * Empty when the node is at its connection limit.
+     */
+    public Optional<SseEmitter> open(Long userId, String lastEventId) {
+        if (connections.size() >= maxConnections) {
+            logger.warn("Notification stream refused for user {}: {} connections open", userId, connections.size());
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> close(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(ex -> close(connection));
+        connections.add(connection);
+
+        enqueue(connection, toSse(0, new NotificationStreamEventDTO(EventType.CONNECTED, null, null, unreadCounter.get(userId)))
+                .reconnectTime(3000));
+        connection.listener = event -> enqueue(connection, toSse(event.getId(), event.getPayload()));
+        List<NotificationEventBus.Event> missed = eventBus.subscribe(userId, parseEventId(lastEventId), connection.listener);
+        if (connection.closed.get()) {
+            eventBus.unsubscribe(userId, connection.listener);
+        }
+        if (missed == null) {
+            enqueue(connection, toSse(0, new NotificationStreamEventDTO(EventType.RESET, null, null, null)));
+        } else {
+            missed.forEach(connection.listener);
+        }
+        return Optional.of(emitter);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Connection connection : connections) {
+            if (connection.queue.remainingCapacity() > 0) {
+                enqueue(connection, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("connections", (long) connections.size());
+        stats.put("eventsSent", eventsSent.get());
+        stats.put("overflowDisconnects", overflowDisconnects.get());
+        return stats;
+    }
+
+    private SseEmitter.SseEventBuilder toSse(long id, NotificationStreamEventDTO payload) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(payload.getType().name())
+                .data(payload, MediaType.APPLICATION_JSON);
+        return id > 0 ? builder.id(Long.toString(id)) : builder;
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed.get()) {
+            return;
+        }
+        if (!connection.queue.offer(event)) {
+            overflowDisconnects.incrementAndGet();
+            logger.debug("Notification stream buffer full for user {}; closing so the client resumes", connection.userId);
+            close(connection);
+            connection.emitter.complete();
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            streamExecutor.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.closed.get() && (event = connection.queue.poll()) != null) {
+                connection.emitter.send(event);
+                eventsSent.incrementAndGet();
+            }
+        } catch (IOException | IllegalStateException ex) {
+            logger.debug("Notification stream for user {} closed: {}", connection.userId, ex.getMessage());
+            close(connection);
+        } finally {
+            connection.draining.set(false);
+        }
+        if (!connection.closed.get() && !connection.queue.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void close(Connection connection) {
+        if (connection.closed.compareAndSet(false, true)) {
+            connections.remove(connection);
+            if (connection.listener != null) {
+                eventBus.unsubscribe(connection.userId, connection.listener);
+            }
+            connection.queue.clear();
+        }
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.hexaware.careercrafter.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Bloom filter over recently seen 64-bit hashes.
+ * Two generations are kept; once the current one has taken its expected number of entries it becomes the previous
+ * generation and a fresh one starts, so memory stays bounded and the false positive rate holds as entries age out.
+ * mightContain never returns false for a hash added within the last generation.
+ */
+
+public class RecentHashFilter {
+
+    private static final class Generation {
+        final AtomicLongArray bits;
+        final int bitCount;
+
+        Generation(int bitCount) {
+            this.bitCount = bitCount;
+            this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        void set(int bit) {
+            int word = bit >>> 6;
+            long mask = 1L << (bit & 63);
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                // retry on contention
+            }
+        }
+
+        boolean get(int bit) {
+            return (bits.get(bit >>> 6) & (1L << (bit & 63))) != 0;
+        }
+    }
+
+    private final int expectedEntries;
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+    private int currentEntries;
+
+    public RecentHashFilter(int expectedEntries, double falsePositiveRate) {
+        if (expectedEntries <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedEntries must be positive and falsePositiveRate in (0, 1)");
+        }
+        double bits = -expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.expectedEntries = expectedEntries;
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64L, (long) Math.ceil(bits)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        this.current = new Generation(bitCount);
+    }
+
+    public void add(long hash) {
+        Generation generation;
+        synchronized (this) {
+            if (++currentEntries > expectedEntries) {
+                previous = current;
+                current = new Generation(bitCount);
+                currentEntries = 1;
+            }
+            generation = current;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            generation.set(index(h1, h2, i));
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    public int getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private boolean contains(Generation generation, long hash) {
+        if (generation == null) {
+            return false;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (!generation.get(index(h1, h2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+}
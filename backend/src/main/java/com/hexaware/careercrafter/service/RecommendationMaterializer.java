@@ -0,0 +1,435 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.RecommendationFloorView;
+import com.hexaware.careercrafter.dto.SeekerProfileView;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.SeekerRecommendation;
+import com.hexaware.careercrafter.repository.JobListingRepository;
+import com.hexaware.careercrafter.repository.JobSeekerRepository;
+import com.hexaware.careercrafter.repository.MaterializedSeekerRepository;
+import com.hexaware.careercrafter.repository.SeekerRecommendationRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Materializes each job seeker's recommendations into seeker_recommendations, so reading them is one indexed query.
+ * A seeker is recomputed when their skills or address change. A created, updated or deleted listing refreshes only the
+ * seekers it can affect: those holding it now, and those sharing a skill or location with it whose list it would enter
+ * by score. Seeker tokens are mirrored in memory to find those candidates without scanning job_seekers.
+ * Refreshes run one at a time on a single background thread, so two refreshes never race on the same pair.
+ * A seeker's first materialization marks them in materialized_seekers and records their matches without notifying;
+ * after that a notification is published only when a (seeker, listing) pair is first materialized.
+ * On startup the seekers not yet marked are backfilled, so an interrupted backfill resumes where it stopped.
+ * Queued refreshes live only in memory, so a periodic reconcile re-materializes every seeker to repair refreshes
+ * lost to a failure or a restart.
+ */
+
+@Service
+public class RecommendationMaterializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationMaterializer.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO seeker_recommendations (job_seeker_id, job_listing_id, score, matched, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE seeker_recommendations SET score = ?, matched = ? WHERE id = ?";
+
+    private static final String MARK_SQL = "INSERT INTO materialized_seekers (job_seeker_id, materialized_at) VALUES (?, ?)";
+
+    private static final class IndexedSeeker {
+        final int userId;
+        final String fullName;
+        final String skills;
+        final String address;
+        final Set<String> skillTokens;
+        final Set<String> locationKeys;
+
+        IndexedSeeker(SeekerProfileView profile, Set<String> skillTokens, Set<String> locationKeys) {
+            this.userId = profile.getUserId();
+            this.fullName = profile.getFullName();
+            this.skills = profile.getSkills();
+            this.address = profile.getAddress();
+            this.skillTokens = skillTokens;
+            this.locationKeys = locationKeys;
+        }
+    }
+
+    static final class Change {
+        final List<SeekerRecommendation> inserts = new ArrayList<>();
+        final List<SeekerRecommendation> updates = new ArrayList<>();
+    }
+
+    private final TokenPostings skillPostings = new TokenPostings();
+    private final TokenPostings locationPostings = new TokenPostings();
+    private final Map<Integer, IndexedSeeker> indexedSeekers = new ConcurrentHashMap<>();
+
+    @Autowired
+    private SeekerRecommendationRepository recommendationRepository;
+
+    @Autowired
+    private MaterializedSeekerRepository materializedSeekerRepository;
+
+    @Autowired
+    private JobSeekerRepository jobSeekerRepository;
+
+    @Autowired
+    private JobListingRepository jobListingRepository;
+
+    @Autowired
+    private SkillIndexService skillIndexService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("recommendationExecutor")
+    private TaskExecutor executor;
+
+    @Value("${app.recommendations.strategy:index}")
+    private String recommendationStrategy;
+
+    @Value("${app.recommendations.max-results:50}")
+    private int maxRecommendations;
+
+    @Value("${app.recommendations.refresh.chunk-size:500}")
+    private int chunkSize;
+
+    public void seekerChanged(int jobSeekerId) {
+        AfterCommit.run(() -> executor.execute(() -> refreshSeeker(jobSeekerId)));
+    }
+
+    public void seekerRemoved(int jobSeekerId) {
+        AfterCommit.run(() -> executor.execute(() -> removeSeeker(jobSeekerId)));
+    }
+
+    public void listingChanged(int jobListingId) {
+        AfterCommit.run(() -> executor.execute(() -> refreshListing(jobListingId, false)));
+    }
+
+    public void listingRemoved(int jobListingId) {
+        AfterCommit.run(() -> executor.execute(() -> refreshListing(jobListingId, true)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        reindex(jobSeekerRepository.findProfileViews());
+        logger.info("Recommendation seeker index rebuilt: {} seekers with skills in {} ms",
+                indexedSeekers.size(), System.currentTimeMillis() - start);
+
+        Set<Integer> pending = new TreeSet<>(indexedSeekers.keySet());
+        materializedSeekerRepository.findAllIds().forEach(pending::remove);
+        if (!pending.isEmpty()) {
+            List<Integer> seekerIds = new ArrayList<>(pending);
+            executor.execute(() -> {
+                try {
+                    long backfillStart = System.currentTimeMillis();
+                    materialize(seekerIds);
+                    logger.info("Backfilled recommendations for {} seekers in {} ms",
+                            seekerIds.size(), System.currentTimeMillis() - backfillStart);
+                } catch (Exception ex) {
+                    logger.error("Recommendation backfill stopped; the remaining seekers are picked up by the next reconcile", ex);
+                }
+            });
+        }
+    }
+
+    /*
+     * Queued behind pending refreshes, so it never races with them.
+     */
+    @Scheduled(cron = "${app.recommendations.reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        executor.execute(this::reconcileAll);
+    }
+
+    void reconcileAll() {
+        try {
+            long start = System.currentTimeMillis();
+            List<SeekerProfileView> profiles = jobSeekerRepository.findProfileViews();
+            reindex(profiles);
+            Set<Integer> existing = profiles.stream().map(SeekerProfileView::getJobSeekerId).collect(Collectors.toSet());
+            Set<Integer> seekerIds = new TreeSet<>(indexedSeekers.keySet());
+            for (Integer seekerId : materializedSeekerRepository.findAllIds()) {
+                if (existing.contains(seekerId)) {
+                    seekerIds.add(seekerId);
+                } else {
+                    removeSeeker(seekerId);
+                }
+            }
+            materialize(new ArrayList<>(seekerIds));
+            logger.info("Reconciled recommendations for {} seekers in {} ms", seekerIds.size(), System.currentTimeMillis() - start);
+        } catch (Exception ex) {
+            logger.error("Recommendation reconcile stopped; it runs again at the next scheduled time", ex);
+        }
+    }
+
+    void refreshSeeker(int jobSeekerId) {
+        try {
+            List<SeekerProfileView> profile = jobSeekerRepository.findProfileViewsByIds(List.of(jobSeekerId));
+            if (profile.isEmpty()) {
+                removeSeeker(jobSeekerId);
+                return;
+            }
+            putInMemory(profile.get(0));
+            materialize(List.of(jobSeekerId));
+        } catch (Exception ex) {
+            logger.error("Failed to refresh recommendations for job seeker {}", jobSeekerId, ex);
+        }
+    }
+
+    void refreshListing(int jobListingId, boolean removed) {
+        try {
+            List<Integer> holders = recommendationRepository.findMatchedSeekerIds(jobListingId);
+            if (removed) {
+                transactionTemplate.executeWithoutResult(status -> recommendationRepository.deleteByJobListingId(jobListingId));
+                materialize(holders);
+                return;
+            }
+            Set<Integer> affected = new LinkedHashSet<>(holders);
+            affected.addAll(entering(candidateScores(jobListingId)));
+            materialize(new ArrayList<>(affected));
+            logger.debug("Refreshed recommendations of {} seekers for job listing {}", affected.size(), jobListingId);
+        } catch (Exception ex) {
+            logger.error("Failed to refresh recommendations for job listing {}", jobListingId, ex);
+        }
+    }
+
+    private void removeSeeker(int jobSeekerId) {
+        removeFromMemory(jobSeekerId);
+        transactionTemplate.executeWithoutResult(status -> {
+            recommendationRepository.deleteByJobSeekerId(jobSeekerId);
+            materializedSeekerRepository.deleteByJobSeekerId(jobSeekerId);
+        });
+    }
+
+    /*
+     * Score of the listing for every seeker sharing a skill token or location with it; empty for an inactive listing.
+     */
+    private Map<Integer, Integer> candidateScores(int jobListingId) {
+        Map<Integer, Integer> overlaps = skillPostings.overlapCounts(skillIndexService.skillsOf(jobListingId));
+        Set<Integer> locationMatches = locationPostings.overlapCounts(skillIndexService.locationsOf(jobListingId)).keySet();
+        Map<Integer, Integer> scores = new HashMap<>();
+        overlaps.forEach((seekerId, overlap) -> scores.put(seekerId, overlap * 2));
+        locationMatches.forEach(seekerId -> scores.merge(seekerId, 1, Integer::sum));
+        return scores;
+    }
+
+    /*
+     * Candidates whose list the listing would enter: lists with room, or whose weakest entry does not outrank it.
+     */
+    private List<Integer> entering(Map<Integer, Integer> scores) {
+        List<Integer> candidates = new ArrayList<>(scores.keySet());
+        List<Integer> entering = new ArrayList<>();
+        for (int from = 0; from < candidates.size(); from += chunkSize) {
+            List<Integer> chunk = candidates.subList(from, Math.min(from + chunkSize, candidates.size()));
+            Map<Integer, RecommendationFloorView> floors = recommendationRepository.findFloors(chunk).stream()
+                    .collect(Collectors.toMap(RecommendationFloorView::getJobSeekerId, Function.identity()));
+            for (Integer seekerId : chunk) {
+                RecommendationFloorView floor = floors.get(seekerId);
+                if (floor == null || floor.getMatchedCount() < maxRecommendations || scores.get(seekerId) >= floor.getLowestScore()) {
+                    entering.add(seekerId);
+                }
+            }
+        }
+        return entering;
+    }
+
+    private void materialize(List<Integer> seekerIds) {
+        for (int from = 0; from < seekerIds.size(); from += chunkSize) {
+            materializeChunk(seekerIds.subList(from, Math.min(from + chunkSize, seekerIds.size())));
+        }
+    }
+
+    /*
+     * Seekers materialized for the first time are marked and their matches recorded without notifying;
+     * only the new pairs of already marked seekers are notified.
+     */
+    private void materializeChunk(List<Integer> seekerIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, List<SeekerRecommendation>> existing = recommendationRepository.findByJobSeekerIdIn(seekerIds).stream()
+                .collect(Collectors.groupingBy(SeekerRecommendation::getJobSeekerId));
+        Set<Integer> materialized = new HashSet<>(materializedSeekerRepository.findMaterializedIds(seekerIds));
+        List<Integer> unmarked = new ArrayList<>();
+        Change change = new Change();
+        List<SeekerRecommendation> notified = new ArrayList<>();
+        for (Integer seekerId : seekerIds) {
+            IndexedSeeker seeker = indexedSeekers.get(seekerId);
+            Map<Integer, Integer> desired = seeker != null ? rank(seeker) : Map.of();
+            Change seekerChange = diff(seekerId, existing.getOrDefault(seekerId, List.of()), desired, now);
+            change.inserts.addAll(seekerChange.inserts);
+            change.updates.addAll(seekerChange.updates);
+            if (materialized.contains(seekerId)) {
+                notified.addAll(seekerChange.inserts);
+            } else if (seeker != null) {
+                unmarked.add(seekerId);
+            }
+        }
+        List<NotificationEvent> events = notificationsFor(notified);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp createdAt = Timestamp.valueOf(now);
+            jdbcTemplate.batchUpdate(INSERT_SQL, change.inserts, change.inserts.size(), (ps, row) -> {
+                ps.setInt(1, row.getJobSeekerId());
+                ps.setInt(2, row.getJobListingId());
+                ps.setInt(3, row.getScore());
+                ps.setBoolean(4, true);
+                ps.setTimestamp(5, createdAt);
+            });
+            jdbcTemplate.batchUpdate(UPDATE_SQL, change.updates, change.updates.size(), (ps, row) -> {
+                ps.setInt(1, row.getScore());
+                ps.setBoolean(2, row.isMatched());
+                ps.setLong(3, row.getId());
+            });
+            jdbcTemplate.batchUpdate(MARK_SQL, unmarked, unmarked.size(), (ps, seekerId) -> {
+                ps.setInt(1, seekerId);
+                ps.setTimestamp(2, createdAt);
+            });
+            events.forEach(eventPublisher::publishEvent);
+        });
+    }
+
+    /*
+     * Ranked listing id to score for the seeker, at most max-results entries.
+     */
+    private Map<Integer, Integer> rank(IndexedSeeker seeker) {
+        List<Integer> listingIds = "regex".equalsIgnoreCase(recommendationStrategy)
+                ? jobListingRepository.findRecommendedJobs(buildSkillsRegex(seeker.skills),
+                        seeker.address != null ? seeker.address.toLowerCase() : "").stream()
+                        .limit(maxRecommendations)
+                        .map(JobListing::getJobListingId)
+                        .collect(Collectors.toList())
+                : skillIndexService.findMatches(seeker.skillTokens, seeker.locationKeys, maxRecommendations);
+        Map<Integer, Integer> ranked = new LinkedHashMap<>();
+        for (Integer listingId : listingIds) {
+            int score = skillIndexService.score(listingId, seeker.skillTokens, seeker.locationKeys);
+            if (score >= 0) {
+                ranked.put(listingId, score);
+            }
+        }
+        return ranked;
+    }
+
+    /*
+     * Rows to insert for newly matched pairs and rows whose score or matched flag changed.
+     * Pairs that no longer match keep their row with matched = false.
+     */
+    static Change diff(int jobSeekerId, List<SeekerRecommendation> existing, Map<Integer, Integer> desired, LocalDateTime now) {
+        Change change = new Change();
+        Set<Integer> stored = new HashSet<>();
+        for (SeekerRecommendation row : existing) {
+            stored.add(row.getJobListingId());
+            Integer score = desired.get(row.getJobListingId());
+            boolean matched = score != null;
+            int newScore = matched ? score : row.getScore();
+            if (matched != row.isMatched() || newScore != row.getScore()) {
+                row.setMatched(matched);
+                row.setScore(newScore);
+                change.updates.add(row);
+            }
+        }
+        desired.forEach((listingId, score) -> {
+            if (!stored.contains(listingId)) {
+                change.inserts.add(SeekerRecommendation.builder()
+                        .jobSeekerId(jobSeekerId)
+                        .jobListingId(listingId)
+                        .score(score)
+                        .matched(true)
+                        .createdAt(now)
+                        .build());
+            }
+        });
+        return change;
+    }
+
+    private List<NotificationEvent> notificationsFor(List<SeekerRecommendation> newPairs) {
+        if (newPairs.isEmpty()) {
+            return List.of();
+        }
+        Set<Integer> listingIds = newPairs.stream().map(SeekerRecommendation::getJobListingId).collect(Collectors.toSet());
+        Map<Integer, String> titles = jobListingRepository.findAllById(listingIds).stream()
+                .collect(Collectors.toMap(JobListing::getJobListingId, JobListing::getTitle));
+        List<NotificationEvent> events = new ArrayList<>(newPairs.size());
+        for (SeekerRecommendation pair : newPairs) {
+            IndexedSeeker seeker = indexedSeekers.get(pair.getJobSeekerId());
+            String title = titles.get(pair.getJobListingId());
+            if (seeker == null || title == null) {
+                continue;
+            }
+            events.add(NotificationEvent.builder()
+                    .userId((long) seeker.userId)
+                    .title("Job Recommendation: " + title)
+                    .message("A new job matching your profile: " + title)
+                    .emailSubject("New Job Recommendation")
+                    .emailBody("Hello " + seeker.fullName + ",\n\nA new job matching your profile has been posted: " + title)
+                    .jobListingId((long) pair.getJobListingId())
+                    .build());
+        }
+        return events;
+    }
+
+    private synchronized void reindex(List<SeekerProfileView> profiles) {
+        skillPostings.clear();
+        locationPostings.clear();
+        indexedSeekers.clear();
+        profiles.forEach(this::putInMemory);
+    }
+
+    static String buildSkillsRegex(String skills) {
+        String[] seekerSkills = skills.toLowerCase().split(",\\s*");
+        return String.join("|", seekerSkills);
+    }
+
+    private synchronized void putInMemory(SeekerProfileView profile) {
+        removeFromMemory(profile.getJobSeekerId());
+        Set<String> skills = SkillTokenizer.tokenize(profile.getSkills());
+        if (skills.isEmpty()) {
+            return;
+        }
+        Set<String> locations = SkillTokenizer.locationKeys(profile.getAddress());
+        skillPostings.add(profile.getJobSeekerId(), skills);
+        locationPostings.add(profile.getJobSeekerId(), locations);
+        indexedSeekers.put(profile.getJobSeekerId(), new IndexedSeeker(profile, skills, locations));
+    }
+
+    private synchronized void removeFromMemory(int jobSeekerId) {
+        IndexedSeeker previous = indexedSeekers.remove(jobSeekerId);
+        if (previous != null) {
+            skillPostings.remove(jobSeekerId, previous.skillTokens);
+            locationPostings.remove(jobSeekerId, previous.locationKeys);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hexaware.careercrafter.service;
 
+import com.hexaware.careercrafter.dto.BatchResultDTO;
 import com.hexaware.careercrafter.dto.ResumeDTO;
 import com.hexaware.careercrafter.entities.JobSeeker;
 import com.hexaware.careercrafter.entities.Resume;
@@ -12,7 +13,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -23,6 +26,7 @@ import java.util.List;
  * Implements resume related operations.
  */
 
+@Timed("service.method")
 @Service
 public class ResumeServiceImpl implements IResumeService {
     private static final Logger logger = LoggerFactory.getLogger(ResumeServiceImpl.class);
@@ -33,6 +37,9 @@ public class ResumeServiceImpl implements IResumeService {
     @Autowired
     private JobSeekerRepository jobSeekerRepository;
 
+    @Autowired
+    private BatchLoader batchLoader;
+
     @Override
     public ResumeDTO uploadResume(ResumeDTO dto) {
         logger.debug("Attempting to upload resume for jobSeekerId: {}", dto.getJobSeekerId());
@@ -64,6 +71,15 @@ public class ResumeServiceImpl implements IResumeService {
         return mapToDTO(entity);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResultDTO<ResumeDTO> getResumesByIds(List<Integer> requestedIds) {
+        List<Integer> ids = batchLoader.distinctIds(requestedIds);
+        BatchResultDTO<ResumeDTO> result = BatchLoader.toResult(ids, batchLoader.load(Resume.class, ids), this::mapToDTO);
+        logger.debug("Fetched {} of {} requested resumes", result.getItems().size(), ids.size());
+        return result;
+    }
+
     @Override
     public List<ResumeDTO> getResumesByJobSeekerId(int jobSeekerId) {
         logger.debug("Fetching resumes for jobSeekerId: {}", jobSeekerId);
@@ -72,7 +88,7 @@ public class ResumeServiceImpl implements IResumeService {
         for (Resume resume : resumes) {
             dtos.add(mapToDTO(resume));
         }
-        logger.info("Fetched {} resumes for jobSeekerId: {}", dtos.size(), jobSeekerId);
+        logger.debug("Fetched {} resumes for jobSeekerId: {}", dtos.size(), jobSeekerId);
         return dtos;
     }
 
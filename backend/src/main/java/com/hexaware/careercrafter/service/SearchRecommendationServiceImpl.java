@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -20,6 +21,7 @@ import java.util.List;
  * Implements search related operations.
  */
 
+@Timed("service.method")
 @Service
 public class SearchRecommendationServiceImpl implements ISearchRecommendationService {
 
@@ -60,7 +62,7 @@ public class SearchRecommendationServiceImpl implements ISearchRecommendationSer
         for (SearchRecommendation sr : entities) {
             dtos.add(mapToDTO(sr));
         }
-        logger.info("Fetched {} search recommendations for userId: {}", dtos.size(), userId);
+        logger.debug("Fetched {} search recommendations for userId: {}", dtos.size(), userId);
         return dtos;
     }
     
@@ -0,0 +1,215 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.ListingIndexView;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.JobListingSkill;
+import com.hexaware.careercrafter.repository.JobListingRepository;
+import com.hexaware.careercrafter.repository.JobListingSkillRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/*
+ * Skill-token index for job recommendations.
+ * Tokens are persisted in job_listing_skills and mirrored in an in-memory inverted index of active listings,
+ * so a recommendation is a union of posting lists instead of a regex scan over job_listings.
+ * The rows are written in the caller's transaction; the in-memory index changes only once it commits,
+ * so a rolled-back save never leaves a listing matchable.
+ */
+
+@Service
+public class SkillIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillIndexService.class);
+
+    private static final class IndexedListing {
+        final Set<String> skills;
+        final Set<String> locations;
+
+        IndexedListing(Set<String> skills, Set<String> locations) {
+            this.skills = skills;
+            this.locations = locations;
+        }
+    }
+
+    private static final class Match {
+        final int jobListingId;
+        final int overlap;
+        final boolean locationMatch;
+
+        Match(int jobListingId, int overlap, boolean locationMatch) {
+            this.jobListingId = jobListingId;
+            this.overlap = overlap;
+            this.locationMatch = locationMatch;
+        }
+    }
+
+    private static final Comparator<Match> RANKING = Comparator
+            .comparingInt((Match m) -> m.overlap).reversed()
+            .thenComparing((Match m) -> !m.locationMatch)
+            .thenComparing(Comparator.comparingInt((Match m) -> m.jobListingId).reversed());
+
+    private final TokenPostings skillPostings = new TokenPostings();
+    private final TokenPostings locationPostings = new TokenPostings();
+    private final Map<Integer, IndexedListing> indexedListings = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JobListingSkillRepository jobListingSkillRepository;
+
+    @Autowired
+    private JobListingRepository jobListingRepository;
+
+    @Transactional
+    public void indexListing(JobListing listing) {
+        Set<String> skills = SkillTokenizer.tokenize(listing.getRequiredSkills());
+        jobListingSkillRepository.deleteByJobListingId(listing.getJobListingId());
+        jobListingSkillRepository.saveAll(toRows(listing.getJobListingId(), skills));
+
+        int jobListingId = listing.getJobListingId();
+        if (listing.isActive()) {
+            Set<String> locations = SkillTokenizer.locationKeys(listing.getLocation());
+            AfterCommit.run(() -> putInMemory(jobListingId, skills, locations));
+        } else {
+            AfterCommit.run(() -> removeFromMemory(jobListingId));
+        }
+    }
+
+    @Transactional
+    public void removeListing(int jobListingId) {
+        jobListingSkillRepository.deleteByJobListingId(jobListingId);
+        AfterCommit.run(() -> removeFromMemory(jobListingId));
+    }
+
+    /*
+     * Active listing ids sharing at least one skill token or location with the seeker,
+     * ranked by skill overlap, then location match, then newest first.
+     */
+    public List<Integer> findMatches(String seekerSkills, String seekerAddress, int limit) {
+        return findMatches(SkillTokenizer.tokenize(seekerSkills), SkillTokenizer.locationKeys(seekerAddress), limit);
+    }
+
+    public List<Integer> findMatches(Set<String> skills, Set<String> locations, int limit) {
+        if (skills.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Integer> overlaps = skillPostings.overlapCounts(skills);
+        Set<Integer> locationMatches = new HashSet<>(locationPostings.overlapCounts(locations).keySet());
+
+        Set<Integer> candidates = new HashSet<>(overlaps.keySet());
+        candidates.addAll(locationMatches);
+
+        return candidates.stream()
+                .map(id -> new Match(id, overlaps.getOrDefault(id, 0), locationMatches.contains(id)))
+                .sorted(RANKING)
+                .limit(limit)
+                .map(m -> m.jobListingId)
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * Rank score of an indexed active listing for the given seeker tokens: twice the skill overlap, plus one for a
+     * location match. Ordering by score, then newest first, is the findMatches ranking. -1 when the listing is not indexed.
+     */
+    public int score(int jobListingId, Set<String> skills, Set<String> locations) {
+        IndexedListing listing = indexedListings.get(jobListingId);
+        if (listing == null) {
+            return -1;
+        }
+        int overlap = 0;
+        for (String skill : skills) {
+            if (listing.skills.contains(skill)) {
+                overlap++;
+            }
+        }
+        boolean locationMatch = locations.stream().anyMatch(listing.locations::contains);
+        return overlap * 2 + (locationMatch ? 1 : 0);
+    }
+
+    public Set<String> skillsOf(int jobListingId) {
+        IndexedListing listing = indexedListings.get(jobListingId);
+        return listing != null ? listing.skills : Collections.emptySet();
+    }
+
+    public Set<String> locationsOf(int jobListingId) {
+        IndexedListing listing = indexedListings.get(jobListingId);
+        return listing != null ? listing.locations : Collections.emptySet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<ListingIndexView> listings = jobListingRepository.findIndexViews();
+        if (jobListingSkillRepository.count() == 0 && !listings.isEmpty()) {
+            backfill(listings);
+        }
+
+        Map<Integer, Set<String>> skillsByListing = new HashMap<>();
+        for (JobListingSkill row : jobListingSkillRepository.findAllForActiveListings()) {
+            skillsByListing.computeIfAbsent(row.getJobListingId(), id -> new HashSet<>()).add(row.getSkillToken());
+        }
+
+        skillPostings.clear();
+        locationPostings.clear();
+        indexedListings.clear();
+        for (ListingIndexView listing : listings) {
+            if (listing.isActive()) {
+                putInMemory(listing.getJobListingId(),
+                        skillsByListing.getOrDefault(listing.getJobListingId(), Collections.emptySet()),
+                        SkillTokenizer.locationKeys(listing.getLocation()));
+            }
+        }
+        logger.info("Skill index rebuilt: {} active listings, {} skill tokens in {} ms",
+                indexedListings.size(), skillPostings.tokenCount(), System.currentTimeMillis() - start);
+    }
+
+    private void backfill(List<ListingIndexView> listings) {
+        List<JobListingSkill> rows = new ArrayList<>();
+        for (ListingIndexView listing : listings) {
+            rows.addAll(toRows(listing.getJobListingId(), SkillTokenizer.tokenize(listing.getRequiredSkills())));
+        }
+        jobListingSkillRepository.saveAll(rows);
+        logger.info("Backfilled {} skill tokens for {} job listings", rows.size(), listings.size());
+    }
+
+    private List<JobListingSkill> toRows(int jobListingId, Set<String> skills) {
+        return skills.stream()
+                .map(token -> JobListingSkill.builder().jobListingId(jobListingId).skillToken(token).build())
+                .collect(Collectors.toList());
+    }
+
+    private synchronized void putInMemory(int jobListingId, Set<String> skills, Set<String> locations) {
+        removeFromMemory(jobListingId);
+        skillPostings.add(jobListingId, skills);
+        locationPostings.add(jobListingId, locations);
+        indexedListings.put(jobListingId, new IndexedListing(skills, locations));
+    }
+
+    private synchronized void removeFromMemory(int jobListingId) {
+        IndexedListing previous = indexedListings.remove(jobListingId);
+        if (previous != null) {
+            skillPostings.remove(jobListingId, previous.skills);
+            locationPostings.remove(jobListingId, previous.locations);
+        }
+    }
+}
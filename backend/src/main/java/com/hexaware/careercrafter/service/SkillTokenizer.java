@@ -0,0 +1,53 @@
+package com.hexaware.careercrafter.service;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+ * Normalizes free-text skill and location fields into canonical tokens.
+ * "Java, Spring  Boot;SQL" becomes [java, spring boot, sql]; symbols such as c++, c# and node.js are kept.
+ */
+
+public final class SkillTokenizer {
+
+    private static final String SKILL_SEPARATORS = "[,;|/\\n]+";
+    private static final String LOCATION_SEPARATORS = "[,;|/\\n-]+";
+
+    private SkillTokenizer() {
+    }
+
+    public static Set<String> tokenize(String skills) {
+        return split(skills, SKILL_SEPARATORS);
+    }
+
+    public static Set<String> locationKeys(String location) {
+        return split(location, LOCATION_SEPARATORS);
+    }
+
+    private static Set<String> split(String text, String separators) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String part : text.split(separators)) {
+            String token = normalize(part);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static String normalize(String raw) {
+        String token = raw.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9+#. ]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+        while (token.endsWith(".")) {
+            token = token.substring(0, token.length() - 1).trim();
+        }
+        return token.length() > 100 ? token.substring(0, 100) : token;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hexaware.careercrafter.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Thread-safe inverted index from a token to the ids of the documents containing it.
+ */
+
+public class TokenPostings {
+
+    private final Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+
+    public void add(int id, Collection<String> tokens) {
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public void remove(int id, Collection<String> tokens) {
+        for (String token : tokens) {
+            postings.computeIfPresent(token, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public Set<Integer> get(String token) {
+        return postings.getOrDefault(token, Collections.emptySet());
+    }
+
+    /*
+     * Union of the posting lists of the given tokens, with the number of tokens each id matched.
+     */
+    public Map<Integer, Integer> overlapCounts(Collection<String> tokens) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (String token : tokens) {
+            for (Integer id : get(token)) {
+                counts.merge(id, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    public int tokenCount() {
+        return postings.size();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.repository.NotificationRepository;
+import com.hexaware.careercrafter.security.TtlCache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * In-memory unread notification count per user.
+ * A count is loaded from the database on first read, then kept current by the create/read/unread/delete paths
+ * once their transaction commits. Bulk writers invalidate instead of adjusting. A periodic reconciliation
+ * recounts the cached users in grouped queries to correct drift from races with the initial load.
+ */
+
+@Component
+public class UnreadNotificationCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreadNotificationCounter.class);
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final TtlCache<Long, AtomicLong> counts;
+    private final long ttlMillis;
+    private final AtomicLong corrections = new AtomicLong();
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    public UnreadNotificationCounter(@Value("${app.notifications.unread.max-size:100000}") int maxSize,
+                                     @Value("${app.notifications.unread.ttl-ms:3600000}") long ttlMillis) {
+        this.counts = new TtlCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public long get(Long userId) {
+        AtomicLong count = counts.get(userId);
+        if (count != null) {
+            return Math.max(0, count.get());
+        }
+        long loaded = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        counts.put(userId, new AtomicLong(loaded), System.currentTimeMillis() + ttlMillis);
+        return loaded;
+    }
+
+    public void adjust(Long userId, long delta) {
+        AfterCommit.run(() -> {
+            AtomicLong count = counts.get(userId);
+            if (count != null) {
+                count.addAndGet(delta);
+            }
+        });
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        AfterCommit.run(() -> userIds.forEach(counts::invalidate));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        List<Long> userIds = counts.keys();
+        long corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+            Map<Long, Long> actual = new HashMap<>();
+            for (Object[] row : notificationRepository.countUnreadByUserIds(batch)) {
+                actual.put((Long) row[0], (Long) row[1]);
+            }
+            for (Long userId : batch) {
+                AtomicLong count = counts.get(userId);
+                long expected = actual.getOrDefault(userId, 0L);
+                if (count != null && count.getAndSet(expected) != expected) {
+                    corrected++;
+                }
+            }
+        }
+        corrections.addAndGet(corrected);
+        if (corrected > 0) {
+            logger.info("Unread notification counts reconciled: {} of {} users corrected", corrected, userIds.size());
+        }
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("size", (long) counts.size());
+        stats.put("hits", counts.getHits());
+        stats.put("misses", counts.getMisses());
+        stats.put("evictions", counts.getEvictions());
+        stats.put("corrections", corrections.get());
+        return stats;
+    }
+}
@@ -5,10 +5,12 @@ import com.hexaware.careercrafter.entities.PasswordResetToken;
 import com.hexaware.careercrafter.exception.*;
 import com.hexaware.careercrafter.repository.UserRepository;
 import com.hexaware.careercrafter.repository.PasswordResetTokenRepository;
+import com.hexaware.careercrafter.security.AuthenticationCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
  * Implementation of IUserService.
  * Implements user-related operations.
  */
+@Timed("service.method")
 @Service
 public class UserServiceImpl implements IUserService {
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
@@ -30,6 +33,9 @@ public class UserServiceImpl implements IUserService {
     @Autowired
     private PasswordResetTokenRepository resetTokenRepository;
 
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
     @Override
     public UserDTO createUser(UserDTO userDTO) {
         logger.debug("Attempting to create a user with email: {}", userDTO.getEmail());
@@ -84,6 +90,7 @@ public class UserServiceImpl implements IUserService {
             throw new DuplicateResourceException("Email already in use by another user.");
         }
         User updatedUser = userRepository.save(convertToEntity(userDTO));
+        authenticationCache.evictUser(updatedUser.getUserId());
         logger.info("User with ID {} updated successfully", updatedUser.getUserId());
         return convertToDTO(updatedUser);
     }
@@ -96,6 +103,7 @@ public class UserServiceImpl implements IUserService {
             throw new ResourceNotFoundException("User with ID " + userId + " not found.");
         }
         userRepository.deleteById(userId);
+        authenticationCache.evictUser(userId);
         logger.info("User with ID {} deleted successfully", userId);
     }
     
@@ -142,6 +150,7 @@ public class UserServiceImpl implements IUserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        authenticationCache.evictUser(userId);
         logger.info("Password updated for user ID: {}", userId);
     }
 
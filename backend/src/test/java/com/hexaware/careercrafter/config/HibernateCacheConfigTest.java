@@ -0,0 +1,57 @@
+package com.hexaware.careercrafter.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HibernateCacheConfigTest {
+
+    private CachingProvider provider;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        cacheManager = provider.getCacheManager(getClass().getResource("/hibernate-cache.conf").toURI(), getClass().getClassLoader());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+        provider.close();
+    }
+
+    @Test
+    void entityAndQueryRegions_areBoundedAndExpire() {
+        CaffeineConfiguration<Object, Object> listings = region("job_listings");
+        assertEquals(OptionalLong.of(50_000), listings.getMaximumSize());
+        assertEquals(OptionalLong.of(TimeUnit.SECONDS.toNanos(600)), listings.getExpireAfterWrite());
+
+        CaffeineConfiguration<Object, Object> queries = region("listing_queries");
+        assertEquals(OptionalLong.of(2_000), queries.getMaximumSize());
+        assertEquals(OptionalLong.of(TimeUnit.SECONDS.toNanos(60)), queries.getExpireAfterWrite());
+    }
+
+    @Test
+    void timestampsRegion_isNeverBoundedOrExpired() {
+        CaffeineConfiguration<Object, Object> timestamps = region("default-update-timestamps-region");
+
+        assertTrue(timestamps.getMaximumSize().isEmpty());
+        assertTrue(timestamps.getMaximumWeight().isEmpty());
+        assertTrue(timestamps.getExpireAfterWrite().isEmpty());
+        assertTrue(timestamps.getExpireAfterAccess().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<Object, Object> region(String name) {
+        return cacheManager.getCache(name).getConfiguration(CaffeineConfiguration.class);
+    }
+}
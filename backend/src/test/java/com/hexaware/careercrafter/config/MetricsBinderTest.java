@@ -0,0 +1,55 @@
+package com.hexaware.careercrafter.config;
+
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+import com.hexaware.careercrafter.repository.EmailOutboxRepository;
+import com.hexaware.careercrafter.service.DeliveryChannel;
+import com.hexaware.careercrafter.service.NotificationDeliveryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsBinderTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Spy
+    private NotificationDeliveryMetrics notificationDeliveryMetrics = new NotificationDeliveryMetrics();
+
+    @InjectMocks
+    private MetricsBinder metricsBinder;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        metricsBinder.bindTo(registry);
+    }
+
+    @Test
+    void outboxGauge_readsTheCountForItsStatus() {
+        when(emailOutboxRepository.countByStatus(EmailStatus.PENDING)).thenReturn(7L);
+
+        assertEquals(7.0, registry.get("email.outbox.messages").tag("status", "pending").gauge().value());
+    }
+
+    @Test
+    void deliveryCounters_followTheRecordedDeliveries() {
+        notificationDeliveryMetrics.recordEvent();
+        notificationDeliveryMetrics.recordDelivery(DeliveryChannel.IN_APP, 3);
+        notificationDeliveryMetrics.recordDelivery(DeliveryChannel.EMAIL, 1);
+
+        assertEquals(1.0, registry.get("notification.events").functionCounter().count());
+        assertEquals(3.0, registry.get("notification.deliveries").tag("channel", "in_app").functionCounter().count());
+        assertEquals(1.0, registry.get("notification.deliveries").tag("channel", "email").functionCounter().count());
+        assertEquals(0.0, registry.get("notification.deliveries").tag("channel", "digest").functionCounter().count());
+    }
+}
@@ -0,0 +1,122 @@
+package com.hexaware.careercrafter.loadtest;
+
+import com.hexaware.careercrafter.CareerCrafterApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Benchmarks POST /api/applications when every submission arrives several times at once, as with double clicks
+ * and client retries. Runs once with an Idempotency-Key on each copy, where every copy should get the same
+ * application back, and once without, where all copies but one should get a 409.
+ * Either way the unique (job_listing_id, seeker_id) index must leave exactly one row per submission.
+ * Reports throughput and latency percentiles in the log and in target/loadtest-apply-results.csv.
+ * Run with mvn -Ploadtest test; tunable with -Dloadtest.concurrency, -Dloadtest.seconds and -Dloadtest.duplicates.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ApplyIdempotencyLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplyIdempotencyLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 30));
+    private static final Duration WARM_UP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+    private static final int DUPLICATES = Integer.getInteger("loadtest.duplicates", 4);
+    private static final int SEEKERS = Integer.getInteger("loadtest.seekers", 1_000);
+    private static final int LISTINGS = Integer.getInteger("loadtest.listings", 5_000);
+    private static final int APPLICATIONS = Integer.getInteger("loadtest.applications", 5_000);
+
+    @Test
+    void concurrentDuplicateApplies_leaveOneApplicationPerSubmission() throws IOException, InterruptedException {
+        ModeResult keyed = runMode(true);
+        ModeResult unkeyed = runMode(false);
+
+        List<String> lines = new ArrayList<>();
+        lines.add(LoadDriver.CSV_HEADER + ",submissions,rows_inserted");
+        for (ModeResult mode : List.of(keyed, unkeyed)) {
+            logger.info("{} submissions={} rows={}", mode.result, mode.submissions, mode.inserted);
+            lines.add(mode.result.toCsv() + "," + mode.submissions + "," + mode.inserted);
+        }
+        Path csv = Paths.get("target", "loadtest-apply-results.csv");
+        Files.createDirectories(csv.getParent());
+        Files.write(csv, lines);
+
+        for (ModeResult mode : List.of(keyed, unkeyed)) {
+            assertEquals(mode.submissions, mode.inserted, mode.result.name);
+            assertEquals(0, mode.duplicatePairs, mode.result.name);
+        }
+        assertEquals(0, keyed.result.errors, "repeated Idempotency-Keys should replay, not fail");
+        assertTrue(unkeyed.result.errors > 0, "unkeyed duplicates should be rejected with 409");
+    }
+
+    private ModeResult runMode(boolean withKey) throws InterruptedException {
+        String mode = withKey ? "keyed" : "unkeyed";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CareerCrafterApplication.class)
+                .profiles("loadtest")
+                .run("--spring.datasource.url=jdbc:h2:mem:careercrafter_apply_" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+            LoadTestData data = new LoadTestData(SEEKERS, LISTINGS, APPLICATIONS, context);
+            data.seed(context);
+            List<String> tokens = data.seekerTokens(100);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            long rowsBefore = jdbc.queryForObject("SELECT COUNT(*) FROM applications", Long.class);
+
+            // consecutive request numbers carry copies of the same submission, so the copies are in flight together
+            AtomicInteger sequence = new AtomicInteger();
+            LoadDriver.Result result = new LoadDriver().run(mode + " POST /applications x" + DUPLICATES,
+                    CONCURRENCY, WARM_UP, DURATION, n -> {
+                        int submission = sequence.getAndIncrement() / DUPLICATES;
+                        int seekerId = submission % tokens.size() + 1;
+                        int listingId = data.listingFor(seekerId, data.applicationsPerSeeker + submission / tokens.size());
+                        return apply(baseUrl, tokens.get(seekerId - 1), listingId, seekerId,
+                                withKey ? "apply-" + submission : null);
+                    });
+
+            long submissions = (sequence.get() + DUPLICATES - 1) / DUPLICATES;
+            long inserted = jdbc.queryForObject("SELECT COUNT(*) FROM applications", Long.class) - rowsBefore;
+            long duplicatePairs = jdbc.queryForObject("SELECT COUNT(*) FROM (SELECT job_listing_id, seeker_id FROM applications " +
+                    "GROUP BY job_listing_id, seeker_id HAVING COUNT(*) > 1) d", Long.class);
+            return new ModeResult(result, submissions, inserted, duplicatePairs);
+        }
+    }
+
+    private static HttpRequest apply(String baseUrl, String token, int listingId, int seekerId, String idempotencyKey) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + "/api/applications"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"jobListingId\":" + listingId + ",\"jobSeekerId\":" + seekerId
+                        + ",\"status\":\"APPLIED\",\"applicationDate\":\"" + LocalDateTime.now().withNano(0) + "\"}"));
+        return idempotencyKey != null ? builder.header("Idempotency-Key", idempotencyKey).build() : builder.build();
+    }
+
+    private static final class ModeResult {
+        final LoadDriver.Result result;
+        final long submissions;
+        final long inserted;
+        final long duplicatePairs;
+
+        ModeResult(LoadDriver.Result result, long submissions, long inserted, long duplicatePairs) {
+            this.result = result;
+            this.submissions = submissions;
+            this.inserted = inserted;
+            this.duplicatePairs = duplicatePairs;
+        }
+    }
+}
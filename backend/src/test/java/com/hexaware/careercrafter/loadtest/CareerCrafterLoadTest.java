@@ -0,0 +1,122 @@
+package com.hexaware.careercrafter.loadtest;
+
+import com.hexaware.careercrafter.CareerCrafterApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * End-to-end capacity run of the backend without MySQL or SMTP: boots the application on the loadtest profile
+ * (H2 in MySQL mode, in-memory mail sender), seeds 100k seekers, 50k listings and 1M applications, and drives
+ * the scripted user journeys one endpoint at a time: login, job filtering, applying, and employer review
+ * (open an application, then move it to IN_REVIEW).
+ * Reports throughput and p50/p95/p99 per endpoint in the log and in target/loadtest-results.csv.
+ * Run with mvn -Ploadtest test; volumes and load are tunable with -Dloadtest.seekers, -Dloadtest.listings,
+ * -Dloadtest.applications, -Dloadtest.concurrency, -Dloadtest.seconds and -Dloadtest.warmup-seconds.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class CareerCrafterLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CareerCrafterLoadTest.class);
+
+    private static final int SEEKERS = Integer.getInteger("loadtest.seekers", 100_000);
+    private static final int LISTINGS = Integer.getInteger("loadtest.listings", 50_000);
+    private static final int APPLICATIONS = Integer.getInteger("loadtest.applications", 1_000_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 60));
+    private static final Duration WARM_UP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 15));
+    private static final int TOKENS = 1_000;
+
+    private static final String[] SKILLS = {"Java", "Spring%20Boot", "SQL", "React", "Python", "AWS"};
+    private static final String[] LOCATIONS = {"Bangalore", "Chennai", "Hyderabad", "Pune", "Delhi"};
+
+    @Test
+    void scriptedScenarios_reportLatencyAndThroughputPerEndpoint() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CareerCrafterApplication.class)
+                .profiles("loadtest")
+                .run()) {
+            LoadTestData data = new LoadTestData(SEEKERS, LISTINGS, APPLICATIONS, context);
+            data.seed(context);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<String> seekerTokens = data.seekerTokens(TOKENS);
+            List<String> employerTokens = data.employerTokens(TOKENS);
+
+            LoadDriver driver = new LoadDriver();
+            List<LoadDriver.Result> results = new ArrayList<>();
+
+            results.add(driver.run("POST /api/auth/login", CONCURRENCY, WARM_UP, DURATION,
+                    n -> LoadDriver.post(baseUrl, "/api/auth/login", null,
+                            "{\"email\":\"" + LoadTestData.seekerEmail(n % data.seekers + 1) + "\",\"password\":\""
+                                    + LoadTestData.PASSWORD + "\"}")));
+
+            results.add(driver.run("GET /api/joblistings/filter", CONCURRENCY, WARM_UP, DURATION,
+                    n -> LoadDriver.get(baseUrl, "/api/joblistings/filter?skill=" + SKILLS[n % SKILLS.length]
+                            + "&location=" + LOCATIONS[(n / SKILLS.length) % LOCATIONS.length] + "&size=20",
+                            seekerTokens.get(n % seekerTokens.size()))));
+
+            // every submission is a (seeker, listing) pair the seeker has not applied to yet, sent with that seeker's token
+            AtomicInteger applySequence = new AtomicInteger();
+            results.add(driver.run("POST /api/applications", CONCURRENCY, WARM_UP, DURATION, n -> {
+                int sequence = applySequence.getAndIncrement();
+                int seekerId = sequence % seekerTokens.size() + 1;
+                int listingId = data.listingFor(seekerId, data.applicationsPerSeeker + sequence / seekerTokens.size());
+                return LoadDriver.post(baseUrl, "/api/applications", seekerTokens.get(seekerId - 1),
+                        applicationJson(0, listingId, seekerId, "APPLIED"));
+            }));
+
+            results.add(driver.run("GET /api/applications/{id}", CONCURRENCY, WARM_UP, DURATION,
+                    n -> LoadDriver.get(baseUrl, "/api/applications/" + reviewedApplication(n, data),
+                            employerTokens.get(n % employerTokens.size()))));
+
+            results.add(driver.run("PUT /api/applications", CONCURRENCY, WARM_UP, DURATION, n -> {
+                int applicationId = reviewedApplication(n, data);
+                return LoadDriver.put(baseUrl, "/api/applications", employerTokens.get(n % employerTokens.size()),
+                        applicationJson(applicationId, data.listingForApplication(applicationId),
+                                data.seekerForApplication(applicationId), "IN_REVIEW"));
+            }));
+
+            report(results);
+            for (LoadDriver.Result result : results) {
+                assertEquals(0, result.errors, result.name);
+                assertTrue(result.requests > 0, result.name);
+            }
+        }
+    }
+
+    /*
+     * Spreads review traffic over the seeded applications with a stride that is coprime to typical sizes.
+     */
+    private static int reviewedApplication(int n, LoadTestData data) {
+        return (int) ((n * 7_919L) % data.applications()) + 1;
+    }
+
+    private static String applicationJson(int applicationId, int listingId, int seekerId, String status) {
+        return "{\"applicationId\":" + applicationId + ",\"jobListingId\":" + listingId + ",\"jobSeekerId\":" + seekerId
+                + ",\"status\":\"" + status + "\",\"applicationDate\":\"" + LocalDateTime.now().withNano(0) + "\"}";
+    }
+
+    private static void report(List<LoadDriver.Result> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(LoadDriver.CSV_HEADER);
+        for (LoadDriver.Result result : results) {
+            logger.info("{}", result);
+            lines.add(result.toCsv());
+        }
+        Path csv = Paths.get("target", "loadtest-results.csv");
+        Files.createDirectories(csv.getParent());
+        Files.write(csv, lines);
+    }
+}
@@ -0,0 +1,109 @@
+package com.hexaware.careercrafter.loadtest;
+
+import com.hexaware.careercrafter.CareerCrafterApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Benchmarks GET /api/joblistings/{id} with the second-level and query caches on and off.
+ * Boots the application once per mode on the loadtest profile, seeds the same LoadTestData set and drives reads over
+ * a hot set of listings. Reports throughput, latency percentiles and JDBC statements per request in the log and in
+ * target/loadtest-cache-results.csv. Run with mvn -Ploadtest test; sizes are tunable with -Dloadtest.concurrency,
+ * -Dloadtest.seconds, -Dloadtest.listings and -Dloadtest.hot-listings.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class JobListingCacheLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobListingCacheLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 30));
+    private static final Duration WARM_UP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+    private static final int SEEKERS = Integer.getInteger("loadtest.seekers", 1_000);
+    private static final int LISTINGS = Integer.getInteger("loadtest.listings", 20_000);
+    private static final int APPLICATIONS = Integer.getInteger("loadtest.applications", 5_000);
+    private static final int HOT_LISTINGS = Integer.getInteger("loadtest.hot-listings", 2_000);
+
+    @Test
+    void compareJobListingReads_withAndWithoutSecondLevelCache() throws IOException, InterruptedException {
+        ModeResult uncached = runMode(false);
+        ModeResult cached = runMode(true);
+
+        List<String> lines = new ArrayList<>();
+        lines.add(LoadDriver.CSV_HEADER + ",statements_per_request,cache_hit_rate");
+        for (ModeResult mode : List.of(uncached, cached)) {
+            logger.info("{} statements/request={} cache hit rate={}", mode.result,
+                    String.format("%.2f", mode.statementsPerRequest), String.format("%.2f", mode.cacheHitRate));
+            lines.add(mode.result.toCsv() + String.format(",%.3f,%.3f", mode.statementsPerRequest, mode.cacheHitRate));
+        }
+        Path csv = Paths.get("target", "loadtest-cache-results.csv");
+        Files.createDirectories(csv.getParent());
+        Files.write(csv, lines);
+
+        assertEquals(0, uncached.result.errors);
+        assertEquals(0, cached.result.errors);
+        assertTrue(cached.statementsPerRequest < uncached.statementsPerRequest,
+                "cached reads should issue fewer statements than uncached reads");
+        assertTrue(cached.cacheHitRate > 0.5, "hot listings should mostly be served from the second-level cache");
+    }
+
+    private ModeResult runMode(boolean cacheEnabled) throws InterruptedException {
+        String mode = cacheEnabled ? "cached" : "uncached";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CareerCrafterApplication.class)
+                .profiles("loadtest")
+                .run("--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cacheEnabled,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + cacheEnabled,
+                        "--spring.datasource.url=jdbc:h2:mem:careercrafter_" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+            LoadTestData data = new LoadTestData(SEEKERS, LISTINGS, APPLICATIONS, context);
+            data.seed(context);
+            List<String> tokens = data.seekerTokens(100);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            int hotListings = Math.min(HOT_LISTINGS, data.listings);
+            EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+            IntFunction<HttpRequest> read = n -> LoadDriver.get(baseUrl,
+                    "/api/joblistings/" + (Math.floorMod(n * 7919, hotListings) + 1), tokens.get(n % tokens.size()));
+
+            // Warm up separately so the statement count covers only the measured window
+            LoadDriver driver = new LoadDriver();
+            driver.run(mode + " warm-up", CONCURRENCY, Duration.ZERO, WARM_UP, read);
+            statistics.clear();
+            LoadDriver.Result result = driver.run(mode + " GET /joblistings/{id}", CONCURRENCY, Duration.ZERO, DURATION, read);
+            long statements = statistics.getPrepareStatementCount();
+            long cacheLookups = statistics.getSecondLevelCacheHitCount() + statistics.getSecondLevelCacheMissCount();
+            double cacheHitRate = cacheLookups == 0 ? 0.0 : (double) statistics.getSecondLevelCacheHitCount() / cacheLookups;
+
+            return new ModeResult(result, (double) statements / Math.max(1, result.requests), cacheHitRate);
+        }
+    }
+
+    private static final class ModeResult {
+        final LoadDriver.Result result;
+        final double statementsPerRequest;
+        final double cacheHitRate;
+
+        ModeResult(LoadDriver.Result result, double statementsPerRequest, double cacheHitRate) {
+            this.result = result;
+            this.statementsPerRequest = statementsPerRequest;
+            this.cacheHitRate = cacheHitRate;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.hexaware.careercrafter.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/*
+ * Closed-loop HTTP load generator: a fixed number of clients send requests back to back for a fixed duration.
+ * Latencies are kept per request so percentiles are exact rather than bucketed.
+ */
+class LoadDriver {
+
+    static final class Result {
+        final String name;
+        final long requests;
+        final long errors;
+        final double throughput;
+        final double p50Millis;
+        final double p95Millis;
+        final double p99Millis;
+
+        Result(String name, long requests, long errors, double throughput, double p50Millis, double p95Millis, double p99Millis) {
+            this.name = name;
+            this.requests = requests;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p95Millis = p95Millis;
+            this.p99Millis = p99Millis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %8d req %6d err %9.1f req/s  p50 %7.2f ms  p95 %7.2f ms  p99 %7.2f ms",
+                    name, requests, errors, throughput, p50Millis, p95Millis, p99Millis);
+        }
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f",
+                    name, requests, errors, throughput, p50Millis, p95Millis, p99Millis);
+        }
+    }
+
+    static final String CSV_HEADER = "endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+    /*
+     * Runs concurrency clients against the requests produced by requestFor (called with a running request number)
+     * for the given duration after a warm-up, and reports any non-2xx response or I/O failure as an error.
+     */
+    Result run(String name, int concurrency, Duration warmUp, Duration duration, IntFunction<HttpRequest> requestFor)
+            throws InterruptedException {
+        drive(concurrency, warmUp, requestFor, new LatencyLog(), new AtomicLong());
+
+        LatencyLog latencies = new LatencyLog();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        drive(concurrency, duration, requestFor, latencies, errors);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] sorted = latencies.sorted();
+        return new Result(name, sorted.length, errors.get(), sorted.length / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+    }
+
+    static HttpRequest get(String baseUrl, String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    static HttpRequest post(String baseUrl, String path, String token, String json) {
+        return withBody(baseUrl, path, token).POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    static HttpRequest put(String baseUrl, String path, String token, String json) {
+        return withBody(baseUrl, path, token).PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private static HttpRequest.Builder withBody(String baseUrl, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30));
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private void drive(int concurrency, Duration duration, IntFunction<HttpRequest> requestFor,
+                       LatencyLog latencies, AtomicLong errors) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong sequence = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = requestFor.apply((int) sequence.getAndIncrement());
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() / 100 != 2) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    }
+                    latencies.record(System.nanoTime() - sent);
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class LatencyLog {
+        private long[] nanos = new long[1 << 16];
+        private int size;
+
+        synchronized void record(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
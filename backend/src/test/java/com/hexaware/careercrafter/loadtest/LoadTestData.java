@@ -0,0 +1,177 @@
+package com.hexaware.careercrafter.loadtest;
+
+import com.hexaware.careercrafter.entities.User;
+import com.hexaware.careercrafter.security.CustomUserDetails;
+import com.hexaware.careercrafter.security.JwtUtil;
+import com.hexaware.careercrafter.service.JobSearchService;
+import com.hexaware.careercrafter.service.ListingStatusCounter;
+import com.hexaware.careercrafter.service.RecommendationMaterializer;
+import com.hexaware.careercrafter.service.SkillIndexService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/*
+ * Bulk seeding for the load tests through batched JDBC inserts into a freshly created schema.
+ * Rows are inserted in id order, so ids are dense from 1 and the owner of any row follows from its id:
+ * seeker s has user s; employer e has user seekers + e and owns listings l with (l - 1) % employers == e - 1;
+ * seeker s holds applications to listings s + k for k below applicationsPerSeeker.
+ * Every account shares one BCrypt-encoded password, so the login scenario pays the real hashing cost.
+ */
+class LoadTestData {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestData.class);
+
+    static final String PASSWORD = "LoadTest@123";
+
+    private static final int BATCH = 5_000;
+    private static final String[] SKILLS = {"Java", "Spring Boot", "SQL", "React", "Python", "AWS", "Docker", "Kubernetes"};
+    private static final String[] LOCATIONS = {"Bangalore", "Chennai", "Hyderabad", "Pune", "Delhi"};
+    private static final String[] STATUSES = {"APPLIED", "IN_REVIEW", "SHORTLISTED", "REJECTED", "HIRED"};
+
+    final int seekers;
+    final int employers;
+    final int listings;
+    final int applicationsPerSeeker;
+
+    private final JwtUtil jwtUtil;
+
+    LoadTestData(int seekers, int listings, int applications, ConfigurableApplicationContext context) {
+        this.seekers = seekers;
+        this.listings = listings;
+        this.employers = Math.max(1, listings / 10);
+        this.applicationsPerSeeker = Math.max(1, Math.min(listings - 1, applications / seekers));
+        this.jwtUtil = context.getBean(JwtUtil.class);
+    }
+
+    int applications() {
+        return seekers * applicationsPerSeeker;
+    }
+
+    void seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long start = System.currentTimeMillis();
+
+        insert(jdbc, "INSERT INTO users (name, email, password, user_type, active, created_at) VALUES (?, ?, ?, ?, true, ?)",
+                seekers + employers, i -> i < seekers
+                        ? new Object[] {"Seeker " + i, seekerEmail(i + 1), password, "JOBSEEKER", now}
+                        : new Object[] {"Employer " + i, employerEmail(i - seekers + 1), password, "EMPLOYER", now});
+
+        insert(jdbc, "INSERT INTO job_seekers (user_id, full_name, email, phone, address, skills, experience) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                seekers, i -> new Object[] {i + 1, "Seeker " + i, seekerEmail(i + 1), "9876543210",
+                        LOCATIONS[i % LOCATIONS.length], skills(i, 3), i % 12});
+
+        insert(jdbc, "INSERT INTO employers (user_id, full_name, work_email, company_name, position) VALUES (?, ?, ?, ?, ?)",
+                employers, i -> new Object[] {seekers + i + 1, "Employer " + i, employerEmail(i + 1), "Company " + i, "Recruiter"});
+
+        insert(jdbc, "INSERT INTO job_listings (employer_id, company_name, title, description, qualification, experience, location, " +
+                "salary, job_type, required_skills, posted_date, active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true)",
+                listings, i -> new Object[] {i % employers + 1, "Company " + (i % employers),
+                        "Software Engineer " + i, "Build and run services for listing " + i, "B.Tech",
+                        i % 10, LOCATIONS[i % LOCATIONS.length], 600_000 + i, i % 3 == 0 ? "PART_TIME" : "FULL_TIME",
+                        skills(i, 3), java.sql.Date.valueOf(LocalDate.now().minusDays(i % 365))});
+
+        insert(jdbc, "INSERT INTO applications (job_listing_id, seeker_id, application_date, status, job_title, applicant_name) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                applications(), i -> {
+                    int seeker = i / applicationsPerSeeker + 1;
+                    int listing = listingFor(seeker, i % applicationsPerSeeker);
+                    return new Object[] {listing, seeker, now, STATUSES[i % STATUSES.length],
+                            "Software Engineer " + (listing - 1), "Seeker " + (seeker - 1)};
+                });
+
+        // JDBC inserts bypass Hibernate, so nothing cached during startup may survive the seed
+        context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache().evictAllRegions();
+        context.getBean(SkillIndexService.class).rebuild();
+        context.getBean(JobSearchService.class).rebuild();
+        context.getBean(RecommendationMaterializer.class).rebuild();
+        context.getBean(ListingStatusCounter.class).rebuild();
+        logger.info("Seeded {} seekers, {} employers, {} listings, {} applications in {} ms",
+                seekers, employers, listings, applications(), System.currentTimeMillis() - start);
+    }
+
+    /*
+     * Listing the seeker's k-th application points at; k at or beyond applicationsPerSeeker gives a listing
+     * the seeker has not applied to yet.
+     */
+    int listingFor(int seekerId, int k) {
+        return (seekerId + k) % listings + 1;
+    }
+
+    int seekerForApplication(int applicationId) {
+        return (applicationId - 1) / applicationsPerSeeker + 1;
+    }
+
+    int listingForApplication(int applicationId) {
+        return listingFor(seekerForApplication(applicationId), (applicationId - 1) % applicationsPerSeeker);
+    }
+
+    static String seekerEmail(int seekerId) {
+        return "seeker" + seekerId + "@load.test";
+    }
+
+    static String employerEmail(int employerId) {
+        return "employer" + employerId + "@load.test";
+    }
+
+    /*
+     * Tokens minted directly, so the non-login scenarios do not depend on the login endpoint.
+     * The token at index i belongs to seeker (or employer) i + 1; a request acting for a seeker must carry theirs.
+     */
+    List<String> seekerTokens(int count) {
+        return tokens(count, seekers, LoadTestData::seekerEmail, User.UserType.JOBSEEKER);
+    }
+
+    List<String> employerTokens(int count) {
+        return tokens(count, employers, LoadTestData::employerEmail, User.UserType.EMPLOYER);
+    }
+
+    private List<String> tokens(int count, int available, IntFunction<String> email, User.UserType type) {
+        List<String> tokens = new ArrayList<>();
+        for (int id = 1; id <= Math.min(count, available); id++) {
+            User user = new User();
+            user.setEmail(email.apply(id));
+            user.setUserType(type);
+            tokens.add(jwtUtil.generateToken(new CustomUserDetails(user)));
+        }
+        return tokens;
+    }
+
+    private static String skills(int seed, int count) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            skills.append(i == 0 ? "" : ", ").append(SKILLS[(seed + i) % SKILLS.length]);
+        }
+        return skills.toString();
+    }
+
+    private interface RowFactory {
+        Object[] row(int index);
+    }
+
+    private static void insert(JdbcTemplate jdbc, String sql, int rows, RowFactory factory) {
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < rows; i++) {
+            batch.add(factory.row(i));
+            if (batch.size() == BATCH) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+        }
+    }
+}
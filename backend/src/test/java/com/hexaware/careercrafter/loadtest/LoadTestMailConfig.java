@@ -0,0 +1,20 @@
+package com.hexaware.careercrafter.loadtest;
+
+import com.hexaware.careercrafter.service.FakeJavaMailSender;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/*
+ * Replaces the SMTP JavaMailSender with the in-memory one on the loadtest profile, so the outbox is drained offline.
+ */
+@Configuration
+@Profile("loadtest")
+class LoadTestMailConfig {
+
+    @Bean
+    JavaMailSender fakeJavaMailSender() {
+        return new FakeJavaMailSender();
+    }
+}
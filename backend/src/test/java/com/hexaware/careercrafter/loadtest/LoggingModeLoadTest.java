@@ -0,0 +1,69 @@
+package com.hexaware.careercrafter.loadtest;
+
+import com.hexaware.careercrafter.CareerCrafterApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Duration;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Throughput of /api/joblistings/filter with the development logging setup (show-sql with format_sql and security
+ * DEBUG, written synchronously) against the prod profile (async JSON appenders, sampled security and SQL debug).
+ * Run with mvn -Ploadtest test; sizes as in ThreadingModeLoadTest.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class LoggingModeLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingModeLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 30));
+    private static final Duration WARM_UP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+    private static final int SEEKERS = Integer.getInteger("loadtest.seekers", 1_000);
+    private static final int LISTINGS = Integer.getInteger("loadtest.listings", 2_000);
+    private static final int APPLICATIONS = Integer.getInteger("loadtest.applications", 2_000);
+
+    private static final String[] SKILLS = {"Java", "Spring%20Boot", "SQL", "React", "Python", "AWS"};
+    private static final String[] LOCATIONS = {"Bangalore", "Chennai", "Hyderabad", "Pune"};
+
+    @Test
+    void compareFilterThroughput_synchronousSqlLoggingVersusProdLogging() throws Exception {
+        LoadDriver.Result synchronous = run("sync-sql-logging", new String[] {"loadtest"},
+                "--spring.jpa.show-sql=true",
+                "--spring.jpa.properties.hibernate.format_sql=true",
+                "--logging.level.org.springframework.security=DEBUG");
+        LoadDriver.Result prod = run("prod-logging", new String[] {"loadtest", "prod"});
+
+        logger.info("{}", synchronous);
+        logger.info("{}", prod);
+        logger.info("Throughput gain without synchronous SQL logging: {}%",
+                String.format("%.1f", (prod.throughput / synchronous.throughput - 1) * 100));
+
+        assertEquals(0, synchronous.errors);
+        assertEquals(0, prod.errors);
+    }
+
+    private LoadDriver.Result run(String mode, String[] profiles, String... args) throws InterruptedException {
+        String[] arguments = new String[args.length + 1];
+        System.arraycopy(args, 0, arguments, 0, args.length);
+        arguments[args.length] = "--spring.datasource.url=jdbc:h2:mem:careercrafter_" + mode.replace('-', '_')
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CareerCrafterApplication.class)
+                .profiles(profiles)
+                .run(arguments)) {
+            LoadTestData data = new LoadTestData(SEEKERS, LISTINGS, APPLICATIONS, context);
+            data.seed(context);
+            List<String> tokens = data.seekerTokens(100);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            return new LoadDriver().run(mode + " /joblistings/filter", CONCURRENCY, WARM_UP, DURATION,
+                    n -> LoadDriver.get(baseUrl, "/api/joblistings/filter?skill=" + SKILLS[n % SKILLS.length]
+                            + "&location=" + LOCATIONS[n % LOCATIONS.length] + "&size=20", tokens.get(n % tokens.size())));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.hexaware.careercrafter.loadtest;
+
+import com.hexaware.careercrafter.CareerCrafterApplication;
+import com.hexaware.careercrafter.config.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+ * Compares platform-thread and virtual-thread request execution on /api/joblistings/filter and /api/applications.
+ * Boots the application once per mode on the loadtest profile, seeds the same LoadTestData set and drives both endpoints
+ * with the same closed-loop client count. Run with mvn -Ploadtest test (virtual mode needs Java 21+); sizes are
+ * tunable with -Dloadtest.concurrency, -Dloadtest.seconds, -Dloadtest.seekers, -Dloadtest.listings and
+ * -Dloadtest.applications.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ThreadingModeLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadingModeLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 30));
+    private static final Duration WARM_UP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+    private static final int SEEKERS = Integer.getInteger("loadtest.seekers", 1_000);
+    private static final int LISTINGS = Integer.getInteger("loadtest.listings", 2_000);
+    private static final int APPLICATIONS = Integer.getInteger("loadtest.applications", 2_000);
+
+    private static final String[] SKILLS = {"Java", "Spring%20Boot", "SQL", "React", "Python", "AWS"};
+    private static final String[] LOCATIONS = {"Bangalore", "Chennai", "Hyderabad", "Pune"};
+
+    @Test
+    void compareRequestThroughput_platformVersusVirtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21+");
+
+        List<LoadDriver.Result> platform = runMode(false);
+        List<LoadDriver.Result> virtual = runMode(true);
+
+        platform.forEach(result -> logger.info("platform threads: {}", result));
+        virtual.forEach(result -> logger.info("virtual threads: {}", result));
+
+        for (LoadDriver.Result result : platform) {
+            assertEquals(0, result.errors, result.name);
+            assertTrue(result.requests > 0, result.name);
+        }
+        for (LoadDriver.Result result : virtual) {
+            assertEquals(0, result.errors, result.name);
+            assertTrue(result.requests > 0, result.name);
+        }
+    }
+
+    private List<LoadDriver.Result> runMode(boolean virtualThreads) throws InterruptedException {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CareerCrafterApplication.class)
+                .profiles("loadtest")
+                .run("--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:careercrafter_" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+            LoadTestData data = new LoadTestData(SEEKERS, LISTINGS, APPLICATIONS, context);
+            data.seed(context);
+            List<String> seekerTokens = data.seekerTokens(100);
+            String employerToken = data.employerTokens(1).get(0);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadDriver driver = new LoadDriver();
+            List<LoadDriver.Result> results = new ArrayList<>();
+            results.add(driver.run(mode + " /joblistings/filter", CONCURRENCY, WARM_UP, DURATION,
+                    n -> LoadDriver.get(baseUrl, "/api/joblistings/filter?skill=" + SKILLS[n % SKILLS.length]
+                            + "&location=" + LOCATIONS[n % LOCATIONS.length] + "&size=20", seekerTokens.get(n % seekerTokens.size()))));
+            results.add(driver.run(mode + " /applications", CONCURRENCY, WARM_UP, DURATION,
+                    n -> LoadDriver.get(baseUrl, "/api/applications", employerToken)));
+
+            Map<String, Object> pinning = context.getBean(VirtualThreadPinningMonitor.class).stats();
+            logger.info("{} pinning: {}", mode, pinning);
+            assertEquals(virtualThreads ? "virtual" : "platform", pinning.get("mode"), "request threading mode");
+            return results;
+        }
+    }
+}
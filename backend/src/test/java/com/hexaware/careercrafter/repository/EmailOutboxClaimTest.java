@@ -0,0 +1,65 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.EmailOutbox;
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Two dispatchers polling the same outbox: a due row is claimed by exactly one of them, stays claimed for the
+ * lease, and becomes claimable again only once the lease has expired.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class EmailOutboxClaimTest {
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            outboxRepository.save(EmailOutbox.builder()
+                    .recipient("user" + i + "@example.com")
+                    .subject("Subject")
+                    .body("Body")
+                    .status(EmailStatus.PENDING)
+                    .nextAttemptAt(now.minusMinutes(1))
+                    .createdAt(now)
+                    .build());
+        }
+        ids = outboxRepository.findDueIds(now, PageRequest.of(0, 10));
+    }
+
+    @Test
+    void claim_givesEachRowToOneDispatcher() {
+        assertEquals(3, outboxRepository.claim(ids, "node-a", now, now.plusMinutes(5)));
+        assertEquals(0, outboxRepository.claim(ids, "node-b", now, now.plusMinutes(5)));
+
+        assertEquals(3, outboxRepository.findClaimed("node-a").size());
+        assertTrue(outboxRepository.findClaimed("node-b").isEmpty());
+        assertTrue(outboxRepository.findDueIds(now, PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void claim_takesOverRowsOnceTheLeaseExpires() {
+        outboxRepository.claim(ids, "node-a", now, now.plusMinutes(5));
+        LocalDateTime later = now.plusMinutes(6);
+
+        assertEquals(3, outboxRepository.claim(outboxRepository.findDueIds(later, PageRequest.of(0, 10)), "node-b", later, later.plusMinutes(5)));
+        assertEquals(0, outboxRepository.markSent(ids, "node-a", later));
+        assertEquals(3, outboxRepository.markSent(ids, "node-b", later));
+    }
+}
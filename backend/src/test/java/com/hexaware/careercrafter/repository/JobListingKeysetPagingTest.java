@@ -0,0 +1,99 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.entities.Employer;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.User;
+import com.hexaware.careercrafter.service.JobListingCursor;
+import com.hexaware.careercrafter.service.JobListingCursor.SortField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Pages through listings whose sort columns are partly null, in every sort order, and checks every listing
+ * is returned exactly once.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class JobListingKeysetPagingTest {
+
+    private static final int LISTINGS = 25;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobListingRepository jobListingRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("employer@example.com");
+        user.setEmail("employer@example.com");
+        user.setPassword("secret");
+        user.setUserType(User.UserType.EMPLOYER);
+        entityManager.persist(user);
+        Employer employer = new Employer();
+        employer.setUser(user);
+        employer.setFullName("Employer");
+        entityManager.persist(employer);
+
+        for (int i = 0; i < LISTINGS; i++) {
+            JobListing listing = new JobListing();
+            listing.setEmployer(employer);
+            listing.setTitle("Job " + i);
+            listing.setDescription("Description " + i);
+            listing.setJobType(JobListing.JobType.FULL_TIME);
+            listing.setSalary(i % 3 == 0 ? null : 1000 * (i % 4));
+            listing.setExperience(i % 4 == 0 ? null : i % 5);
+            listing.setPostedDate(i % 5 == 0 ? null : LocalDate.of(2024, 1, 1 + i % 3));
+            entityManager.persist(listing);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void keyset_visitsEveryListingOnceWhateverTheNullKeys() {
+        for (SortField sortField : SortField.values()) {
+            for (boolean ascending : new boolean[] {true, false}) {
+                List<Integer> visited = walk(sortField, ascending);
+
+                assertEquals(LISTINGS, visited.size(), sortField + (ascending ? " asc" : " desc"));
+                assertEquals(LISTINGS, new HashSet<>(visited).size(), sortField + (ascending ? " asc" : " desc"));
+            }
+        }
+    }
+
+    private List<Integer> walk(SortField sortField, boolean ascending) {
+        List<Integer> visited = new ArrayList<>();
+        Set<String> cursors = new HashSet<>();
+        JobListingCursor after = null;
+        while (true) {
+            List<JobListing> page = jobListingRepository.findBy(
+                    JobListingSpecifications.matching(new JobListingFilter())
+                            .and(JobListingSpecifications.keyset(sortField, ascending, after)),
+                    query -> query.limit(PAGE_SIZE).all());
+            page.forEach(listing -> visited.add(listing.getJobListingId()));
+            if (page.size() < PAGE_SIZE) {
+                return visited;
+            }
+            String token = JobListingCursor.after(page.get(page.size() - 1), sortField, ascending).encode();
+            assertTrue(cursors.add(token), "cursor repeated");
+            after = JobListingCursor.decode(token);
+        }
+    }
+}
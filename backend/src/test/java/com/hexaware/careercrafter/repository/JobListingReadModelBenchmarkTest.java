@@ -0,0 +1,118 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.dto.JobListingSummaryView;
+import com.hexaware.careercrafter.entities.Application;
+import com.hexaware.careercrafter.entities.Employer;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.JobSeeker;
+import com.hexaware.careercrafter.entities.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Compares the legacy list path (load listings, then size() each applications collection)
+ * with the summary projection, reporting statement count and latency for the same data.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class JobListingReadModelBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobListingReadModelBenchmarkTest.class);
+
+    private static final int LISTINGS = 500;
+    private static final int APPLICATIONS_PER_LISTING = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobListingRepository jobListingRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Employer employer = new Employer();
+        employer.setUser(RepositoryFixtures.user(entityManager, "employer@example.com", User.UserType.EMPLOYER));
+        employer.setFullName("Employer");
+        entityManager.persist(employer);
+
+        List<JobSeeker> seekers = new ArrayList<>();
+        for (int s = 0; s < APPLICATIONS_PER_LISTING; s++) {
+            JobSeeker seeker = new JobSeeker();
+            seeker.setUser(RepositoryFixtures.user(entityManager, "seeker" + s + "@example.com", User.UserType.JOBSEEKER));
+            seeker.setFullName("Seeker " + s);
+            seeker.setEmail("seeker" + s + "@example.com");
+            entityManager.persist(seeker);
+            seekers.add(seeker);
+        }
+
+        for (int i = 0; i < LISTINGS; i++) {
+            JobListing listing = new JobListing();
+            listing.setEmployer(employer);
+            listing.setTitle("Job " + i);
+            listing.setDescription("Description " + i);
+            listing.setJobType(JobListing.JobType.FULL_TIME);
+            listing.setPostedDate(LocalDate.now());
+            entityManager.persist(listing);
+            for (int a = 0; a < APPLICATIONS_PER_LISTING; a++) {
+                Application application = new Application();
+                application.setJobListing(listing);
+                application.setJobSeeker(seekers.get(a));
+                entityManager.persist(application);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void summaryProjection_countsApplicantsInOneStatement() {
+        long start = System.nanoTime();
+        long legacyApplicants = jobListingRepository.findAll().stream()
+                .mapToLong(listing -> listing.getApplications().size())
+                .sum();
+        long legacyMillis = (System.nanoTime() - start) / 1_000_000;
+        long legacyStatements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        start = System.nanoTime();
+        List<JobListingSummaryView> summaries = jobListingRepository.findAllSummaries();
+        long summaryApplicants = summaries.stream().mapToLong(JobListingSummaryView::getTotalApplicants).sum();
+        long summaryMillis = (System.nanoTime() - start) / 1_000_000;
+        long summaryStatements = statistics.getPrepareStatementCount();
+
+        logger.info("Job listing list ({} listings): legacy {} statements / {} ms, projection {} statements / {} ms",
+                LISTINGS, legacyStatements, legacyMillis, summaryStatements, summaryMillis);
+
+        assertEquals((long) LISTINGS * APPLICATIONS_PER_LISTING, legacyApplicants);
+        assertEquals(legacyApplicants, summaryApplicants);
+        assertEquals(LISTINGS, summaries.size());
+        assertTrue(legacyStatements > LISTINGS);
+        assertEquals(1, summaryStatements);
+    }
+}
@@ -0,0 +1,121 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.dto.BatchResultDTO;
+import com.hexaware.careercrafter.dto.JobSeekerDTO;
+import com.hexaware.careercrafter.entities.JobSeeker;
+import com.hexaware.careercrafter.service.BatchLoader;
+import com.hexaware.careercrafter.service.JobSeekerServiceImpl;
+import com.hexaware.careercrafter.service.RecommendationMaterializer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Counts the JDBC statements each job seeker read issues through the service, with every seeker carrying
+ * education, certificates, projects and social links. A profile takes two statements and a list takes two
+ * whatever its size; the summary projection takes one.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Import({JobSeekerServiceImpl.class, BatchLoader.class})
+class JobSeekerProfileFetchTest {
+
+    private static final int SEEKERS = 25;
+    private static final int CHILDREN = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobSeekerServiceImpl jobSeekerService;
+
+    @MockitoBean
+    private RecommendationMaterializer recommendationMaterializer;
+
+    private final List<JobSeeker> seekers = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SEEKERS; i++) {
+            seekers.add(RepositoryFixtures.seeker(entityManager, i, CHILDREN));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getJobSeekerById_loadsTheWholeProfileInTwoStatements() {
+        JobSeekerDTO dto = jobSeekerService.getJobSeekerById(seekers.get(0).getJobSeekerId());
+
+        assertFullProfile(dto);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getJobSeekerByUserId_loadsTheWholeProfileInTwoStatements() {
+        JobSeekerDTO dto = jobSeekerService.getJobSeekerByUserId(seekers.get(1).getUser().getUserId());
+
+        assertFullProfile(dto);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllJobSeekers_loadsEveryProfileInTwoStatements() {
+        List<JobSeekerDTO> all = jobSeekerService.getAllJobSeekers();
+
+        assertEquals(SEEKERS, all.size());
+        all.forEach(this::assertFullProfile);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getJobSeekersByIds_loadsTheRequestedProfilesInTwoStatements() {
+        List<Integer> ids = List.of(seekers.get(3).getJobSeekerId(), -1, seekers.get(2).getJobSeekerId());
+
+        BatchResultDTO<JobSeekerDTO> result = jobSeekerService.getJobSeekersByIds(ids);
+
+        assertEquals(List.of(seekers.get(3).getJobSeekerId(), seekers.get(2).getJobSeekerId()),
+                result.getItems().stream().map(JobSeekerDTO::getJobSeekerId).toList());
+        assertEquals(List.of(-1), result.getMissingIds());
+        result.getItems().forEach(this::assertFullProfile);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getJobSeekerSummaries_skipsTheChildCollections() {
+        List<JobSeekerDTO> summaries = jobSeekerService.getJobSeekerSummaries();
+
+        assertEquals(SEEKERS, summaries.size());
+        assertEquals("Seeker 0", summaries.get(0).getFullName());
+        assertNull(summaries.get(0).getEducationDetails());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private void assertFullProfile(JobSeekerDTO dto) {
+        assertEquals(CHILDREN, dto.getEducationDetails().size());
+        assertEquals(CHILDREN, dto.getCertificates().size());
+        assertEquals(CHILDREN, dto.getProjects().size());
+        assertEquals(CHILDREN, dto.getSocialLinks().size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.dto.EducationDTO;
+import com.hexaware.careercrafter.dto.JobSeekerDTO;
+import com.hexaware.careercrafter.dto.JobSeekerPatchDTO;
+import com.hexaware.careercrafter.dto.ProjectDTO;
+import com.hexaware.careercrafter.service.BatchLoader;
+import com.hexaware.careercrafter.service.JobSeekerServiceImpl;
+import com.hexaware.careercrafter.service.RecommendationMaterializer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Counts the rows a profile save writes. Child entries are merged by id, so an edit touches only the rows that
+ * changed instead of deleting and re-inserting every education, certificate, project and social link.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Import({JobSeekerServiceImpl.class, BatchLoader.class})
+class JobSeekerProfileUpdateTest {
+
+    private static final int CHILDREN = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobSeekerServiceImpl jobSeekerService;
+
+    @MockitoBean
+    private RecommendationMaterializer recommendationMaterializer;
+
+    private int seekerId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        seekerId = RepositoryFixtures.seeker(entityManager, 0, CHILDREN).getJobSeekerId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void patchPhone_writesOneRow() {
+        JobSeekerPatchDTO patch = new JobSeekerPatchDTO();
+        patch.setPhone("9876543210");
+
+        statistics.clear();
+        jobSeekerService.patchJobSeeker(seekerId, patch);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void putWithOneEditedChild_updatesOnlyThatChild() {
+        JobSeekerDTO dto = currentProfile();
+        dto.getEducationDetails().get(1).setLocation("Chennai");
+
+        statistics.clear();
+        JobSeekerDTO updated = jobSeekerService.updateJobSeeker(dto);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(dto.getEducationDetails().stream().map(EducationDTO::getId).toList(),
+                updated.getEducationDetails().stream().map(EducationDTO::getId).toList());
+    }
+
+    @Test
+    void putWithOneChildSwapped_deletesOneAndInsertsOne() {
+        JobSeekerDTO dto = currentProfile();
+        List<ProjectDTO> projects = new ArrayList<>(dto.getProjects());
+        int removedId = projects.remove(0).getId();
+        ProjectDTO added = new ProjectDTO();
+        added.setProjectName("New project");
+        projects.add(added);
+        dto.setProjects(projects);
+
+        statistics.clear();
+        JobSeekerDTO updated = jobSeekerService.updateJobSeeker(dto);
+        entityManager.flush();
+
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(CHILDREN, updated.getProjects().size());
+        assertTrue(updated.getProjects().stream().noneMatch(p -> p.getId() == removedId));
+    }
+
+    private JobSeekerDTO currentProfile() {
+        JobSeekerDTO dto = jobSeekerService.getJobSeekerById(seekerId);
+        entityManager.clear();
+        return dto;
+    }
+}
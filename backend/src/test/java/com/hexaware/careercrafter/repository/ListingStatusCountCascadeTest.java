@@ -0,0 +1,87 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.Application;
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
+import com.hexaware.careercrafter.entities.Employer;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.JobSeeker;
+import com.hexaware.careercrafter.entities.ListingStatusCount;
+import com.hexaware.careercrafter.entities.User;
+import com.hexaware.careercrafter.service.ListingStatusCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Deleting a job seeker cascades to their applications; each one must still be withdrawn from its listing's counter.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(ListingStatusCounter.class)
+class ListingStatusCountCascadeTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobSeekerRepository jobSeekerRepository;
+
+    @Autowired
+    private ListingStatusCountRepository countRepository;
+
+    private int seekerId;
+    private int listingId;
+
+    @BeforeEach
+    void setUp() {
+        Employer employer = new Employer();
+        employer.setUser(RepositoryFixtures.user(entityManager, "employer@example.com", User.UserType.EMPLOYER));
+        employer.setFullName("Employer");
+        entityManager.persist(employer);
+
+        JobListing listing = new JobListing();
+        listing.setEmployer(employer);
+        listing.setTitle("Job");
+        listing.setDescription("Description");
+        listing.setJobType(JobListing.JobType.FULL_TIME);
+        listing.setPostedDate(LocalDate.now());
+        entityManager.persist(listing);
+        listingId = listing.getJobListingId();
+
+        JobSeeker seeker = new JobSeeker();
+        seeker.setUser(RepositoryFixtures.user(entityManager, "seeker@example.com", User.UserType.JOBSEEKER));
+        seeker.setFullName("Seeker");
+        seeker.setEmail("seeker@example.com");
+        entityManager.persist(seeker);
+        seekerId = seeker.getJobSeekerId();
+
+        Application application = new Application();
+        application.setJobListing(listing);
+        application.setJobSeeker(seeker);
+        application.setStatus(ApplicationStatus.IN_REVIEW);
+        entityManager.persist(application);
+        entityManager.persist(new ListingStatusCount(listingId, ApplicationStatus.IN_REVIEW, 1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void deletingSeeker_withdrawsTheirApplicationsFromCounters() {
+        jobSeekerRepository.deleteById(seekerId);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ListingStatusCount> counts = countRepository.findByJobListingIdIn(List.of(listingId));
+        assertEquals(1, counts.size());
+        assertEquals(0L, counts.get(0).getApplicationCount());
+    }
+}
@@ -0,0 +1,112 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.service.NotificationContentHash;
+import com.hexaware.careercrafter.service.NotificationDedupIndex;
+import com.hexaware.careercrafter.service.NotificationEventBus;
+import com.hexaware.careercrafter.service.NotificationServiceImpl;
+import com.hexaware.careercrafter.service.UnreadNotificationCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Insert throughput of createNotification against a populated notifications table, compared with the legacy
+ * duplicate check on (user_id, title, message). Runs on H2 in MySQL mode for INSERT IGNORE.
+ * Default size keeps the suite fast; -Dnotification.benchmark.rows=1000000 reproduces the 1M-row measurement.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification_bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({NotificationServiceImpl.class, NotificationDedupIndex.class, UnreadNotificationCounter.class, NotificationEventBus.class})
+class NotificationInsertBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationInsertBenchmarkTest.class);
+
+    private static final int EXISTING = Integer.getInteger("notification.benchmark.rows", 100_000);
+    private static final int USERS = 1_000;
+    private static final int INSERTS = 2_000;
+
+    private static final String SEED_SQL =
+            "INSERT INTO notifications (user_id, title, message, is_read, created_at, content_hash) VALUES (?, ?, ?, false, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationServiceImpl notificationService;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < EXISTING; i++) {
+            long userId = i % USERS;
+            String title = "Existing " + i;
+            String message = "Existing notification message " + i;
+            batch.add(new Object[] {userId, title, message, now, NotificationContentHash.of(userId, title, message)});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate(SEED_SQL, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(SEED_SQL, batch);
+    }
+
+    @Test
+    void hashedInsert_rejectsDuplicatesWithoutScanning() {
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < INSERTS; i++) {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ? AND title = ? AND message = ?",
+                    Long.class, (long) (i % USERS), "New " + i, "New notification message " + i);
+        }
+        long legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000;
+
+        long start = System.nanoTime();
+        int created = 0;
+        for (int i = 0; i < INSERTS; i++) {
+            if (notificationService.createNotification(dto(i % USERS, "New " + i, "New notification message " + i)) != null) {
+                created++;
+            }
+        }
+        long hashedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        int repeated = 0;
+        for (int i = 0; i < 100; i++) {
+            if (notificationService.createNotification(dto(i % USERS, "New " + i, "New notification message " + i)) == null) {
+                repeated++;
+            }
+            if (notificationService.createNotification(dto(i % USERS, "Existing " + i, "Existing notification message " + i)) == null) {
+                repeated++;
+            }
+        }
+
+        logger.info("notification inserts over {} rows: legacy duplicate check {} ms for {}, hashed insert {} ms for {} ({}/s)",
+                EXISTING, legacyMillis, INSERTS, hashedMillis, INSERTS, INSERTS * 1000L / Math.max(1, hashedMillis));
+        assertEquals(INSERTS, created);
+        assertEquals(200, repeated);
+        assertEquals((long) EXISTING + INSERTS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Long.class));
+    }
+
+    private NotificationDTO dto(long userId, String title, String message) {
+        return new NotificationDTO(userId, title, message, false, LocalDateTime.now(), null, null);
+    }
+}
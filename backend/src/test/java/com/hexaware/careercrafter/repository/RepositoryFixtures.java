@@ -0,0 +1,74 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.entities.Certificate;
+import com.hexaware.careercrafter.entities.Education;
+import com.hexaware.careercrafter.entities.JobSeeker;
+import com.hexaware.careercrafter.entities.Project;
+import com.hexaware.careercrafter.entities.SocialLink;
+import com.hexaware.careercrafter.entities.User;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/*
+ * Entities shared by the repository tests: users, and job seekers with a full profile of the given number of
+ * education, certificate, project and social link entries each.
+ */
+final class RepositoryFixtures {
+
+    private RepositoryFixtures() {
+    }
+
+    static JobSeeker seeker(TestEntityManager entityManager, int i, int children) {
+        JobSeeker seeker = new JobSeeker();
+        seeker.setUser(user(entityManager, "seeker" + i + "@example.com", User.UserType.JOBSEEKER));
+        seeker.setFullName("Seeker " + i);
+        seeker.setEmail("seeker" + i + "@example.com");
+        seeker.setPhone("9123456780");
+
+        Set<Education> educations = new LinkedHashSet<>();
+        Set<Certificate> certificates = new LinkedHashSet<>();
+        Set<Project> projects = new LinkedHashSet<>();
+        Set<SocialLink> links = new LinkedHashSet<>();
+        for (int c = 0; c < children; c++) {
+            Education education = new Education();
+            education.setJobSeeker(seeker);
+            education.setLevel("Degree " + c);
+            education.setInstitutionName("Institute " + c);
+            educations.add(education);
+
+            Certificate certificate = new Certificate();
+            certificate.setJobSeeker(seeker);
+            certificate.setCertificateName("Certificate " + c);
+            certificate.setOrganization("Organization " + c);
+            certificates.add(certificate);
+
+            Project project = new Project();
+            project.setJobSeeker(seeker);
+            project.setProjectName("Project " + c);
+            projects.add(project);
+
+            SocialLink link = new SocialLink();
+            link.setJobSeeker(seeker);
+            link.setPlatform("Platform " + c);
+            link.setUrl("https://example.com/" + i + "/" + c);
+            links.add(link);
+        }
+        seeker.setEducationDetails(educations);
+        seeker.setCertificates(certificates);
+        seeker.setProjects(projects);
+        seeker.setSocialLinks(links);
+        entityManager.persist(seeker);
+        return seeker;
+    }
+
+    static User user(TestEntityManager entityManager, String email, User.UserType type) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setUserType(type);
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hexaware.careercrafter.repository;
+
+import com.hexaware.careercrafter.service.NotificationDedupIndex;
+import com.hexaware.careercrafter.service.NotificationEventBus;
+import com.hexaware.careercrafter.service.NotificationServiceImpl;
+import com.hexaware.careercrafter.service.UnreadNotificationCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Counts the connections the pool hands out for an unread-count poll: the first poll loads the count from the
+ * database, every later one is answered from UnreadNotificationCounter without checking out a connection.
+ * Runs outside a test transaction, which would otherwise hold a connection for the whole test.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({NotificationServiceImpl.class, NotificationDedupIndex.class, UnreadNotificationCounter.class, NotificationEventBus.class,
+        UnreadCountConnectionTest.CountingDataSourceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UnreadCountConnectionTest {
+
+    private static final AtomicInteger CHECKOUTS = new AtomicInteger();
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            CHECKOUTS.incrementAndGet();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            CHECKOUTS.incrementAndGet();
+            return super.getConnection(username, password);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationServiceImpl notificationService;
+
+    @Test
+    void warmUnreadCount_checksOutNoConnection() {
+        jdbcTemplate.update("INSERT INTO notifications (user_id, title, message, is_read, created_at, content_hash) " +
+                "VALUES (7, 'Title', 'Message', false, CURRENT_TIMESTAMP, 7)");
+
+        CHECKOUTS.set(0);
+        assertEquals(1L, notificationService.countUnreadNotificationsByUserId(7L));
+        assertTrue(CHECKOUTS.get() > 0, "a cold count loads from the database");
+
+        CHECKOUTS.set(0);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1L, notificationService.countUnreadNotificationsByUserId(7L));
+        }
+        assertEquals(0, CHECKOUTS.get());
+
+        jdbcTemplate.update("DELETE FROM notifications");
+    }
+}
@@ -0,0 +1,74 @@
+package com.hexaware.careercrafter.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private TtlCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TtlCache<>(2, now::get);
+    }
+
+    @Test
+    void get_returnsValueUntilItExpires() {
+        cache.put("a", "1", 2_000);
+
+        assertEquals("1", cache.get("a"));
+        now.set(2_000);
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedBeyondMaxSize() {
+        cache.put("a", "1", 5_000);
+        cache.put("b", "2", 5_000);
+        cache.get("a");
+        cache.put("c", "3", 5_000);
+
+        assertNull(cache.get("b"));
+        assertEquals("1", cache.get("a"));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    void invalidateIf_removesMatchingValues() {
+        cache.put("a", "1", 5_000);
+        cache.put("b", "2", 5_000);
+
+        assertEquals(1, cache.invalidateIf("1"::equals));
+        assertNull(cache.get("a"));
+        assertEquals("2", cache.get("b"));
+    }
+
+    @Test
+    void take_returnsUnexpiredValueOnce() {
+        cache.put("a", "1", 2_000);
+        cache.put("b", "2", 2_000);
+
+        assertEquals("1", cache.take("a"));
+        assertNull(cache.take("a"));
+        now.set(2_000);
+        assertNull(cache.take("b"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void contains_respectsExpiryWithoutCountingLookups() {
+        cache.put("a", "1", 2_000);
+
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        now.set(2_000);
+        assertFalse(cache.contains("a"));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+}
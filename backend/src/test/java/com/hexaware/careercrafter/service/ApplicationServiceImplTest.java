@@ -1,25 +1,43 @@
 package com.hexaware.careercrafter.service;
 
 import com.hexaware.careercrafter.dto.ApplicationDTO;
+import com.hexaware.careercrafter.dto.ApplyTargetView;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
+import com.hexaware.careercrafter.dto.EmployerApplicationDTO;
+import com.hexaware.careercrafter.dto.EmployerApplicationView;
 import com.hexaware.careercrafter.entities.Application;
 import com.hexaware.careercrafter.entities.JobListing;
 import com.hexaware.careercrafter.entities.JobSeeker;
+import com.hexaware.careercrafter.entities.User;
+import com.hexaware.careercrafter.exception.DuplicateResourceException;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
 import com.hexaware.careercrafter.repository.ApplicationRepository;
+import com.hexaware.careercrafter.repository.EmployerRepository;
 import com.hexaware.careercrafter.repository.JobListingRepository;
 import com.hexaware.careercrafter.repository.JobSeekerRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +52,18 @@ class ApplicationServiceImplTest {
     @Mock
     private JobSeekerRepository jobSeekerRepository;
 
+    @Mock
+    private EmployerRepository employerRepository;
+
+    @Mock
+    private ListingStatusCounter listingStatusCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ApplicationServiceImpl applicationService;
 
@@ -61,17 +91,42 @@ class ApplicationServiceImplTest {
         applicationEntity.setJobListing(jobListingEntity);
         applicationEntity.setJobSeeker(jobSeekerEntity);
         applicationEntity.setStatus(Application.ApplicationStatus.APPLIED);
+
+        ReflectionTestUtils.setField(applicationService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(applicationService, "maxPageSize", 100);
+        ReflectionTestUtils.setField(applicationService, "transactionTemplate", new TransactionTemplate(transactionManager));
     }
 
     @Test
     void applyForJob_success() {
-        when(jobListingRepository.findById(applicationDTO.getJobListingId())).thenReturn(Optional.of(jobListingEntity));
-        when(jobSeekerRepository.findById(applicationDTO.getJobSeekerId())).thenReturn(Optional.of(jobSeekerEntity));
+        when(applicationRepository.findApplyTarget(100, 200)).thenReturn(Optional.of(target()));
         when(applicationRepository.save(any(Application.class))).thenReturn(applicationEntity);
 
-        ApplicationDTO result = applicationService.applyForJob(applicationDTO);
+        ApplicationDTO result = applicationService.applyForJob(applicationDTO, null);
         assertNotNull(result);
         verify(applicationRepository, times(1)).save(any());
+        verify(jobListingRepository, never()).findById(anyInt());
+        verify(jobSeekerRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    void updateApplication_publishesSingleNotificationEvent() {
+        User user = new User();
+        user.setUserId(7);
+        user.setEmail("seeker@example.com");
+        jobSeekerEntity.setUser(user);
+        jobListingEntity.setTitle("Java Developer");
+        when(applicationRepository.findForUpdate(1)).thenReturn(Optional.of(applicationEntity));
+        when(jobListingRepository.findById(100)).thenReturn(Optional.of(jobListingEntity));
+        when(jobSeekerRepository.findById(200)).thenReturn(Optional.of(jobSeekerEntity));
+        when(applicationRepository.save(any(Application.class))).thenReturn(applicationEntity);
+
+        applicationService.updateApplication(applicationDTO);
+
+        ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(7L, captor.getValue().getUserId());
+        assertEquals(1L, captor.getValue().getApplicationId());
     }
 
     @Test
@@ -93,8 +148,186 @@ class ApplicationServiceImplTest {
 
     @Test
     void deleteApplication_notFound() {
-        when(applicationRepository.existsById(1)).thenReturn(false);
+        when(applicationRepository.findForUpdate(1)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> applicationService.deleteApplication(1));
     }
+
+    @Test
+    void getEmployerInbox_returnsPageAndCursorToNextPage() {
+        List<EmployerApplicationView> rows = List.of(inboxRow(30), inboxRow(20), mock(EmployerApplicationView.class));
+        when(applicationRepository.findEmployerInbox(eq(7), eq(100), eq(Application.ApplicationStatus.APPLIED),
+                isNull(), any(Pageable.class))).thenReturn(rows);
+
+        CursorPageDTO<EmployerApplicationDTO> page = applicationService.getEmployerInbox(7, 100, "applied", null, null);
+
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasMore());
+        assertEquals(30, page.getItems().get(0).getApplicationId());
+        assertEquals(20, ApplicationCursor.decode(page.getNextCursor()).getApplicationId());
+        verify(employerRepository, never()).existsById(anyInt());
+    }
+
+    @Test
+    void getEmployerInbox_continuesAfterCursor() {
+        List<EmployerApplicationView> rows = List.of(inboxRow(10));
+        when(applicationRepository.findEmployerInbox(eq(7), isNull(), isNull(), eq(20), any(Pageable.class)))
+                .thenReturn(rows);
+
+        CursorPageDTO<EmployerApplicationDTO> page = applicationService.getEmployerInbox(7, null, null,
+                new ApplicationCursor(20).encode(), null);
+
+        assertEquals(1, page.getSize());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getEmployerInbox_unknownEmployer() {
+        when(applicationRepository.findEmployerInbox(eq(9), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(employerRepository.existsById(9)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> applicationService.getEmployerInbox(9, null, null, null, null));
+    }
+
+    @Test
+    void getEmployerInbox_rejectsUnknownStatusAndOversizedPage() {
+        assertThrows(InvalidRequestException.class, () -> applicationService.getEmployerInbox(7, null, "ARCHIVED", null, null));
+        assertThrows(InvalidRequestException.class, () -> applicationService.getEmployerInbox(7, null, null, null, 101));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    private EmployerApplicationView inboxRow(int applicationId) {
+        EmployerApplicationView row = mock(EmployerApplicationView.class);
+        when(row.getApplicationId()).thenReturn(applicationId);
+        when(row.getStatus()).thenReturn(Application.ApplicationStatus.APPLIED);
+        return row;
+    }
+
+    @Test
+    void applyForJob_countsTheNewApplication() {
+        when(applicationRepository.findApplyTarget(100, 200)).thenReturn(Optional.of(target()));
+        when(applicationRepository.save(any(Application.class))).thenReturn(applicationEntity);
+
+        applicationService.applyForJob(applicationDTO, null);
+
+        verify(listingStatusCounter).applied(100, Application.ApplicationStatus.APPLIED);
+    }
+
+    @Test
+    void applyForJob_denormalizesFromTheProjection() {
+        when(applicationRepository.findApplyTarget(100, 200)).thenReturn(Optional.of(target()));
+        when(jobListingRepository.getReferenceById(100)).thenReturn(jobListingEntity);
+        when(jobSeekerRepository.getReferenceById(200)).thenReturn(jobSeekerEntity);
+        when(applicationRepository.save(any(Application.class))).thenReturn(applicationEntity);
+
+        applicationService.applyForJob(applicationDTO, "key-1");
+
+        ArgumentCaptor<Application> captor = ArgumentCaptor.forClass(Application.class);
+        verify(applicationRepository).save(captor.capture());
+        assertSame(jobListingEntity, captor.getValue().getJobListing());
+        assertSame(jobSeekerEntity, captor.getValue().getJobSeeker());
+        assertEquals("Backend Engineer", captor.getValue().getJobTitle());
+        assertEquals("Alice", captor.getValue().getApplicantName());
+        assertEquals("key-1", captor.getValue().getIdempotencyKey());
+        verify(eventPublisher).publishEvent(any(NotificationEvent.class));
+    }
+
+    @Test
+    void applyForJob_missingListing_throws() {
+        when(applicationRepository.findApplyTarget(100, 200)).thenReturn(Optional.empty());
+        when(jobListingRepository.existsById(100)).thenReturn(false);
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> applicationService.applyForJob(applicationDTO, null));
+        assertTrue(ex.getMessage().contains("Job listing"));
+        verify(applicationRepository, never()).save(any());
+    }
+
+    @Test
+    void applyForJob_duplicate_throwsConflict() {
+        when(applicationRepository.findApplyTarget(100, 200)).thenReturn(Optional.of(target()));
+        when(applicationRepository.save(any(Application.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(applicationRepository.existsByJobListingJobListingIdAndJobSeekerJobSeekerId(100, 200)).thenReturn(true);
+
+        assertThrows(DuplicateResourceException.class, () -> applicationService.applyForJob(applicationDTO, null));
+        verifyNoInteractions(listingStatusCounter);
+    }
+
+    @Test
+    void applyForJob_repeatedIdempotencyKey_replaysTheEarlierApplication() {
+        applicationEntity.setIdempotencyKey("key-1");
+        when(applicationRepository.findApplyTarget(100, 200)).thenReturn(Optional.of(target()));
+        when(applicationRepository.save(any(Application.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(applicationRepository.findByJobSeekerJobSeekerIdAndIdempotencyKey(200, "key-1")).thenReturn(Optional.of(applicationEntity));
+
+        ApplicationDTO result = applicationService.applyForJob(applicationDTO, "key-1");
+
+        assertEquals(1, result.getApplicationId());
+        verifyNoInteractions(listingStatusCounter, eventPublisher);
+    }
+
+    @Test
+    void applyForJob_idempotencyKeyReusedForAnotherListing_throws() {
+        JobListing otherListing = new JobListing();
+        otherListing.setJobListingId(101);
+        applicationEntity.setJobListing(otherListing);
+        when(applicationRepository.findApplyTarget(100, 200)).thenReturn(Optional.of(target()));
+        when(applicationRepository.save(any(Application.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(applicationRepository.findByJobSeekerJobSeekerIdAndIdempotencyKey(200, "key-1")).thenReturn(Optional.of(applicationEntity));
+
+        assertThrows(InvalidRequestException.class, () -> applicationService.applyForJob(applicationDTO, "key-1"));
+    }
+
+    @Test
+    void applyForJob_oversizedIdempotencyKey_throws() {
+        assertThrows(InvalidRequestException.class, () -> applicationService.applyForJob(applicationDTO, "k".repeat(65)));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void updateApplication_ontoAnExistingPair_throwsConflict() {
+        applicationDTO.setJobListingId(101);
+        when(applicationRepository.findForUpdate(1)).thenReturn(Optional.of(applicationEntity));
+        when(applicationRepository.existsByJobListingJobListingIdAndJobSeekerJobSeekerId(101, 200)).thenReturn(true);
+
+        assertThrows(DuplicateResourceException.class, () -> applicationService.updateApplication(applicationDTO));
+        verify(applicationRepository, never()).save(any());
+    }
+
+    @Test
+    void updateApplication_movesCounterFromPreviousStatus() {
+        applicationDTO.setStatus(ApplicationDTO.ApplicationStatus.SHORTLISTED);
+        when(applicationRepository.findForUpdate(1)).thenReturn(Optional.of(applicationEntity));
+        when(jobListingRepository.findById(100)).thenReturn(Optional.of(jobListingEntity));
+        when(jobSeekerRepository.findById(200)).thenReturn(Optional.of(jobSeekerEntity));
+        when(applicationRepository.save(any(Application.class))).thenReturn(applicationEntity);
+
+        applicationService.updateApplication(applicationDTO);
+
+        verify(listingStatusCounter).moved(100, Application.ApplicationStatus.APPLIED, 100, Application.ApplicationStatus.SHORTLISTED);
+    }
+
+    @Test
+    void deleteApplication_leavesCounterToEntityListener() {
+        applicationEntity.setStatus(Application.ApplicationStatus.IN_REVIEW);
+        when(applicationRepository.findForUpdate(1)).thenReturn(Optional.of(applicationEntity));
+
+        applicationService.deleteApplication(1);
+
+        verify(applicationRepository).delete(applicationEntity);
+        verifyNoInteractions(listingStatusCounter);
+    }
+
+    private ApplyTargetView target() {
+        return new ApplyTargetView() {
+            public int getJobListingId() { return 100; }
+            public String getJobTitle() { return "Backend Engineer"; }
+            public String getApplicantName() { return "Alice"; }
+            public String getEmployerName() { return "Acme"; }
+            public Integer getEmployerUserId() { return 7; }
+            public String getEmployerEmail() { return "hr@acme.example"; }
+        };
+    }
 }
@@ -0,0 +1,41 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.BatchResultDTO;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    private BatchLoader batchLoader;
+
+    @BeforeEach
+    void setUp() {
+        batchLoader = new BatchLoader();
+        ReflectionTestUtils.setField(batchLoader, "maxIds", 3);
+    }
+
+    @Test
+    void distinctIds_dropsDuplicatesInRequestOrder() {
+        assertEquals(List.of(4, 1, 9), batchLoader.distinctIds(List.of(4, 1, 4, 9, 1)));
+    }
+
+    @Test
+    void distinctIds_rejectsEmptyAndOversizedBatches() {
+        assertThrows(InvalidRequestException.class, () -> batchLoader.distinctIds(List.of()));
+        assertThrows(InvalidRequestException.class, () -> batchLoader.distinctIds(List.of(1, 2, 3, 4)));
+        assertThrows(InvalidRequestException.class, () -> batchLoader.distinctIds(Arrays.asList(1, null)));
+    }
+
+    @Test
+    void toResult_mapsFoundRowsAndListsMissingIds() {
+        BatchResultDTO<String> result = BatchLoader.toResult(List.of(7, 8, 9), Arrays.asList("a", null, "c"), String::toUpperCase);
+
+        assertEquals(List.of("A", "C"), result.getItems());
+        assertEquals(List.of(8), result.getMissingIds());
+    }
+}
@@ -0,0 +1,145 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.EmailOutbox;
+import com.hexaware.careercrafter.entities.EmailOutbox.EmailStatus;
+import com.hexaware.careercrafter.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    private final FakeJavaMailSender mailSender = new FakeJavaMailSender();
+
+    @Test
+    void dispatch_sendsEachDomainOverOneConnection() {
+        EmailOutboxDispatcher dispatcher = dispatcher(100, 4);
+        due(email(1L, "a@gmail.com"), email(2L, "b@gmail.com"), email(3L, "c@example.com"));
+
+        dispatcher.dispatch();
+
+        assertEquals(3, mailSender.getSent().size());
+        assertEquals(2, mailSender.getConnections());
+        verify(outboxRepository).markSent(eq(List.of(1L, 2L)), anyString(), any(LocalDateTime.class));
+        verify(outboxRepository).markSent(eq(List.of(3L)), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void dispatch_schedulesRetryForRejectedRecipient() {
+        EmailOutboxDispatcher dispatcher = dispatcher(100, 4);
+        mailSender.failFor("bad@gmail.com");
+        due(email(1L, "ok@gmail.com"), email(2L, "bad@gmail.com"));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).markSent(eq(List.of(1L)), anyString(), any(LocalDateTime.class));
+        verify(outboxRepository).recordFailure(eq(2L), anyString(), eq(EmailStatus.PENDING), eq(1), any(LocalDateTime.class), anyString());
+    }
+
+    @Test
+    void dispatch_defersEmailsBeyondDomainRateLimit() {
+        EmailOutboxDispatcher dispatcher = dispatcher(1, 4);
+        due(email(1L, "a@gmail.com"), email(2L, "b@gmail.com"));
+
+        dispatcher.dispatch();
+
+        assertEquals(1, mailSender.getSent().size());
+        verify(outboxRepository).release(eq(List.of(2L)), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void dispatch_sendsAndSettlesUnderTheClaimToken() {
+        EmailOutboxDispatcher dispatcher = dispatcher(100, 4);
+        due(email(1L, "a@gmail.com"));
+
+        dispatcher.dispatch();
+
+        ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository).claim(eq(List.of(1L)), claimToken.capture(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(outboxRepository).findClaimed(claimToken.getValue());
+        verify(outboxRepository).markSent(eq(List.of(1L)), eq(claimToken.getValue()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void dispatch_sendsNothingWhenAnotherNodeClaimedTheRows() {
+        EmailOutboxDispatcher dispatcher = dispatcher(100, 4);
+        when(outboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(outboxRepository.claim(anyList(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+
+        dispatcher.dispatch();
+
+        assertTrue(mailSender.getSent().isEmpty());
+        verify(outboxRepository, never()).findClaimed(anyString());
+    }
+
+    @Test
+    void dispatch_handsBatchesOffWithoutWaitingAndReleasesGroupsBeyondFreeSenders() {
+        List<Runnable> submitted = new ArrayList<>();
+        EmailOutboxDispatcher dispatcher = dispatcher(100, 1);
+        ReflectionTestUtils.setField(dispatcher, "emailExecutor", (TaskExecutor) submitted::add);
+        due(email(1L, "a@gmail.com"), email(2L, "b@example.com"));
+
+        dispatcher.dispatch();
+
+        assertEquals(1, submitted.size());
+        assertTrue(mailSender.getSent().isEmpty());
+        verify(outboxRepository).release(eq(List.of(2L)), anyString(), any(LocalDateTime.class));
+
+        dispatcher.dispatch();
+        verify(outboxRepository, times(1)).findDueIds(any(LocalDateTime.class), any(Pageable.class));
+
+        submitted.get(0).run();
+        assertEquals(1, mailSender.getSent().size());
+    }
+
+    private void due(EmailOutbox... emails) {
+        List<Long> ids = Arrays.stream(emails).map(EmailOutbox::getOutboxId).toList();
+        when(outboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(ids);
+        when(outboxRepository.claim(eq(ids), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(ids.size());
+        when(outboxRepository.findClaimed(anyString())).thenReturn(List.of(emails));
+    }
+
+    private EmailOutboxDispatcher dispatcher(int ratePerMinute, int senders) {
+        EmailOutboxDispatcher dispatcher = new EmailOutboxDispatcher(ratePerMinute, senders);
+        ReflectionTestUtils.setField(dispatcher, "outboxRepository", outboxRepository);
+        ReflectionTestUtils.setField(dispatcher, "mailSender", mailSender);
+        ReflectionTestUtils.setField(dispatcher, "emailExecutor", new SyncTaskExecutor());
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 200);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 60000L);
+        ReflectionTestUtils.setField(dispatcher, "leaseMs", 300000L);
+        return dispatcher;
+    }
+
+    private EmailOutbox email(Long id, String recipient) {
+        return EmailOutbox.builder()
+                .outboxId(id)
+                .recipient(recipient)
+                .subject("Subject")
+                .body("Body")
+                .status(EmailStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
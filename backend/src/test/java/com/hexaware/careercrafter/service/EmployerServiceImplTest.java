@@ -71,6 +71,14 @@ class EmployerServiceImplTest {
         assertThrows(ResourceNotFoundException.class, () -> employerService.getEmployerById(1));
     }
 
+    @Test
+    void isEmployerOwnedBy_checksTheEmployersUser() {
+        when(employerRepository.existsByEmployerIdAndUserUserId(1, 100)).thenReturn(true);
+
+        assertTrue(employerService.isEmployerOwnedBy(1, 100));
+        assertFalse(employerService.isEmployerOwnedBy(1, 200));
+    }
+
     @Test
     void deleteEmployer_notFound() {
         when(employerRepository.existsById(1)).thenReturn(false);
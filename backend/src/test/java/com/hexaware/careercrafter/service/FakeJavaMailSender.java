@@ -0,0 +1,82 @@
+package com.hexaware.careercrafter.service;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * In-memory JavaMailSender for tests and the load-test profile.
+ * Records every message instead of sending it; recipients added with failFor() are rejected.
+ */
+
+public class FakeJavaMailSender implements JavaMailSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(FakeJavaMailSender.class);
+
+    private final List<SimpleMailMessage> sent = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> failingRecipients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) throws MailException {
+        connections.incrementAndGet();
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        for (SimpleMailMessage message : simpleMessages) {
+            String to = message.getTo() != null && message.getTo().length > 0 ? message.getTo()[0] : null;
+            if (to != null && failingRecipients.contains(to)) {
+                failures.put(message, new MailSendException("Recipient rejected: " + to));
+            } else {
+                sent.add(message);
+                logger.info("Fake email to {}: {}", to, message.getSubject());
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new MailSendException(failures);
+        }
+    }
+
+    @Override
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+
+    @Override
+    public MimeMessage createMimeMessage(InputStream contentStream) throws MailException {
+        throw new UnsupportedOperationException("MIME messages are not supported by the fake mail sender");
+    }
+
+    @Override
+    public void send(MimeMessage... mimeMessages) throws MailException {
+        throw new UnsupportedOperationException("MIME messages are not supported by the fake mail sender");
+    }
+
+    public void failFor(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    public List<SimpleMailMessage> getSent() {
+        return new ArrayList<>(sent);
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+}
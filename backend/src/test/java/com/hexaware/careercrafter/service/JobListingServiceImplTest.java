@@ -1,9 +1,15 @@
 package com.hexaware.careercrafter.service;
 
+import com.hexaware.careercrafter.dto.BatchResultDTO;
+import com.hexaware.careercrafter.dto.CursorPageDTO;
 import com.hexaware.careercrafter.dto.JobListingDTO;
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
 import com.hexaware.careercrafter.entities.Employer;
 import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
+import com.hexaware.careercrafter.repository.ApplicationRepository;
 import com.hexaware.careercrafter.repository.EmployerRepository;
 import com.hexaware.careercrafter.repository.JobListingRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +40,27 @@ class JobListingServiceImplTest {
     @Mock
     private EmployerRepository employerRepository;
 
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private NotificationFanoutService notificationFanoutService;
+
+    @Mock
+    private SkillIndexService skillIndexService;
+
+    @Mock
+    private JobSearchService jobSearchService;
+
+    @Mock
+    private RecommendationMaterializer recommendationMaterializer;
+
+    @Mock
+    private BatchLoader batchLoader;
+
+    @Mock
+    private ListingStatusCounter listingStatusCounter;
+
     @InjectMocks
     private JobListingServiceImpl jobListingService;
 
@@ -53,6 +88,9 @@ class JobListingServiceImplTest {
 
         employer = new Employer();
         employer.setEmployerId(10);
+
+        ReflectionTestUtils.setField(jobListingService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(jobListingService, "maxPageSize", 100);
     }
 
     @Test
@@ -63,15 +101,21 @@ class JobListingServiceImplTest {
         JobListingDTO result = jobListingService.createJobListing(dto);
         assertNotNull(result);
         verify(jobListingRepository, times(1)).save(any());
+        verify(skillIndexService, times(1)).indexListing(entity);
+        verify(jobSearchService, times(1)).indexListing(entity);
+        verify(notificationFanoutService, times(1)).startFanout(entity);
+        verify(recommendationMaterializer, times(1)).listingChanged(entity.getJobListingId());
     }
 
     @Test
     void getJobListingById_found() {
         when(jobListingRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(applicationRepository.countByJobListingJobListingId(1)).thenReturn(4L);
 
         JobListingDTO result = jobListingService.getJobListingById(1);
         assertNotNull(result);
         assertEquals(1, result.getJobListingId());
+        assertEquals(4, result.getTotalApplicants());
     }
 
     @Test
@@ -90,4 +134,117 @@ class JobListingServiceImplTest {
         verify(jobListingRepository, times(1)).existsById(1);
         verify(jobListingRepository, never()).deleteById(anyInt());
     }
+
+    @Test
+    void deleteJobListing_rolledBack_keepsListingInSearchIndex() {
+        when(jobListingRepository.existsById(1)).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            jobListingService.deleteJobListing(1);
+            verify(jobSearchService, never()).removeListing(anyInt());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(jobListingRepository).deleteById(1);
+        verify(jobSearchService, never()).removeListing(anyInt());
+    }
+
+    @Test
+    void deleteJobListing_committed_removesListingFromSearchIndex() {
+        when(jobListingRepository.existsById(1)).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            jobListingService.deleteJobListing(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(jobSearchService).removeListing(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchJobListings_returnsCursorWhenMoreRowsExist() {
+        List<JobListing> rows = List.of(listing(9, 5), listing(7, 5), listing(4, 3));
+        when(jobListingRepository.findBy(any(Specification.class), any())).thenReturn(rows);
+
+        CursorPageDTO<JobListingDTO> page = jobListingService.searchJobListings(new JobListingFilter(), null, null, "postedDate", null);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        JobListingCursor cursor = JobListingCursor.decode(page.getNextCursor());
+        assertEquals(7, cursor.getJobListingId());
+        assertEquals(LocalDate.of(2024, 1, 5).toEpochDay(), cursor.getSortKey().longValue());
+        assertFalse(cursor.isAscending());
+    }
+
+    @Test
+    void searchJobListings_rejectsOversizedPage() {
+        assertThrows(InvalidRequestException.class,
+                () -> jobListingService.searchJobListings(new JobListingFilter(), null, 101, null, null));
+    }
+
+    @Test
+    void searchJobListings_rejectsCursorForDifferentSort() {
+        String cursor = new JobListingCursor(JobListingCursor.SortField.SALARY, false, 50000L, 3).encode();
+
+        assertThrows(InvalidRequestException.class,
+                () -> jobListingService.searchJobListings(new JobListingFilter(), cursor, null, "experience", null));
+        assertThrows(InvalidRequestException.class,
+                () -> jobListingService.searchJobListings(new JobListingFilter(), "not-a-cursor", null, null, null));
+    }
+
+    private JobListing listing(int id, int day) {
+        JobListing listing = new JobListing();
+        listing.setJobListingId(id);
+        listing.setPostedDate(LocalDate.of(2024, 1, day));
+        return listing;
+    }
+
+    @Test
+    void getJobListingsByIds_keepsRequestOrderAndReportsMissing() {
+        JobListing second = new JobListing();
+        second.setJobListingId(2);
+        List<Integer> ids = List.of(1, 5, 2);
+        when(batchLoader.distinctIds(List.of(1, 5, 2, 1))).thenReturn(ids);
+        when(batchLoader.load(JobListing.class, ids)).thenReturn(java.util.Arrays.asList(entity, null, second));
+        when(applicationRepository.countByJobListingIds(List.of(1, 2))).thenReturn(List.of());
+
+        BatchResultDTO<JobListingDTO> result = jobListingService.getJobListingsByIds(List.of(1, 5, 2, 1));
+
+        assertEquals(List.of(1, 2), result.getItems().stream().map(JobListingDTO::getJobListingId).toList());
+        assertEquals(List.of(5), result.getMissingIds());
+        verify(jobListingRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    void getEmployerJobListingsWithStatusCounts_readsCountersNotApplications() {
+        entity.setEmployer(employer);
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        counts.put(ApplicationStatus.APPLIED, 3L);
+        counts.put(ApplicationStatus.HIRED, 1L);
+        when(jobListingRepository.findByEmployerEmployerIdOrderByJobListingIdDesc(10)).thenReturn(List.of(entity));
+        when(listingStatusCounter.countsFor(List.of(1))).thenReturn(Map.of(1, counts));
+
+        List<JobListingDTO> result = jobListingService.getEmployerJobListingsWithStatusCounts(10);
+
+        assertEquals(1, result.size());
+        assertEquals(4, result.get(0).getTotalApplicants());
+        assertEquals(3L, result.get(0).getStatusCounts().get(ApplicationStatus.APPLIED));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void getEmployerJobListingsWithStatusCounts_unknownEmployer() {
+        when(jobListingRepository.findByEmployerEmployerIdOrderByJobListingIdDesc(99)).thenReturn(List.of());
+        when(employerRepository.existsById(99)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> jobListingService.getEmployerJobListingsWithStatusCounts(99));
+    }
 }
@@ -0,0 +1,110 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.JobListingFilter;
+import com.hexaware.careercrafter.entities.JobListing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSearchServiceTest {
+
+    @TempDir
+    Path indexDir;
+
+    private JobSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new JobSearchService(indexDir.toString());
+        searchService.indexListing(listing(1, "Senior Java Developer", "Java, Spring", "Build Spring Boot services",
+                "Chennai", JobListing.JobType.FULL_TIME, 5));
+        searchService.indexListing(listing(2, "Python Developer", "Python", "Data pipelines in python and java",
+                "Pune", JobListing.JobType.PART_TIME, 2));
+        searchService.indexListing(listing(3, "Java Architect", "Java", "Design spring boot platforms",
+                "Chennai", JobListing.JobType.FULL_TIME, 12));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchService.close();
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveDescriptionMatches() {
+        JobSearchService.SearchHits hits = search("java", new JobListingFilter());
+
+        assertEquals(3, hits.getTotal());
+        assertEquals(2, hits.getIds().get(2));
+    }
+
+    @Test
+    void search_phraseRequiresAdjacentTermsInOrder() {
+        assertEquals(Set.of(1, 3), Set.copyOf(search("\"spring boot\"", new JobListingFilter()).getIds()));
+        assertEquals(0, search("\"boot spring\"", new JobListingFilter()).getTotal());
+    }
+
+    @Test
+    void search_toleratesTypos() {
+        assertTrue(search("javva", new JobListingFilter()).getIds().containsAll(List.of(1, 3)));
+        assertTrue(search("developr", new JobListingFilter()).getIds().contains(1));
+    }
+
+    @Test
+    void search_roleAndSkillFilterWithoutChangingScores() {
+        JobListingFilter filter = new JobListingFilter();
+        filter.setRole("architect");
+        JobSearchService.SearchHits filtered = search("java", filter);
+        JobSearchService.SearchHits unfiltered = search("java", new JobListingFilter());
+
+        assertEquals(List.of(3), filtered.getIds());
+        assertEquals(unfiltered.getScores().get(unfiltered.getIds().indexOf(3)), filtered.getScores().get(0));
+
+        filter = new JobListingFilter();
+        filter.setSkill("python");
+        assertEquals(List.of(2), search("java", filter).getIds());
+    }
+
+    @Test
+    void search_countsFacetsBeforeJobTypeAndExperienceFilters() {
+        JobListingFilter filter = new JobListingFilter();
+        filter.setJobType(JobListing.JobType.FULL_TIME);
+        filter.setExperience(9);
+
+        JobSearchService.SearchHits hits = search("java", filter);
+
+        assertEquals(List.of(1), hits.getIds());
+        assertEquals(2L, hits.getJobTypeFacets().get("FULL_TIME"));
+        assertEquals(1L, hits.getJobTypeFacets().get("PART_TIME"));
+        assertEquals(1L, hits.getExperienceFacets().get("10+"));
+    }
+
+    @Test
+    void removeListing_dropsItFromResults() {
+        searchService.removeListing(1);
+
+        assertFalse(search("java", new JobListingFilter()).getIds().contains(1));
+    }
+
+    private JobSearchService.SearchHits search(String query, JobListingFilter filter) {
+        return searchService.search(query, filter, 0, 10);
+    }
+
+    private JobListing listing(int id, String title, String skills, String description, String location,
+                               JobListing.JobType jobType, int experience) {
+        JobListing listing = new JobListing();
+        listing.setJobListingId(id);
+        listing.setTitle(title);
+        listing.setRequiredSkills(skills);
+        listing.setDescription(description);
+        listing.setLocation(location);
+        listing.setJobType(jobType);
+        listing.setExperience(experience);
+        listing.setActive(true);
+        return listing;
+    }
+}
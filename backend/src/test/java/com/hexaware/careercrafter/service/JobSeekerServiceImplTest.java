@@ -1,10 +1,18 @@
 package com.hexaware.careercrafter.service;
 
+import com.hexaware.careercrafter.dto.JobListingDTO;
+import com.hexaware.careercrafter.dto.EducationDTO;
 import com.hexaware.careercrafter.dto.JobSeekerDTO;
+import com.hexaware.careercrafter.dto.JobSeekerPatchDTO;
+import com.hexaware.careercrafter.dto.SocialLinkDTO;
+import com.hexaware.careercrafter.entities.Education;
+import com.hexaware.careercrafter.entities.JobListing;
 import com.hexaware.careercrafter.entities.JobSeeker;
 import com.hexaware.careercrafter.entities.User;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
 import com.hexaware.careercrafter.repository.JobSeekerRepository;
+import com.hexaware.careercrafter.repository.SeekerRecommendationRepository;
 import com.hexaware.careercrafter.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -25,6 +36,12 @@ class JobSeekerServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SeekerRecommendationRepository recommendationRepository;
+
+    @Mock
+    private RecommendationMaterializer recommendationMaterializer;
+
     @InjectMocks
     private JobSeekerServiceImpl jobSeekerService;
 
@@ -59,13 +76,14 @@ class JobSeekerServiceImplTest {
 
     @Test
     void getJobSeekerById_found() {
-        when(jobSeekerRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.of(entity));
         assertNotNull(jobSeekerService.getJobSeekerById(1));
+        verify(jobSeekerRepository, times(1)).fetchPortfolios(List.of(entity));
     }
 
     @Test
     void getJobSeekerById_notFound() {
-        when(jobSeekerRepository.findById(1)).thenReturn(Optional.empty());
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> jobSeekerService.getJobSeekerById(1));
     }
 
@@ -74,4 +92,143 @@ class JobSeekerServiceImplTest {
         when(jobSeekerRepository.existsById(1)).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> jobSeekerService.deleteJobSeeker(1));
     }
+
+    @Test
+    void createJobSeeker_materializesRecommendations() {
+        when(userRepository.findById(dto.getUserId())).thenReturn(Optional.of(user));
+        when(jobSeekerRepository.save(any(JobSeeker.class))).thenReturn(entity);
+
+        jobSeekerService.createJobSeeker(dto);
+        verify(recommendationMaterializer, times(1)).seekerChanged(1);
+    }
+
+    @Test
+    void updateJobSeeker_refreshesRecommendationsOnlyWhenSkillsOrAddressChange() {
+        entity.setSkills("Java");
+        entity.setAddress("Pune");
+        when(userRepository.findById(dto.getUserId())).thenReturn(Optional.of(user));
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.of(entity));
+        when(jobSeekerRepository.save(any(JobSeeker.class))).thenReturn(entity);
+
+        dto.setEducationDetails(List.of());
+        dto.setCertificates(List.of());
+        dto.setProjects(List.of());
+        dto.setSocialLinks(List.of());
+        dto.setSkills("Java");
+        dto.setAddress("Pune");
+        jobSeekerService.updateJobSeeker(dto);
+        verify(recommendationMaterializer, never()).seekerChanged(anyInt());
+
+        dto.setSkills("Java, SQL");
+        jobSeekerService.updateJobSeeker(dto);
+        verify(recommendationMaterializer, times(1)).seekerChanged(1);
+    }
+
+    @Test
+    void updateJobSeeker_mergesChildrenById() {
+        Education kept = education(10, "B.Tech");
+        Education dropped = education(11, "M.Tech");
+        entity.setEducationDetails(new LinkedHashSet<>(List.of(kept, dropped)));
+        when(userRepository.findById(dto.getUserId())).thenReturn(Optional.of(user));
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.of(entity));
+        when(jobSeekerRepository.save(any(JobSeeker.class))).thenReturn(entity);
+
+        EducationDTO edited = new EducationDTO();
+        edited.setId(10);
+        edited.setLevel("B.E.");
+        edited.setInstitutionName("Institute");
+        EducationDTO added = new EducationDTO();
+        added.setLevel("PhD");
+        added.setInstitutionName("University");
+        dto.setEducationDetails(List.of(edited, added));
+        jobSeekerService.updateJobSeeker(dto);
+
+        assertEquals(2, entity.getEducationDetails().size());
+        assertTrue(entity.getEducationDetails().contains(kept));
+        assertFalse(entity.getEducationDetails().contains(dropped));
+        assertEquals("B.E.", kept.getLevel());
+        assertTrue(entity.getEducationDetails().stream()
+                .anyMatch(e -> e.getId() == 0 && "PhD".equals(e.getLevel()) && e.getJobSeeker() == entity));
+    }
+
+    @Test
+    void updateJobSeeker_unknownChildId_throws() {
+        entity.setSocialLinks(new LinkedHashSet<>());
+        when(userRepository.findById(dto.getUserId())).thenReturn(Optional.of(user));
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.of(entity));
+
+        SocialLinkDTO foreign = new SocialLinkDTO();
+        foreign.setId(99);
+        dto.setSocialLinks(List.of(foreign));
+        assertThrows(InvalidRequestException.class, () -> jobSeekerService.updateJobSeeker(dto));
+        verify(jobSeekerRepository, never()).save(any(JobSeeker.class));
+    }
+
+    @Test
+    void patchJobSeeker_changesOnlyTheGivenFields() {
+        Education education = education(10, "B.Tech");
+        entity.setFullName("Alice Johnson");
+        entity.setSkills("Java");
+        entity.setEducationDetails(new LinkedHashSet<>(List.of(education)));
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.of(entity));
+        when(jobSeekerRepository.save(any(JobSeeker.class))).thenReturn(entity);
+
+        JobSeekerPatchDTO patch = new JobSeekerPatchDTO();
+        patch.setPhone("9876543210");
+        JobSeekerDTO result = jobSeekerService.patchJobSeeker(1, patch);
+
+        assertEquals("9876543210", result.getPhone());
+        assertEquals("Alice Johnson", result.getFullName());
+        assertEquals("Java", result.getSkills());
+        assertEquals(Set.of(education), entity.getEducationDetails());
+        verify(userRepository, never()).findById(anyInt());
+        verifyNoInteractions(recommendationMaterializer);
+    }
+
+    @Test
+    void patchJobSeeker_skillsChange_refreshesRecommendations() {
+        entity.setSkills("Java");
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.of(entity));
+        when(jobSeekerRepository.save(any(JobSeeker.class))).thenReturn(entity);
+
+        JobSeekerPatchDTO patch = new JobSeekerPatchDTO();
+        patch.setSkills("Java, SQL");
+        jobSeekerService.patchJobSeeker(1, patch);
+        verify(recommendationMaterializer, times(1)).seekerChanged(1);
+    }
+
+    @Test
+    void patchJobSeeker_notFound() {
+        when(jobSeekerRepository.findProfileById(1)).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> jobSeekerService.patchJobSeeker(1, new JobSeekerPatchDTO()));
+    }
+
+    @Test
+    void getJobRecommendations_readsMaterializedStore() {
+        JobListing listing = new JobListing();
+        listing.setJobListingId(7);
+        listing.setTitle("Backend Engineer");
+        when(recommendationRepository.findRecommendedListings(1)).thenReturn(List.of(listing));
+
+        List<JobListingDTO> result = jobSeekerService.getJobRecommendations(1);
+        assertEquals(1, result.size());
+        assertEquals(7, result.get(0).getJobListingId());
+        verify(jobSeekerRepository, never()).findById(anyInt());
+        verifyNoInteractions(recommendationMaterializer);
+    }
+
+    @Test
+    void getJobRecommendations_unknownSeeker_throws() {
+        when(recommendationRepository.findRecommendedListings(1)).thenReturn(List.of());
+        when(jobSeekerRepository.existsById(1)).thenReturn(false);
+        assertThrows(ResourceNotFoundException.class, () -> jobSeekerService.getJobRecommendations(1));
+    }
+
+    private Education education(int id, String level) {
+        Education education = new Education();
+        education.setId(id);
+        education.setLevel(level);
+        education.setJobSeeker(entity);
+        return education;
+    }
 }
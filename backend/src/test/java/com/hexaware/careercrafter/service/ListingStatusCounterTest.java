@@ -0,0 +1,83 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.Application.ApplicationStatus;
+import com.hexaware.careercrafter.entities.ListingStatusCount;
+import com.hexaware.careercrafter.repository.ListingStatusCountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListingStatusCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ListingStatusCountRepository countRepository;
+
+    @InjectMocks
+    private ListingStatusCounter counter;
+
+    @Test
+    void moved_withinSameStatusAndListingIsANoOp() {
+        counter.moved(1, ApplicationStatus.APPLIED, 1, ApplicationStatus.APPLIED);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void moved_touchesRowsInKeyOrder() {
+        counter.moved(1, ApplicationStatus.SHORTLISTED, 1, ApplicationStatus.APPLIED);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(contains("INSERT INTO listing_status_counts"), eq(1), eq("APPLIED"));
+        order.verify(jdbcTemplate).update(contains("UPDATE listing_status_counts"), eq(1), eq("SHORTLISTED"));
+    }
+
+    @Test
+    void countsFor_fillsEveryStatusWithZeroDefaults() {
+        when(countRepository.findByJobListingIdIn(List.of(5)))
+                .thenReturn(List.of(new ListingStatusCount(5, ApplicationStatus.IN_REVIEW, 2)));
+
+        Map<ApplicationStatus, Long> counts = counter.countsFor(List.of(5)).get(5);
+
+        assertEquals(ApplicationStatus.values().length, counts.size());
+        assertEquals(2L, counts.get(ApplicationStatus.IN_REVIEW));
+        assertEquals(0L, counts.get(ApplicationStatus.HIRED));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_recountsOnlyDriftedCounters() {
+        when(jdbcTemplate.query(contains("SELECT a.job_listing_id"), any(RowMapper.class)))
+                .thenReturn(List.<Object[]>of(new Object[] {5, "HIRED"}));
+
+        counter.reconcile();
+
+        verify(jdbcTemplate).update(contains("COUNT(*) FROM applications"), eq(5), eq("HIRED"), eq(5), eq("HIRED"));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void rebuild_skipsWhenCountersExist() {
+        when(countRepository.count()).thenReturn(3L);
+
+        counter.rebuild();
+
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+}
@@ -0,0 +1,115 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.entities.NotificationPreference;
+import com.hexaware.careercrafter.repository.NotificationPreferenceRepository;
+import com.hexaware.careercrafter.repository.NotificationRepository;
+import com.hexaware.careercrafter.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.EnumSet;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryServiceTest {
+
+    @Mock
+    private INotificationService notificationService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private NotificationPreferenceRepository preferenceRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private NotificationDeliveryMetrics metrics = new NotificationDeliveryMetrics();
+
+    @InjectMocks
+    private NotificationDeliveryService deliveryService;
+
+    @Test
+    void deliver_defaultPreferences_storesOnceAndEmailsOnce() {
+        when(preferenceRepository.findById(7L)).thenReturn(Optional.empty());
+        when(notificationService.createNotification(any(NotificationDTO.class))).thenReturn(new NotificationDTO());
+
+        deliveryService.deliver(event());
+
+        verify(notificationService, times(1)).createNotification(any(NotificationDTO.class));
+        verify(emailService, times(1)).sendEmail("seeker@example.com", "Status", "Updated");
+        assertEquals(1, metrics.getDeliveries(DeliveryChannel.IN_APP));
+        assertEquals(1, metrics.getDeliveries(DeliveryChannel.EMAIL));
+    }
+
+    @Test
+    void deliver_duplicateNotification_isNotEmailedAgain() {
+        when(preferenceRepository.findById(7L)).thenReturn(Optional.empty());
+        when(notificationService.createNotification(any(NotificationDTO.class))).thenReturn(null);
+
+        deliveryService.deliver(event());
+
+        verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+        assertEquals(0, metrics.getDeliveries(DeliveryChannel.IN_APP));
+        assertEquals(0, metrics.getDeliveries(DeliveryChannel.EMAIL));
+    }
+
+    @Test
+    void deliver_emailOnly_emailsWithoutStoring() {
+        NotificationPreference preference = NotificationPreference.defaultsFor(7L);
+        preference.setInAppEnabled(false);
+        when(preferenceRepository.findById(7L)).thenReturn(Optional.of(preference));
+
+        deliveryService.deliver(event());
+
+        verify(notificationService, never()).createNotification(any(NotificationDTO.class));
+        verify(emailService, times(1)).sendEmail("seeker@example.com", "Status", "Updated");
+    }
+
+    @Test
+    void deliver_digestEnabled_skipsImmediateEmail() {
+        NotificationPreference preference = NotificationPreference.defaultsFor(7L);
+        preference.setInAppEnabled(false);
+        preference.setDigestEnabled(true);
+        when(preferenceRepository.findById(7L)).thenReturn(Optional.of(preference));
+        when(notificationService.createNotification(any(NotificationDTO.class))).thenReturn(new NotificationDTO());
+
+        deliveryService.deliver(event());
+
+        verify(notificationService, times(1)).createNotification(any(NotificationDTO.class));
+        verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+        assertEquals(1, metrics.getDeliveries(DeliveryChannel.DIGEST));
+        assertEquals(0, metrics.getDeliveries(DeliveryChannel.IN_APP));
+    }
+
+    @Test
+    void planFor_allDisabled_isEmpty() {
+        NotificationPreference preference = NotificationPreference.defaultsFor(7L);
+        preference.setInAppEnabled(false);
+        preference.setEmailEnabled(false);
+
+        assertEquals(EnumSet.noneOf(DeliveryChannel.class), NotificationDeliveryService.planFor(preference));
+    }
+
+    private NotificationEvent event() {
+        return NotificationEvent.builder()
+                .userId(7L)
+                .recipientEmail("seeker@example.com")
+                .title("Status")
+                .message("Updated")
+                .build();
+    }
+}
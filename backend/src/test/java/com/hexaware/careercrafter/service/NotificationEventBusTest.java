@@ -0,0 +1,85 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.NotificationDTO;
+import com.hexaware.careercrafter.dto.NotificationStreamEventDTO.EventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationEventBusTest {
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
+    private NotificationEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new NotificationEventBus(4);
+        ReflectionTestUtils.setField(eventBus, "unreadCounter", unreadCounter);
+    }
+
+    @Test
+    void publish_deliversOnlyToThatUsersSubscribers() {
+        List<NotificationEventBus.Event> received = new ArrayList<>();
+        eventBus.subscribe(7L, null, received::add);
+        when(unreadCounter.get(7L)).thenReturn(1L);
+
+        eventBus.publish(7L, EventType.CREATED, notification(7L, 1L));
+        eventBus.publish(8L, EventType.CREATED, notification(8L, 2L));
+
+        assertEquals(1, received.size());
+        assertEquals(1L, received.get(0).getPayload().getNotificationId());
+        assertEquals(1L, received.get(0).getPayload().getUnreadCount());
+    }
+
+    @Test
+    void subscribe_withLastEventId_replaysMissedEventsForUser() {
+        List<NotificationEventBus.Event> first = new ArrayList<>();
+        Consumer<NotificationEventBus.Event> listener = first::add;
+        eventBus.subscribe(7L, null, listener);
+        eventBus.publish(7L, EventType.CREATED, notification(7L, 1L));
+        eventBus.unsubscribe(7L, listener);
+        long lastSeen = first.get(0).getId();
+
+        eventBus.publish(7L, EventType.CREATED, notification(7L, 2L));
+        eventBus.publish(8L, EventType.CREATED, notification(8L, 3L));
+        eventBus.publishDeleted(7L, 1L);
+
+        List<NotificationEventBus.Event> missed = eventBus.subscribe(7L, lastSeen, event -> { });
+        assertEquals(2, missed.size());
+        assertEquals(EventType.CREATED, missed.get(0).getPayload().getType());
+        assertEquals(EventType.DELETED, missed.get(1).getPayload().getType());
+    }
+
+    @Test
+    void subscribe_afterBufferWrapped_returnsNullForReset() {
+        List<NotificationEventBus.Event> first = new ArrayList<>();
+        Consumer<NotificationEventBus.Event> listener = first::add;
+        eventBus.subscribe(7L, null, listener);
+        eventBus.publish(7L, EventType.CREATED, notification(7L, 1L));
+        eventBus.unsubscribe(7L, listener);
+
+        for (long i = 2; i < 8; i++) {
+            eventBus.publish(8L, EventType.CREATED, notification(8L, i));
+        }
+
+        assertNull(eventBus.subscribe(7L, first.get(0).getId(), event -> { }));
+        assertNull(eventBus.subscribe(7L, 42L, event -> { }));
+    }
+
+    private NotificationDTO notification(Long userId, Long id) {
+        NotificationDTO dto = new NotificationDTO(userId, "Title " + id, "Message " + id, false, null, null, null);
+        dto.setNotificationId(id);
+        return dto;
+    }
+}
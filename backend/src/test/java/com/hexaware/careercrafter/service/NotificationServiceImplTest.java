@@ -0,0 +1,87 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.BulkNotificationRequestDTO;
+import com.hexaware.careercrafter.dto.BulkNotificationResultDTO;
+import com.hexaware.careercrafter.exception.InvalidRequestException;
+import com.hexaware.careercrafter.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceImplTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationDedupIndex dedupIndex;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UnreadNotificationCounter unreadCounter;
+
+    @Mock
+    private NotificationEventBus eventBus;
+
+    @InjectMocks
+    private NotificationServiceImpl notificationService;
+
+    @Test
+    void markAsReadBulk_all_singleUpdateAndCounterAdjustedByAffected() {
+        when(notificationRepository.markAllRead(7L)).thenReturn(12);
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(0L);
+
+        BulkNotificationResultDTO result = notificationService.markAsReadBulk(7L, new BulkNotificationRequestDTO(null, null, true));
+
+        assertEquals(12, result.getAffected());
+        assertEquals(0, result.getUnreadCount());
+        verify(unreadCounter).adjust(7L, -12);
+        verify(eventBus).publishInboxChanged(List.of(7L));
+        verify(notificationRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void markAsReadBulk_nothingChanged_leavesCounterAlone() {
+        when(notificationRepository.markReadByIds(7L, List.of(1L, 2L))).thenReturn(0);
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(3L);
+
+        BulkNotificationResultDTO result = notificationService.markAsReadBulk(7L, new BulkNotificationRequestDTO(List.of(1L, 2L), null, false));
+
+        assertEquals(0, result.getAffected());
+        verify(unreadCounter, never()).adjust(any(), anyLong());
+    }
+
+    @Test
+    void deleteNotificationsBulk_olderThan_invalidatesCounter() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        when(notificationRepository.deleteOlderThan(7L, cutoff)).thenReturn(5);
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(2L);
+
+        BulkNotificationResultDTO result = notificationService.deleteNotificationsBulk(7L, new BulkNotificationRequestDTO(null, cutoff, false));
+
+        assertEquals(5, result.getAffected());
+        assertEquals(2, result.getUnreadCount());
+        verify(unreadCounter).invalidate(List.of(7L));
+    }
+
+    @Test
+    void deleteNotificationsBulk_ambiguousSelection_rejected() {
+        BulkNotificationRequestDTO request = new BulkNotificationRequestDTO(List.of(1L), null, true);
+
+        assertThrows(InvalidRequestException.class, () -> notificationService.deleteNotificationsBulk(7L, request));
+        assertThrows(InvalidRequestException.class, () -> notificationService.markAsReadBulk(7L, new BulkNotificationRequestDTO()));
+        verifyNoInteractions(notificationRepository);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hexaware.careercrafter.service;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentHashFilterTest {
+
+    @Test
+    void mightContain_noFalseNegativesAndLowFalsePositiveRate() {
+        RecentHashFilter filter = new RecentHashFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            filter.add(NotificationContentHash.of(i, "title", "message"));
+        }
+
+        int falsePositives = 0;
+        for (long i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(NotificationContentHash.of(i, "title", "message")));
+            if (filter.mightContain(NotificationContentHash.of(i + 10_000, "title", "message"))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void add_beyondCapacity_keepsPreviousGenerationAndDropsOlder() {
+        RecentHashFilter filter = new RecentHashFilter(100, 0.01);
+        for (long i = 0; i < 201; i++) {
+            filter.add(i * 0x9E3779B97F4A7C15L);
+        }
+
+        assertTrue(filter.mightContain(150 * 0x9E3779B97F4A7C15L));
+        assertTrue(filter.mightContain(200 * 0x9E3779B97F4A7C15L));
+    }
+
+    @Test
+    void contentHash_dependsOnUserTitleAndMessage() {
+        long hash = NotificationContentHash.of(1L, "Title", "Message");
+
+        assertEquals(hash, NotificationContentHash.of(1L, "Title", "Message"));
+        assertNotEquals(hash, NotificationContentHash.of(2L, "Title", "Message"));
+        assertNotEquals(hash, NotificationContentHash.of(1L, "TitleM", "essage"));
+    }
+}
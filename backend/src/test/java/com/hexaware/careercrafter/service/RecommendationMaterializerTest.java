@@ -0,0 +1,157 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.dto.SeekerProfileView;
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.entities.SeekerRecommendation;
+import com.hexaware.careercrafter.repository.JobListingRepository;
+import com.hexaware.careercrafter.repository.JobSeekerRepository;
+import com.hexaware.careercrafter.repository.MaterializedSeekerRepository;
+import com.hexaware.careercrafter.repository.SeekerRecommendationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationMaterializerTest {
+
+    @Mock
+    private SeekerRecommendationRepository recommendationRepository;
+
+    @Mock
+    private MaterializedSeekerRepository materializedSeekerRepository;
+
+    @Mock
+    private JobSeekerRepository jobSeekerRepository;
+
+    @Mock
+    private JobListingRepository jobListingRepository;
+
+    @Mock
+    private SkillIndexService skillIndexService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private RecommendationMaterializer materializer;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(materializer, "maxRecommendations", 50);
+        ReflectionTestUtils.setField(materializer, "chunkSize", 500);
+    }
+
+    @Test
+    void diff_insertsOnlyNewPairs() {
+        List<SeekerRecommendation> existing = List.of(row(1L, 10, 4, true));
+
+        RecommendationMaterializer.Change change = RecommendationMaterializer.diff(5, existing, scores(10, 4, 11, 2), now);
+
+        assertEquals(1, change.inserts.size());
+        assertEquals(11, change.inserts.get(0).getJobListingId());
+        assertEquals(5, change.inserts.get(0).getJobSeekerId());
+        assertTrue(change.updates.isEmpty());
+    }
+
+    @Test
+    void diff_keepsDroppedPairAsUnmatchedAndRematchesWithoutInsert() {
+        SeekerRecommendation dropped = row(1L, 10, 4, true);
+        SeekerRecommendation returning = row(2L, 11, 2, false);
+
+        RecommendationMaterializer.Change change = RecommendationMaterializer.diff(5, List.of(dropped, returning), scores(11, 3), now);
+
+        assertTrue(change.inserts.isEmpty());
+        assertEquals(2, change.updates.size());
+        assertFalse(dropped.isMatched());
+        assertTrue(returning.isMatched());
+        assertEquals(3, returning.getScore());
+    }
+
+    @Test
+    void diff_ignoresUnchangedRows() {
+        RecommendationMaterializer.Change change = RecommendationMaterializer.diff(5, List.of(row(1L, 10, 4, true)), scores(10, 4), now);
+
+        assertTrue(change.inserts.isEmpty());
+        assertTrue(change.updates.isEmpty());
+    }
+
+    @Test
+    void refreshSeeker_firstMaterialization_marksSeekerWithoutNotifying() {
+        givenSeekerMatchingListing7();
+        when(materializedSeekerRepository.findMaterializedIds(List.of(5))).thenReturn(List.of());
+
+        materializer.refreshSeeker(5);
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO materialized_seekers"), eq(List.of(5)), eq(1), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void refreshSeeker_markedSeeker_isNotifiedOfNewPairs() {
+        givenSeekerMatchingListing7();
+        when(materializedSeekerRepository.findMaterializedIds(List.of(5))).thenReturn(List.of(5));
+        JobListing listing = new JobListing();
+        listing.setJobListingId(7);
+        listing.setTitle("Java Developer");
+        when(jobListingRepository.findAllById(any())).thenReturn(List.of(listing));
+
+        materializer.refreshSeeker(5);
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO materialized_seekers"), eq(List.of()), eq(0), any());
+        verify(eventPublisher).publishEvent(any(NotificationEvent.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSeekerMatchingListing7() {
+        SeekerProfileView profile = mock(SeekerProfileView.class);
+        when(profile.getJobSeekerId()).thenReturn(5);
+        when(profile.getUserId()).thenReturn(105);
+        when(profile.getFullName()).thenReturn("Alice Johnson");
+        when(profile.getSkills()).thenReturn("Java");
+        when(profile.getAddress()).thenReturn("Chennai");
+        when(jobSeekerRepository.findProfileViewsByIds(List.of(5))).thenReturn(List.of(profile));
+        when(recommendationRepository.findByJobSeekerIdIn(List.of(5))).thenReturn(List.of());
+        when(skillIndexService.findMatches(anySet(), anySet(), eq(50))).thenReturn(List.of(7));
+        when(skillIndexService.score(eq(7), anySet(), anySet())).thenReturn(2);
+        doAnswer(invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private SeekerRecommendation row(Long id, int jobListingId, int score, boolean matched) {
+        return SeekerRecommendation.builder().id(id).jobSeekerId(5).jobListingId(jobListingId)
+                .score(score).matched(matched).createdAt(now).build();
+    }
+
+    private Map<Integer, Integer> scores(int... listingAndScore) {
+        Map<Integer, Integer> scores = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < listingAndScore.length; i += 2) {
+            scores.put(listingAndScore[i], listingAndScore[i + 1]);
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,95 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.entities.JobListing;
+import com.hexaware.careercrafter.repository.JobListingRepository;
+import com.hexaware.careercrafter.repository.JobListingSkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkillIndexServiceTest {
+
+    @Mock
+    private JobListingSkillRepository jobListingSkillRepository;
+
+    @Mock
+    private JobListingRepository jobListingRepository;
+
+    @InjectMocks
+    private SkillIndexService skillIndexService;
+
+    @BeforeEach
+    void setUp() {
+        skillIndexService.indexListing(listing(1, "Java, Spring Boot, SQL", "Bangalore", true));
+        skillIndexService.indexListing(listing(2, "Java", "Chennai", true));
+        skillIndexService.indexListing(listing(3, "Python", "Bangalore", true));
+        skillIndexService.indexListing(listing(4, "Java, SQL", "Pune", false));
+    }
+
+    @Test
+    void findMatches_rankedByOverlapThenLocation() {
+        List<Integer> result = skillIndexService.findMatches("java, sql", "Bangalore", 10);
+        assertEquals(List.of(1, 2, 3), result);
+    }
+
+    @Test
+    void findMatches_noSkills_returnsEmpty() {
+        assertTrue(skillIndexService.findMatches("", "Bangalore", 10).isEmpty());
+    }
+
+    @Test
+    void removeListing_dropsItFromMatches() {
+        skillIndexService.removeListing(1);
+
+        assertEquals(List.of(2), skillIndexService.findMatches("Spring Boot, Java", "Delhi", 10));
+        verify(jobListingSkillRepository, times(2)).deleteByJobListingId(1);
+    }
+
+    @Test
+    void indexListing_inTransaction_becomesMatchableOnlyOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            skillIndexService.indexListing(listing(5, "Kotlin", "Delhi", true));
+            skillIndexService.removeListing(2);
+
+            assertTrue(skillIndexService.findMatches("Kotlin", "Delhi", 10).isEmpty());
+            assertTrue(skillIndexService.findMatches("Java", "Delhi", 10).contains(2));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(5), skillIndexService.findMatches("Kotlin", "Delhi", 10));
+        assertFalse(skillIndexService.findMatches("Java", "Delhi", 10).contains(2));
+    }
+
+    @Test
+    void score_followsMatchRanking() {
+        Set<String> skills = SkillTokenizer.tokenize("java, sql");
+        Set<String> locations = SkillTokenizer.locationKeys("Bangalore");
+
+        assertEquals(5, skillIndexService.score(1, skills, locations));
+        assertEquals(2, skillIndexService.score(2, skills, locations));
+        assertEquals(1, skillIndexService.score(3, skills, locations));
+        assertEquals(-1, skillIndexService.score(4, skills, locations));
+    }
+
+    private JobListing listing(int id, String skills, String location, boolean active) {
+        JobListing listing = new JobListing();
+        listing.setJobListingId(id);
+        listing.setRequiredSkills(skills);
+        listing.setLocation(location);
+        listing.setActive(active);
+        return listing;
+    }
+}
@@ -0,0 +1,75 @@
+package com.hexaware.careercrafter.service;
+
+import com.hexaware.careercrafter.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private UnreadNotificationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new UnreadNotificationCounter(100, 60_000);
+        ReflectionTestUtils.setField(counter, "notificationRepository", notificationRepository);
+    }
+
+    @Test
+    void get_loadsOnceThenServesFromMemory() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(3L);
+
+        assertEquals(3, counter.get(7L));
+        counter.adjust(7L, 1);
+        counter.adjust(7L, -2);
+
+        assertEquals(2, counter.get(7L));
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(7L);
+    }
+
+    @Test
+    void adjust_uncachedUser_isIgnored() {
+        counter.adjust(7L, 1);
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(0L);
+
+        assertEquals(0, counter.get(7L));
+    }
+
+    @Test
+    void reconcile_correctsDriftedCounts() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(5L);
+        when(notificationRepository.countByUserIdAndIsReadFalse(8L)).thenReturn(1L);
+        counter.get(7L);
+        counter.get(8L);
+        List<Object[]> actual = Collections.singletonList(new Object[] {7L, 4L});
+        when(notificationRepository.countUnreadByUserIds(anyCollection())).thenReturn(actual);
+
+        counter.reconcile();
+
+        assertEquals(4, counter.get(7L));
+        assertEquals(0, counter.get(8L));
+        assertEquals(2L, counter.stats().get("corrections"));
+    }
+
+    @Test
+    void invalidate_reloadsOnNextRead() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(2L, 9L);
+        counter.get(7L);
+
+        counter.invalidate(List.of(7L));
+
+        assertEquals(9, counter.get(7L));
+    }
+}
@@ -4,6 +4,7 @@ import com.hexaware.careercrafter.dto.UserDTO;
 import com.hexaware.careercrafter.entities.User;
 import com.hexaware.careercrafter.exception.ResourceNotFoundException;
 import com.hexaware.careercrafter.repository.UserRepository;
+import com.hexaware.careercrafter.security.AuthenticationCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +25,9 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AuthenticationCache authenticationCache;
+
     @InjectMocks
     private UserServiceImpl service;
 
@@ -69,4 +73,15 @@ class UserServiceImplTest {
         when(userRepository.existsById(1)).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> service.deleteUser(1));
     }
+
+    @Test
+    void updatePassword_evictsCachedAuthentication() {
+        when(userRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(passwordEncoder.encode("newPwd")).thenReturn("encoded");
+
+        service.updatePassword(1, "newPwd");
+
+        assertEquals("encoded", entity.getPassword());
+        verify(authenticationCache).evictUser(1);
+    }
 }
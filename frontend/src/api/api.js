@@ -45,9 +45,11 @@ export const getJobRecommendations = (jobSeekerId) =>
 export const verifyUserCredentials = (data) => api.post("/users/verify", data);
 export const deleteUser = (id) => api.delete(`/users/${id}`);
 
-export const getNotifications = (userId) => {
-  if (!userId || isNaN(userId)) return Promise.resolve({ data: [] });
-  return api.get(`/notifications/user/${userId}`);
+export const getNotifications = (userId, cursor, size = 20) => {
+  if (!userId || isNaN(userId)) return Promise.resolve({ data: { items: [] } });
+  return api.get(`/notifications/user/${userId}`, {
+    params: { size, ...(cursor ? { cursor } : {}) },
+  });
 };
 
 export const markNotificationRead = (id) =>
@@ -58,6 +60,12 @@ export const markNotificationUnread = (id) =>
 
 export const deleteNotification = (id) => api.delete(`/notifications/${id}`);
 
+export const markAllNotificationsRead = (userId) =>
+  api.put(`/notifications/user/${userId}/read`, { all: true });
+
+export const deleteNotificationsBulk = (userId, ids) =>
+  api.post(`/notifications/user/${userId}/delete`, { ids });
+
 export const getUnreadNotificationCount = (userId) => {
   if (!userId || Number.isNaN(userId)) return Promise.resolve(0);
   return api
@@ -65,6 +73,16 @@ export const getUnreadNotificationCount = (userId) => {
     .then((res) => res.data.count);
 };
 
+// EventSource cannot send the Authorization header, so each connection trades
+// the JWT for a single-use ticket; lastEventId resumes from where a dropped
+// connection stopped.
+export const openNotificationStream = async (lastEventId) => {
+  const res = await api.post("/notifications/stream/ticket");
+  const params = new URLSearchParams({ ticket: res.data.ticket });
+  if (lastEventId) params.set("lastEventId", lastEventId);
+  return new EventSource(`${API_BASE}/notifications/stream?${params}`);
+};
+
 export const forgotPassword = (email) =>
   api.post("/auth/forgot-password", { email });
 
@@ -1,6 +1,55 @@
-import React, { createContext, useState, useEffect } from "react";
+import React, {
+  createContext,
+  useState,
+  useEffect,
+  useReducer,
+  useCallback,
+} from "react";
 import api from "../api/api";
-import { getUnreadNotificationCount } from "../api/api";
+import {
+  getUnreadNotificationCount,
+  openNotificationStream,
+} from "../api/api";
+
+const STREAM_EVENTS = [
+  "CONNECTED",
+  "CREATED",
+  "READ",
+  "UNREAD",
+  "DELETED",
+  "INBOX_CHANGED",
+  "RESET",
+];
+
+const STREAM_RETRY_MS = 3000;
+
+// Stream events wait here until a page consumes them, so several events
+// arriving between renders are all delivered. When nobody consumes them the
+// backlog collapses into a single RESET, which makes the page refetch.
+const MAX_QUEUED_EVENTS = 100;
+const initialEventQueue = { nextSeq: 1, events: [] };
+
+const eventQueueReducer = (state, action) => {
+  switch (action.type) {
+    case "received": {
+      const event = { ...action.payload, seq: state.nextSeq };
+      const events =
+        state.events.length >= MAX_QUEUED_EVENTS
+          ? [{ type: "RESET", seq: state.nextSeq }]
+          : [...state.events, event];
+      return { nextSeq: state.nextSeq + 1, events };
+    }
+    case "consumed":
+      return {
+        ...state,
+        events: state.events.filter((e) => e.seq > action.seq),
+      };
+    case "cleared":
+      return initialEventQueue;
+    default:
+      return state;
+  }
+};
 
 export const AuthContext = createContext();
 
@@ -8,6 +57,10 @@ export const AuthProvider = ({ children }) => {
   const [user, setUser] = useState(null);
   const [loadingUser, setLoadingUser] = useState(true);
   const [unreadCount, setUnreadCount] = useState(0);
+  const [eventQueue, dispatchEvent] = useReducer(
+    eventQueueReducer,
+    initialEventQueue
+  );
 
   useEffect(() => {
     loadUserFromStorage();
@@ -27,6 +80,63 @@ export const AuthProvider = ({ children }) => {
     fetchUnread();
   }, [user]);
 
+  useEffect(() => {
+    if (!user?.userId || !user?.token) return undefined;
+    let source = null;
+    let retryTimer = null;
+    let stopped = false;
+    let lastEventId = null;
+
+    const handleEvent = (e) => {
+      if (e.lastEventId) lastEventId = e.lastEventId;
+      const payload = JSON.parse(e.data);
+      if (payload.unreadCount !== null && payload.unreadCount !== undefined) {
+        setUnreadCount(payload.unreadCount);
+      }
+      dispatchEvent({ type: "received", payload });
+    };
+
+    // A ticket is good for one connection, so the browser's own reconnect
+    // would be rejected; close and reconnect with a fresh ticket instead.
+    const retry = () => {
+      if (!stopped) retryTimer = setTimeout(connect, STREAM_RETRY_MS);
+    };
+
+    const connect = async () => {
+      let opened;
+      try {
+        opened = await openNotificationStream(lastEventId);
+      } catch (err) {
+        console.error(err);
+        retry();
+        return;
+      }
+      if (stopped) {
+        opened.close();
+        return;
+      }
+      source = opened;
+      STREAM_EVENTS.forEach((type) => source.addEventListener(type, handleEvent));
+      source.onerror = () => {
+        source.close();
+        retry();
+      };
+    };
+
+    connect();
+    return () => {
+      stopped = true;
+      clearTimeout(retryTimer);
+      if (source) source.close();
+      dispatchEvent({ type: "cleared" });
+    };
+  }, [user?.userId, user?.token]);
+
+  const consumeNotificationEvents = useCallback(
+    (seq) => dispatchEvent({ type: "consumed", seq }),
+    []
+  );
+
   const loadUserFromStorage = () => {
     const token = localStorage.getItem("token");
     if (!token) {
@@ -105,6 +215,8 @@ export const AuthProvider = ({ children }) => {
         loadingUser,
         unreadCount,
         setUnreadCount,
+        notificationEvents: eventQueue.events,
+        consumeNotificationEvents,
       }}
     >
       {children}
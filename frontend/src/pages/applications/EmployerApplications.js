@@ -12,10 +12,15 @@ const STATUS_OPTIONS = [
   "HIRED",
 ];
 
+const PAGE_SIZE = 20;
+
 export default function EmployerApplications() {
   const [applications, setApplications] = useState([]);
-  const [allApplications, setAllApplications] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [hasMore, setHasMore] = useState(false);
+  const [jobOptions, setJobOptions] = useState({});
   const [loading, setLoading] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [statusUpdate, setStatusUpdate] = useState({ id: null, status: null });
   const [showProfileModal, setShowProfileModal] = useState(false);
   const [selectedJobSeekerId, setSelectedJobSeekerId] = useState(null);
@@ -25,61 +30,37 @@ export default function EmployerApplications() {
   const [profileResumeId, setProfileResumeId] = useState(null);
 
   const [filterJobId, setFilterJobId] = useState("");
-  const [filterJobTitle, setFilterJobTitle] = useState("");
+  const [filterStatus, setFilterStatus] = useState("");
+
+  const fetchPage = async (cursor) => {
+    const employerId = localStorage.getItem("employerId");
+    if (!employerId) return null;
+    const params = { size: PAGE_SIZE };
+    if (cursor) params.cursor = cursor;
+    if (filterJobId) params.listingId = filterJobId;
+    if (filterStatus) params.status = filterStatus;
+    const res = await api.get(`/employers/${employerId}/applications`, {
+      params,
+    });
+    const page = res.data;
+    setJobOptions((options) => {
+      const merged = { ...options };
+      page.items.forEach((app) => {
+        merged[app.jobListingId] = app.jobTitle;
+      });
+      return merged;
+    });
+    setNextCursor(page.nextCursor);
+    setHasMore(page.hasMore);
+    return page.items;
+  };
 
   useEffect(() => {
     const loadData = async () => {
       setLoading(true);
       try {
-        const employerId = localStorage.getItem("employerId");
-        if (!employerId) return;
-        const jobsRes = await api.get("/joblistings");
-        const employerJobs = jobsRes.data.filter(
-          (j) => j.employerId === parseInt(employerId)
-        );
-        const jobIds = new Set(employerJobs.map((j) => j.jobListingId));
-        const appsRes = await api.get("/applications");
-        let apps = appsRes.data.filter((a) => jobIds.has(a.jobListingId));
-        const seekerIds = [
-          ...new Set(apps.map((a) => a.seekerId || a.jobSeekerId)),
-        ];
-        const resumeMap = {};
-        for (const sId of seekerIds) {
-          const resumesRes = await api.get(`/resumes/jobseeker/${sId}`);
-          resumeMap[sId] = resumesRes.data;
-        }
-        const seekersMap = {};
-        for (const sId of seekerIds) {
-          try {
-            const seekerRes = await api.get(`/jobseekers/${sId}`);
-            seekersMap[sId] = seekerRes.data;
-          } catch {
-            seekersMap[sId] = null;
-          }
-        }
-        apps = apps.map((app) => {
-          const job = employerJobs.find(
-            (j) => j.jobListingId === app.jobListingId
-          );
-          const seeker = seekersMap[app.seekerId || app.jobSeekerId];
-          const seekerId = app.seekerId || app.jobSeekerId;
-          const resumes = resumeMap[seekerId] || [];
-          const primaryResume = resumes.find((r) => r.primary) || resumes[0];
-          const resumeId = primaryResume ? primaryResume.resumeId : null;
-          return {
-            ...app,
-            jobTitle: app.jobTitle || (job ? job.title : "-"),
-            applicantName:
-              app.applicantName || (seeker ? seeker.fullName : "-"),
-            resumeId,
-          };
-        });
-
-        apps.sort(
-          (a, b) => new Date(b.applicationDate) - new Date(a.applicationDate)
-        );
-        setApplications(apps);
-        setAllApplications(apps);
+        const items = await fetchPage(null);
+        setApplications(items || []);
       } catch (err) {
         console.error("Error loading applications", err);
       } finally {
@@ -87,7 +68,23 @@ export default function EmployerApplications() {
       }
     };
     loadData();
-  }, []);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [filterJobId, filterStatus]);
+
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    setLoadingMore(true);
+    try {
+      const items = await fetchPage(nextCursor);
+      setApplications((apps) => [...apps, ...(items || [])]);
+    } catch (err) {
+      toast.error(
+        `Error ${err.response?.status}: ${err.response?.data || err.message}`
+      );
+    } finally {
+      setLoadingMore(false);
+    }
+  };
 
   useEffect(() => {
     if (showProfileModal && selectedJobSeekerId) {
@@ -171,23 +168,9 @@ export default function EmployerApplications() {
     setProfileResumeId(null);
   };
 
-  useEffect(() => {
-    let filtered = [...allApplications];
-    if (filterJobId) {
-      filtered = filtered.filter(
-        (app) => app.jobListingId.toString() === filterJobId
-      );
-    }
-    if (filterJobTitle) {
-      filtered = filtered.filter((app) => app.jobTitle === filterJobTitle);
-    }
-    setApplications(filtered);
-  }, [filterJobId, filterJobTitle, allApplications]);
-
   const clearFilters = () => {
     setFilterJobId("");
-    setFilterJobTitle("");
-    setApplications(allApplications);
+    setFilterStatus("");
   };
 
   if (loading) return <LoadingSpinner />;
@@ -200,40 +183,36 @@ export default function EmployerApplications() {
         <h6 className="fw-bold mb-3">Filter Applications</h6>
         <div className="d-flex flex-wrap gap-3 align-items-center">
           <div>
-            <label className="me-2 fw-bold">Job ID:</label>
+            <label className="me-2 fw-bold">Job:</label>
             <select
               className="form-select form-select-sm"
-              style={{ width: "200px", display: "inline-block" }}
+              style={{ width: "250px", display: "inline-block" }}
               value={filterJobId}
               onChange={(e) => setFilterJobId(e.target.value)}
             >
               <option value="">All</option>
-              {[...new Set(allApplications.map((app) => app.jobListingId))].map(
-                (id) => (
-                  <option key={id} value={id}>
-                    {id}
-                  </option>
-                )
-              )}
+              {Object.entries(jobOptions).map(([id, title]) => (
+                <option key={id} value={id}>
+                  #{id} - {title}
+                </option>
+              ))}
             </select>
           </div>
 
           <div>
-            <label className="me-2 fw-bold">Role:</label>
+            <label className="me-2 fw-bold">Status:</label>
             <select
               className="form-select form-select-sm"
-              style={{ width: "250px", display: "inline-block" }}
-              value={filterJobTitle}
-              onChange={(e) => setFilterJobTitle(e.target.value)}
+              style={{ width: "200px", display: "inline-block" }}
+              value={filterStatus}
+              onChange={(e) => setFilterStatus(e.target.value)}
             >
               <option value="">All</option>
-              {[...new Set(allApplications.map((app) => app.jobTitle))].map(
-                (title) => (
-                  <option key={title} value={title}>
-                    {title}
-                  </option>
-                )
-              )}
+              {STATUS_OPTIONS.map((status) => (
+                <option key={status} value={status}>
+                  {status}
+                </option>
+              ))}
             </select>
           </div>
 
@@ -306,7 +285,7 @@ export default function EmployerApplications() {
 
               <button
                 className="btn btn-outline-info"
-                onClick={() => viewProfile(app.jobSeekerId, app.resumeId)}
+                onClick={() => viewProfile(app.jobSeekerId, app.primaryResumeId)}
               >
                 View Profile
               </button>
@@ -315,6 +294,18 @@ export default function EmployerApplications() {
         </div>
       ))}
 
+      {hasMore && (
+        <div className="text-center mb-4">
+          <button
+            className="btn btn-outline-primary"
+            onClick={loadMore}
+            disabled={loadingMore}
+          >
+            {loadingMore ? "Loading..." : "Load More"}
+          </button>
+        </div>
+      )}
+
       {showProfileModal && selectedJobSeekerId && (
         <div
           className="modal show d-block"
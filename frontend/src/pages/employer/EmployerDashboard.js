@@ -17,10 +17,9 @@ const EmployerDashboard = () => {
 
   const loadDashboard = async () => {
     try {
-      const jobsRes = await api.get("/joblistings");
-      const activeJobs = jobsRes.data.filter(
-        (job) => job.active && job.employerId === employerId
-      );
+      if (!employerId) return;
+      const jobsRes = await api.get(`/employers/${employerId}/joblistings`);
+      const activeJobs = jobsRes.data.filter((job) => job.active);
       setJobs(activeJobs);
     } catch (err) {
       console.error("Error loading dashboard", err);
@@ -90,7 +89,9 @@ const EmployerDashboard = () => {
       const res = await api.put("/joblistings", payload);
       setJobs((prev) =>
         prev.map((job) =>
-          job.jobListingId === res.data.jobListingId ? res.data : job
+          job.jobListingId === res.data.jobListingId
+            ? { ...res.data, statusCounts: job.statusCounts }
+            : job
         )
       );
       setEditJob(null);
@@ -227,6 +228,18 @@ const EmployerDashboard = () => {
                   <b>Required Skills:</b>{" "}
                   {job.requiredSkills || "Not specified"}
                 </p>
+                <p>
+                  <b>Applications:</b> {job.totalApplicants}
+                  {job.statusCounts && (
+                    <span className="ms-2">
+                      {Object.entries(job.statusCounts).map(([status, count]) => (
+                        <span key={status} className="badge bg-secondary me-1">
+                          {status}: {count}
+                        </span>
+                      ))}
+                    </span>
+                  )}
+                </p>
               </div>
             )}
           </div>
@@ -12,6 +12,10 @@ export default function JobDetails() {
   const [job, setJob] = useState(null);
   const [loading, setLoading] = useState(false);
   const [applied, setApplied] = useState(false);
+  // one key per visit, so a double click or a retried request replays the first apply instead of failing
+  const [idempotencyKey] = useState(
+    () => `${id}-${Date.now()}-${Math.random().toString(36).slice(2)}`
+  );
   const [file, setFile] = useState(null);
   const [cover, setCover] = useState("");
   const [resumes, setResumes] = useState([]);
@@ -99,17 +103,26 @@ export default function JobDetails() {
         return toast.warn("Please upload or select a resume");
       }
       console.log("Applying job, user before apply:", user);
-      await api.post("/applications", {
-        jobListingId: jobId,
-        jobSeekerId: user.jobSeekerId,
-        status: "APPLIED",
-        resumeFilePath,
-        applicationDate: new Date().toISOString(),
-      });
+      await api.post(
+        "/applications",
+        {
+          jobListingId: jobId,
+          jobSeekerId: user.jobSeekerId,
+          status: "APPLIED",
+          resumeFilePath,
+          applicationDate: new Date().toISOString(),
+        },
+        { headers: { "Idempotency-Key": idempotencyKey } }
+      );
       toast.success("Applied successfully");
       setApplied(true);
     } catch (err) {
-      toast.error("Apply failed: " + (err.response?.data || err.message));
+      if (err.response?.status === 409) {
+        toast.info("You have already applied for this job");
+        setApplied(true);
+        return;
+      }
+      toast.error("Apply failed: " + (err.response?.data?.message || err.message));
     }
   }
 
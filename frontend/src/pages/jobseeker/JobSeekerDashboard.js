@@ -4,6 +4,8 @@ import api from "../../api/api";
 import { AuthContext } from "../../auth/AuthContext";
 import LoadingSpinner from "../../components/LoadingSpinner";
 
+const MAX_SAVED_JOBS = 100;
+
 const JobSeekerDashboard = () => {
   const { user } = useContext(AuthContext);
   const navigate = useNavigate();
@@ -11,8 +13,7 @@ const JobSeekerDashboard = () => {
   const [loading, setLoading] = useState(true);
   const [profile, setProfile] = useState(null);
   const [recommendedJobs, setRecommendedJobs] = useState([]);
-  const [savedJobsIds, setSavedJobsIds] = useState([]);
-  const [jobsList, setJobsList] = useState([]);
+  const [savedJobs, setSavedJobs] = useState([]);
 
   useEffect(() => {
     if (!user?.jobSeekerId) {
@@ -36,9 +37,9 @@ const JobSeekerDashboard = () => {
         const savedArr = saved ? JSON.parse(saved) : [];
         if (savedArr.length > 0) {
           const savedJobsRes = await api.get(
-            `/joblistings?ids=${savedArr.join(",")}`
+            `/joblistings?ids=${savedArr.slice(0, MAX_SAVED_JOBS).join(",")}`
           );
-          setSavedJobsIds(savedJobsRes.data);
+          setSavedJobs(savedJobsRes.data.items);
         }
       } catch (err) {
         console.error("Failed to load dashboard data", err);
@@ -91,23 +92,19 @@ const JobSeekerDashboard = () => {
         </p>
       </section>
       <section className="mb-4 p-3 border rounded shadow-sm">
-        <h4>Saved Jobs ({savedJobsIds.length})</h4>
-        {savedJobsIds.length === 0 ? (
+        <h4>Saved Jobs ({savedJobs.length})</h4>
+        {savedJobs.length === 0 ? (
           <p>No saved jobs yet.</p>
         ) : (
           <ul className="list-group">
-            {savedJobsIds.map((jobId) => {
-              const job = jobsList.find((j) => j.jobListingId === jobId);
-              if (!job) return null;
-              return (
-                <li
-                  key={job.jobListingId}
-                  className="list-group-item d-flex justify-content-between"
-                >
-                  <Link to={`/jobs/${job.jobListingId}`}>{job.title}</Link>
-                </li>
-              );
-            })}
+            {savedJobs.map((job) => (
+              <li
+                key={job.jobListingId}
+                className="list-group-item d-flex justify-content-between"
+              >
+                <Link to={`/jobs/${job.jobListingId}`}>{job.title}</Link>
+              </li>
+            ))}
           </ul>
         )}
       </section>
@@ -1,7 +1,9 @@
 import React, { useEffect, useState, useContext, useCallback } from "react";
 import {
   getNotifications,
+  getUnreadNotificationCount,
   markNotificationRead,
+  markAllNotificationsRead,
   deleteNotification,
 } from "../../api/api";
 import { AuthContext } from "../../auth/AuthContext";
@@ -10,33 +12,80 @@ import { toast } from "react-toastify";
 import "react-toastify/dist/ReactToastify.css";
 
 const NotificationPage = () => {
-  const { user, setUnreadCount } = useContext(AuthContext);
+  const { user, setUnreadCount, notificationEvents, consumeNotificationEvents } =
+    useContext(AuthContext);
   const userId = user?.userId;
   const [notifications, setNotifications] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
-  const fetchNotifications = useCallback(async () => {
-    if (!userId) return;
-    try {
-      const res = await getNotifications(userId);
-      const data = res.data || [];
+  const fetchNotifications = useCallback(
+    async (cursor) => {
+      if (!userId) return;
+      try {
+        const res = await getNotifications(userId, cursor);
+        const page = res.data || {};
+        const items = page.items || [];
 
-      const uniqueData = Array.from(
-        new Map(data.map((item) => [item.notificationId, item])).values()
-      );
-      setNotifications(uniqueData);
+        setNotifications((prev) => {
+          const merged = cursor ? [...prev, ...items] : items;
+          return Array.from(
+            new Map(merged.map((item) => [item.notificationId, item])).values()
+          );
+        });
+        setNextCursor(page.hasMore ? page.nextCursor : null);
 
-      const unread = uniqueData.filter((n) => !n.isRead).length;
-      setUnreadCount(unread);
-    } catch (err) {
-      console.error("Fetch notifications failed:", err);
-      toast.error("Failed to load notifications");
-    }
-  }, [userId, setUnreadCount]);
+        if (!cursor) {
+          setUnreadCount(await getUnreadNotificationCount(userId));
+        }
+      } catch (err) {
+        console.error("Fetch notifications failed:", err);
+        toast.error("Failed to load notifications");
+      }
+    },
+    [userId, setUnreadCount]
+  );
 
   useEffect(() => {
     fetchNotifications();
   }, [fetchNotifications]);
 
+  useEffect(() => {
+    if (notificationEvents.length === 0) return;
+    let refetch = false;
+    notificationEvents.forEach(({ type, notification, notificationId }) => {
+      if (type === "CREATED") {
+        setNotifications((prev) =>
+          prev.some((n) => n.notificationId === notificationId)
+            ? prev
+            : [notification, ...prev]
+        );
+      } else if (type === "READ" || type === "UNREAD") {
+        setNotifications((prev) =>
+          prev.map((n) =>
+            n.notificationId === notificationId ? notification : n
+          )
+        );
+      } else if (type === "DELETED") {
+        setNotifications((prev) =>
+          prev.filter((n) => n.notificationId !== notificationId)
+        );
+      } else if (type === "INBOX_CHANGED" || type === "RESET") {
+        refetch = true;
+      }
+    });
+    consumeNotificationEvents(
+      notificationEvents[notificationEvents.length - 1].seq
+    );
+    if (refetch) fetchNotifications();
+  }, [notificationEvents, consumeNotificationEvents, fetchNotifications]);
+
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    await fetchNotifications(nextCursor);
+    setLoadingMore(false);
+  };
+
   const handleMarkRead = async (id) => {
     try {
       await markNotificationRead(id);
@@ -53,6 +102,18 @@ const NotificationPage = () => {
     }
   };
 
+  const handleMarkAllRead = async () => {
+    try {
+      const res = await markAllNotificationsRead(userId);
+      setNotifications((prev) => prev.map((n) => ({ ...n, isRead: true })));
+      setUnreadCount(res.data.unreadCount);
+      toast.success(`${res.data.affected} notifications marked as read`);
+    } catch (err) {
+      console.error("Mark all as read failed:", err);
+      toast.error("Failed to mark notifications as read");
+    }
+  };
+
   const handleDelete = async (id) => {
     try {
       const deletedNotification = notifications.find(
@@ -75,7 +136,17 @@ const NotificationPage = () => {
 
   return (
     <div className="container mt-5">
-      <h3>Your Notifications</h3>
+      <div className="d-flex justify-content-between align-items-center">
+        <h3>Your Notifications</h3>
+        {notifications.some((n) => !n.isRead) && (
+          <button
+            className="btn btn-sm btn-outline-success"
+            onClick={handleMarkAllRead}
+          >
+            Mark all as read
+          </button>
+        )}
+      </div>
       {notifications.length === 0 ? (
         <p>No notifications available.</p>
       ) : (
@@ -113,6 +184,15 @@ const NotificationPage = () => {
           ))}
         </ul>
       )}
+      {nextCursor && (
+        <button
+          className="btn btn-outline-primary mt-3"
+          onClick={handleLoadMore}
+          disabled={loadingMore}
+        >
+          {loadingMore ? "Loading..." : "Load more"}
+        </button>
+      )}
     </div>
   );
 };